@@ -0,0 +1,122 @@
+package rest.felix.back.todo.dto.serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import rest.felix.back.todo.dto.TodoResponseDTO;
+import rest.felix.back.todo.dto.TodoWithStarredStatusResponseDTO;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+/**
+ * 보드 목록 직렬화 처리량 비교.
+ *
+ * <p>bean 쪽은 {@link MapperFeature#USE_ANNOTATIONS}를 끈 mapper로 기본 bean serializer를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoSerializationBenchmark {
+
+  @Param({"20", "500"})
+  private int size;
+
+  private List<TodoResponseDTO> todos;
+  private List<TodoWithStarredStatusResponseDTO> board;
+
+  private ObjectWriter streamingTodoWriter;
+  private ObjectWriter beanTodoWriter;
+  private ObjectWriter streamingBoardWriter;
+  private ObjectWriter beanBoardWriter;
+
+  @Setup
+  public void setUp() {
+    TodoStatus[] statuses = TodoStatus.values();
+
+    todos =
+        IntStream.range(0, size)
+            .mapToObj(
+                idx ->
+                    new TodoResponseDTO(
+                        idx,
+                        "todo title " + idx,
+                        "todo description " + idx,
+                        Integer.toString(idx, 36),
+                        statuses[idx % statuses.length],
+                        idx % 3 == 0,
+                        idx % 2 == 0 ? LocalDate.of(2025, 1, 1).plusDays(idx) : null,
+                        1L,
+                        1L,
+                        idx % 2 == 0 ? 2L : null,
+                        idx % 4))
+            .toList();
+
+    board =
+        IntStream.range(0, size)
+            .mapToObj(
+                idx ->
+                    new TodoWithStarredStatusResponseDTO(
+                        idx,
+                        "todo title " + idx,
+                        "todo description " + idx,
+                        Integer.toString(idx, 36),
+                        statuses[idx % statuses.length],
+                        idx % 3 == 0,
+                        idx % 2 == 0 ? LocalDate.of(2025, 1, 1).plusDays(idx) : null,
+                        idx % 5 == 0,
+                        idx % 7,
+                        1L,
+                        1L,
+                        idx % 2 == 0 ? 2L : null,
+                        idx % 4))
+            .toList();
+
+    JsonMapper streamingMapper =
+        JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    JsonMapper beanMapper =
+        JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(MapperFeature.USE_ANNOTATIONS)
+            .build();
+
+    TypeReference<List<TodoResponseDTO>> todoListType = new TypeReference<>() {};
+    TypeReference<List<TodoWithStarredStatusResponseDTO>> boardListType =
+        new TypeReference<>() {};
+
+    streamingTodoWriter = streamingMapper.writerFor(todoListType);
+    beanTodoWriter = beanMapper.writerFor(todoListType);
+    streamingBoardWriter = streamingMapper.writerFor(boardListType);
+    beanBoardWriter = beanMapper.writerFor(boardListType);
+  }
+
+  @Benchmark
+  public byte[] todos_streaming() throws Exception {
+    return streamingTodoWriter.writeValueAsBytes(todos);
+  }
+
+  @Benchmark
+  public byte[] todos_bean() throws Exception {
+    return beanTodoWriter.writeValueAsBytes(todos);
+  }
+
+  @Benchmark
+  public byte[] board_streaming() throws Exception {
+    return streamingBoardWriter.writeValueAsBytes(board);
+  }
+
+  @Benchmark
+  public byte[] board_bean() throws Exception {
+    return beanBoardWriter.writeValueAsBytes(board);
+  }
+}
@@ -0,0 +1,114 @@
+package rest.felix.back.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.BackApplication;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.todo.dto.CreateTodoDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.user.entity.User;
+
+/**
+ * 여러 todo를 한 transaction에서 TodoRepository.createTodos로 insert하는 비용 비교.
+ *
+ * <p>앱의 EntityManager 설정을 그대로 쓰고 hibernate.jdbc.batch_size만 바꾼다. 1이면 hibernate가 INSERT를 row마다
+ * 보내고, 50이면 50개씩 JDBC batch로 보내며 reWriteBatchedInserts가 batch를 multi-row INSERT 하나로 바꾼다. insert가
+ * batch로 나가는지는 TodoServiceTest가 Hibernate Statistics로 확인한다.
+ *
+ * <p>실행 중인 PostgreSQL이 필요하며, 접속 정보는 application.yaml과 같은 DATABASE_* 환경 변수를 사용한다. 앱 스키마에
+ * user, group, todo row를 만들고 지우므로 벤치마크용 database를 지정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertBatchBenchmark {
+
+  @Param({"50", "500"})
+  private int rows;
+
+  @Param({"1", "50"})
+  private int batchSize;
+
+  private ConfigurableApplicationContext context;
+  private EntityManager em;
+  private TodoRepository todoRepository;
+  private TransactionTemplate transaction;
+
+  private long userId;
+  private long groupId;
+  private List<CreateTodoDTO> createTodoDTOs;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // 명령행 인자는 application.yaml보다 우선한다. 토큰을 만들지 않으므로 jwt key는 아무 값이나 둔다.
+    context =
+        new SpringApplicationBuilder(BackApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--jwt.access_token.secret_key=" + "0".repeat(64));
+
+    em = context.getBean(EntityManager.class);
+    todoRepository = context.getBean(TodoRepository.class);
+    transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+    transaction.executeWithoutResult(
+        status -> {
+          User user = new User();
+          user.setUsername(UUID.randomUUID().toString().substring(0, 30));
+          user.setHashedPassword("hashedPassword");
+          user.setNickname("bench");
+          em.persist(user);
+
+          Group group = new Group();
+          group.setName("insert batch bench");
+          em.persist(group);
+
+          em.flush();
+          userId = user.getId();
+          groupId = group.getId();
+        });
+
+    createTodoDTOs =
+        IntStream.range(0, rows)
+            .mapToObj(
+                i ->
+                    new CreateTodoDTO(
+                        "todo title " + i, "description", null, userId, groupId, null))
+            .toList();
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteTodos() {
+    transaction.executeWithoutResult(
+        status ->
+            em.createQuery("DELETE FROM Todo t WHERE t.group.id = :groupId")
+                .setParameter("groupId", groupId)
+                .executeUpdate());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    transaction.executeWithoutResult(
+        status -> {
+          em.remove(em.find(Group.class, groupId));
+          em.remove(em.find(User.class, userId));
+        });
+    context.close();
+  }
+
+  @Benchmark
+  public List<TodoDTO> insert() {
+    return transaction.execute(status -> todoRepository.createTodos(groupId, createTodoDTOs));
+  }
+}
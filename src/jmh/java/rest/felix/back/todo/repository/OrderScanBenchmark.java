@@ -0,0 +1,133 @@
+package rest.felix.back.todo.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import rest.felix.back.todo.service.OrderGenerator;
+
+/**
+ * 큰 그룹의 보드 조회(ORDER BY "order") 비교. 기본 collation과 "C" collation 컬럼을 각각 만들어 정렬 비용을 잰다.
+ *
+ * <p>실행 중인 PostgreSQL이 필요하며, 접속 정보는 application.yaml과 같은 DATABASE_* 환경 변수를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderScanBenchmark {
+
+  private static final String TABLE = "bench_todo_order";
+  private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE", "ON_HOLD"};
+
+  @Param({"10000", "100000"})
+  private int size;
+
+  @Param({"default", "C"})
+  private String collation;
+
+  private Connection connection;
+  private PreparedStatement boardQuery;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            "jdbc:postgresql://%s:%s/%s"
+                .formatted(
+                    env("DATABASE_HOST", "127.0.0.1"),
+                    env("DATABASE_PORT", "5432"),
+                    env("DATABASE_DATABASE", "min_chan")),
+            env("DATABASE_USER", "postgres"),
+            env("DATABASE_PASSWORD", "postgres"));
+
+    String collate = collation.equals("C") ? " COLLATE \"C\"" : "";
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute(
+          """
+          CREATE UNLOGGED TABLE %s (
+            id bigint PRIMARY KEY,
+            group_id bigint NOT NULL,
+            todo_status varchar(255) NOT NULL,
+            "order" varchar(255)%s NOT NULL,
+            title varchar(255) NOT NULL,
+            UNIQUE (group_id, todo_status, "order")
+          )
+          """
+              .formatted(TABLE, collate));
+    }
+
+    // 재정렬된 key 사이사이에 generateBetween으로 삽입된 key가 섞인 보드를 만든다.
+    List<String> evenlySpaced = OrderGenerator.generateEvenlySpaced(size / 2);
+    List<String> orders = new ArrayList<>(evenlySpaced);
+    for (int i = 0; orders.size() < size; i++) {
+      String left = evenlySpaced.get(i);
+      String right = i + 1 < evenlySpaced.size() ? evenlySpaced.get(i + 1) : null;
+      orders.add(OrderGenerator.generate(left, right));
+    }
+    Collections.shuffle(orders, new Random(42));
+
+    connection.setAutoCommit(false);
+    try (PreparedStatement insert =
+        connection.prepareStatement(
+            "INSERT INTO %s (id, group_id, todo_status, \"order\", title) VALUES (?, 1, ?, ?, ?)"
+                .formatted(TABLE))) {
+      for (int i = 0; i < size; i++) {
+        insert.setLong(1, i + 1);
+        insert.setString(2, STATUSES[i % STATUSES.length]);
+        insert.setString(3, orders.get(i));
+        insert.setString(4, "todo title " + i);
+        insert.addBatch();
+
+        if (i % 1000 == 999) insert.executeBatch();
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+    connection.setAutoCommit(true);
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE " + TABLE);
+    }
+
+    boardQuery =
+        connection.prepareStatement(
+            "SELECT id, todo_status, \"order\", title FROM %s WHERE group_id = ? ORDER BY \"order\""
+                .formatted(TABLE));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public long boardScan() throws SQLException {
+    boardQuery.setLong(1, 1L);
+
+    long checksum = 0;
+    try (ResultSet resultSet = boardQuery.executeQuery()) {
+      while (resultSet.next()) {
+        checksum += resultSet.getLong(1);
+      }
+    }
+    return checksum;
+  }
+
+  private static String env(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value != null ? value : defaultValue;
+  }
+}
@@ -0,0 +1,158 @@
+package rest.felix.back.todo.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 많은 그룹이 쌓인 todo, star 테이블에서 그룹 하나의 보드 조회(findByGroupIdWithStars) 비교.
+ *
+ * <p>plain은 일반 테이블, hash는 partitioned/001_hash_partition_by_group.sql처럼 group_id 기준 16개 hash
+ * partition으로 나눈 테이블이다. 그룹마다 todo를 todosPerGroup개씩 generate_series로 채우고, 매 호출마다 임의의 그룹을
+ * 조회한다.
+ *
+ * <p>실행 중인 PostgreSQL이 필요하며, 접속 정보는 application.yaml과 같은 DATABASE_* 환경 변수를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartitionBoardBenchmark {
+
+  private static final String TODO_TABLE = "bench_todo_partition";
+  private static final String STAR_TABLE = "bench_todo_star_partition";
+  private static final int PARTITION_COUNT = 16;
+
+  @Param({"20000"})
+  private int groups;
+
+  @Param({"100"})
+  private int todosPerGroup;
+
+  @Param({"plain", "hash"})
+  private String layout;
+
+  private Connection connection;
+  private PreparedStatement boardQuery;
+  private final SplittableRandom random = new SplittableRandom(42);
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            "jdbc:postgresql://%s:%s/%s"
+                .formatted(
+                    env("DATABASE_HOST", "127.0.0.1"),
+                    env("DATABASE_PORT", "5432"),
+                    env("DATABASE_DATABASE", "min_chan")),
+            env("DATABASE_USER", "postgres"),
+            env("DATABASE_PASSWORD", "postgres"));
+
+    boolean hash = layout.equals("hash");
+    String partitionBy = hash ? " PARTITION BY HASH (group_id)" : "";
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + STAR_TABLE);
+      statement.execute("DROP TABLE IF EXISTS " + TODO_TABLE);
+      statement.execute(
+          """
+          CREATE TABLE %s (
+            id bigint NOT NULL,
+            group_id bigint NOT NULL,
+            todo_status varchar(255) NOT NULL,
+            "order" varchar(255) COLLATE "C" NOT NULL,
+            title varchar(255) NOT NULL,
+            PRIMARY KEY (id, group_id),
+            UNIQUE (group_id, todo_status, "order")
+          )%s
+          """
+              .formatted(TODO_TABLE, partitionBy));
+      statement.execute(
+          """
+          CREATE TABLE %s (
+            id bigint NOT NULL,
+            user_id bigint NOT NULL,
+            todo_id bigint NOT NULL,
+            group_id bigint NOT NULL,
+            PRIMARY KEY (id, group_id),
+            UNIQUE (user_id, todo_id, group_id)
+          )%s
+          """
+              .formatted(STAR_TABLE, partitionBy));
+
+      if (hash) {
+        for (String table : new String[] {TODO_TABLE, STAR_TABLE}) {
+          for (int i = 0; i < PARTITION_COUNT; i++) {
+            statement.execute(
+                "CREATE TABLE %s_p%d PARTITION OF %s FOR VALUES WITH (MODULUS %d, REMAINDER %d)"
+                    .formatted(table, i, table, PARTITION_COUNT, i));
+          }
+        }
+      }
+
+      // 그룹 g의 todo는 id가 g * todosPerGroup부터 이어지고, 네 개 중 하나는 user 1이 star를 달았다.
+      statement.execute(
+          """
+          INSERT INTO %s (id, group_id, todo_status, "order", title)
+          SELECT g * %d + n, g, (ARRAY['TO_DO', 'IN_PROGRESS', 'DONE', 'ON_HOLD'])[n %% 4 + 1],
+                 lpad(n::text, 6, '0'), 'todo title ' || n
+          FROM generate_series(1, %d) AS g, generate_series(0, %d) AS n
+          """
+              .formatted(TODO_TABLE, todosPerGroup, groups, todosPerGroup - 1));
+      statement.execute(
+          """
+          INSERT INTO %s (id, user_id, todo_id, group_id)
+          SELECT id, 1, id, group_id FROM %s WHERE id %% 4 = 0
+          """
+              .formatted(STAR_TABLE, TODO_TABLE));
+      statement.execute("ANALYZE " + TODO_TABLE);
+      statement.execute("ANALYZE " + STAR_TABLE);
+    }
+
+    boardQuery =
+        connection.prepareStatement(
+            """
+            SELECT t.id, t.todo_status, t."order", t.title, s.id IS NOT NULL
+            FROM %s t
+            LEFT JOIN %s s
+              ON s.group_id = ? AND s.todo_id = t.id AND s.user_id = 1
+            WHERE t.group_id = ?
+            ORDER BY t."order"
+            """
+                .formatted(TODO_TABLE, STAR_TABLE));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + STAR_TABLE);
+      statement.execute("DROP TABLE IF EXISTS " + TODO_TABLE);
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public long board() throws SQLException {
+    long groupId = random.nextInt(groups) + 1;
+    boardQuery.setLong(1, groupId);
+    boardQuery.setLong(2, groupId);
+
+    long checksum = 0;
+    try (ResultSet resultSet = boardQuery.executeQuery()) {
+      while (resultSet.next()) {
+        checksum += resultSet.getLong(1);
+      }
+    }
+    return checksum;
+  }
+
+  private static String env(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value != null ? value : defaultValue;
+  }
+}
@@ -0,0 +1,79 @@
+package rest.felix.back.todo.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * order key 생성 처리량.
+ *
+ * <p>*_contended는 여러 스레드에서 동시에 호출해 공유 상태(난수 생성기 등)로 인한 경합을 확인한다. legacy key는 규칙을 따르지 않아 임의
+ * 문자를 덧붙이는 경로를 탄다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderGeneratorBenchmark {
+
+  @Param({"short", "long"})
+  private String keyLength;
+
+  private String first;
+  private String last;
+  private String left;
+  private String right;
+  private String legacy;
+
+  @Setup
+  public void setUp() {
+    if (keyLength.equals("short")) {
+      first = "h5";
+      last = "k2y";
+      left = "j5";
+      right = "j7";
+      legacy = "~todo";
+    } else {
+      first = "1" + "5".repeat(17);
+      last = "z" + "y".repeat(17);
+      left = "j5" + "h".repeat(30);
+      right = "j5" + "h".repeat(29) + "i";
+      legacy = "~" + "todo".repeat(30);
+    }
+  }
+
+  @Benchmark
+  public String generate_withoutBounds() {
+    return OrderGenerator.generate(null, null);
+  }
+
+  @Benchmark
+  public String generate_after() {
+    return OrderGenerator.generate(last, null);
+  }
+
+  @Benchmark
+  public String generate_before() {
+    return OrderGenerator.generate(null, first);
+  }
+
+  @Benchmark
+  public String generate_between() {
+    return OrderGenerator.generate(left, right);
+  }
+
+  @Benchmark
+  public String generate_afterLegacy() {
+    return OrderGenerator.generate(legacy, null);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String generate_between_contended() {
+    return OrderGenerator.generate(left, right);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String generate_afterLegacy_contended() {
+    return OrderGenerator.generate(legacy, null);
+  }
+}
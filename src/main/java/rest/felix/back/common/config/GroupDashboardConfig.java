@@ -0,0 +1,24 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "group.dashboard")
+public class GroupDashboardConfig {
+
+  private final long queryTimeoutMs;
+  private final int memberPreviewSize;
+  // 대시보드 요청 하나가 동시에 쓰는 connection 수. 요청마다 따로 세므로 다른 사용자의 대시보드를 막지 않는다.
+  private final int queryParallelism;
+
+  public GroupDashboardConfig(
+      @DefaultValue("3000") long queryTimeoutMs,
+      @DefaultValue("5") int memberPreviewSize,
+      @DefaultValue("2") int queryParallelism) {
+    this.queryTimeoutMs = queryTimeoutMs;
+    this.memberPreviewSize = memberPreviewSize;
+    this.queryParallelism = queryParallelism;
+  }
+}
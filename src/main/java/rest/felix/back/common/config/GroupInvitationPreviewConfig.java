@@ -0,0 +1,19 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "group.invitation-preview")
+public class GroupInvitationPreviewConfig {
+
+  private final long cacheTtlMs;
+  private final int cacheMaxEntries;
+
+  public GroupInvitationPreviewConfig(
+      @DefaultValue("60000") long cacheTtlMs, @DefaultValue("10000") int cacheMaxEntries) {
+    this.cacheTtlMs = cacheTtlMs;
+    this.cacheMaxEntries = cacheMaxEntries;
+  }
+}
@@ -0,0 +1,27 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "group.invitation-purge")
+public class GroupInvitationPurgeConfig {
+
+  private final boolean enabled;
+  private final int chunkSize;
+  private final int batchLimit;
+  // 만료된 뒤 이 기간 동안은 지우지 않아, 초대 조회가 없는 초대 대신 만료된 초대로 응답하도록 한다.
+  private final int graceDays;
+
+  public GroupInvitationPurgeConfig(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("1000") int chunkSize,
+      @DefaultValue("20") int batchLimit,
+      @DefaultValue("7") int graceDays) {
+    this.enabled = enabled;
+    this.chunkSize = chunkSize;
+    this.batchLimit = batchLimit;
+    this.graceDays = graceDays;
+  }
+}
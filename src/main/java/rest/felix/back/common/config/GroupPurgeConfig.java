@@ -0,0 +1,23 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "group.purge")
+public class GroupPurgeConfig {
+
+  private final boolean enabled;
+  private final int chunkSize;
+  private final int batchLimit;
+
+  public GroupPurgeConfig(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("1000") int chunkSize,
+      @DefaultValue("10") int batchLimit) {
+    this.enabled = enabled;
+    this.chunkSize = chunkSize;
+    this.batchLimit = batchLimit;
+  }
+}
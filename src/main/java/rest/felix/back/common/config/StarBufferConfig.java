@@ -0,0 +1,19 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "todo.star-buffer")
+public class StarBufferConfig {
+
+  private final boolean enabled;
+  private final int chunkSize;
+
+  public StarBufferConfig(
+      @DefaultValue("false") boolean enabled, @DefaultValue("500") int chunkSize) {
+    this.enabled = enabled;
+    this.chunkSize = chunkSize;
+  }
+}
@@ -0,0 +1,27 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "todo.archive")
+public class TodoArchiveConfig {
+
+  // 켜면 오래된 DONE todo가 보드에서 빠지므로, 배포마다 todo.archive.enabled로 직접 켠다.
+  private final boolean enabled;
+  private final int ageDays;
+  private final int chunkSize;
+  private final int batchLimit;
+
+  public TodoArchiveConfig(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("30") int ageDays,
+      @DefaultValue("500") int chunkSize,
+      @DefaultValue("20") int batchLimit) {
+    this.enabled = enabled;
+    this.ageDays = ageDays;
+    this.chunkSize = chunkSize;
+    this.batchLimit = batchLimit;
+  }
+}
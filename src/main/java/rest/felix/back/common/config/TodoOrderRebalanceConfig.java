@@ -0,0 +1,26 @@
+package rest.felix.back.common.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "todo.order.rebalance")
+public class TodoOrderRebalanceConfig {
+
+  private final boolean enabled;
+  private final int maxLength;
+  private final double averageLength;
+  private final int batchLimit;
+
+  public TodoOrderRebalanceConfig(
+      @DefaultValue("false") boolean enabled,
+      @DefaultValue("12") int maxLength,
+      @DefaultValue("6") double averageLength,
+      @DefaultValue("20") int batchLimit) {
+    this.enabled = enabled;
+    this.maxLength = maxLength;
+    this.averageLength = averageLength;
+    this.batchLimit = batchLimit;
+  }
+}
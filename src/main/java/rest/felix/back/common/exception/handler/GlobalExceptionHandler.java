@@ -2,6 +2,7 @@ package rest.felix.back.common.exception.handler;
 
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,6 +14,7 @@ import rest.felix.back.common.exception.throwable.conflict.ConflictException;
 import rest.felix.back.common.exception.throwable.forbidden.ForbiddenException;
 import rest.felix.back.common.exception.throwable.gone.GoneException;
 import rest.felix.back.common.exception.throwable.notFound.NotFoundException;
+import rest.felix.back.common.exception.throwable.preconditionFailed.PreconditionFailedException;
 import rest.felix.back.common.exception.throwable.tooManyRequests.TooManyRequestsException;
 import rest.felix.back.common.exception.throwable.unauthorized.UnauthorizedException;
 
@@ -63,6 +65,21 @@ public class GlobalExceptionHandler {
         .body(new ErrorResponseDTO(exception.getMessage()));
   }
 
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ErrorResponseDTO> handlePreconditionFailedException(
+      PreconditionFailedException exception) {
+    return ResponseEntity.status(exception.getStatusCode())
+        .body(new ErrorResponseDTO(exception.getMessage()));
+  }
+
+  // 요청이 보내지 않은 version 조건에서 난 충돌이다. If-Match가 어긋난 경우는 PreconditionFailedException으로 따로 던진다.
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponseDTO> handleOptimisticLockingFailureException(
+      OptimisticLockingFailureException exception) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(new ErrorResponseDTO("The resource has been modified by another request."));
+  }
+
   @ExceptionHandler(DataIntegrityViolationException.class)
   public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolationException(
       DataIntegrityViolationException exception) {
@@ -0,0 +1,7 @@
+package rest.felix.back.common.exception.throwable.badrequest;
+
+public class InvalidCursorException extends BadRequestException {
+  public InvalidCursorException() {
+    super("Invalid cursor.");
+  }
+}
@@ -0,0 +1,18 @@
+package rest.felix.back.common.exception.throwable.preconditionFailed;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import rest.felix.back.common.exception.throwable.RequestExceptionInterface;
+
+@Getter
+public class PreconditionFailedException extends RuntimeException
+    implements RequestExceptionInterface {
+  private final int statusCode = HttpStatus.PRECONDITION_FAILED.value();
+  private String message = "Precondition Failed.";
+
+  public PreconditionFailedException() {}
+
+  public PreconditionFailedException(String message) {
+    this.message = message;
+  }
+}
@@ -0,0 +1,35 @@
+package rest.felix.back.common.util;
+
+import rest.felix.back.common.exception.throwable.preconditionFailed.PreconditionFailedException;
+
+/** 엔티티 version과 ETag / If-Match 헤더 사이의 변환 */
+public final class EntityTag {
+
+  private EntityTag() {}
+
+  public static String of(long version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * If-Match 헤더에서 기대하는 version을 꺼낸다. 헤더가 없거나 "*"이면 null을 반환한다.
+   *
+   * @throws PreconditionFailedException version으로 해석할 수 없는 값일 때
+   */
+  public static Long parseVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank()) return null;
+
+    String tag = ifMatch.strip();
+    if (tag.equals("*")) return null;
+    if (tag.startsWith("W/")) tag = tag.substring(2);
+    if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+      tag = tag.substring(1, tag.length() - 1);
+    }
+
+    try {
+      return Long.parseLong(tag);
+    } catch (NumberFormatException e) {
+      throw new PreconditionFailedException();
+    }
+  }
+}
@@ -3,7 +3,6 @@ package rest.felix.back.group.controller;
 import jakarta.validation.Valid;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +11,6 @@ import org.springframework.web.bind.annotation.*;
 import rest.felix.back.common.config.GroupConfig;
 import rest.felix.back.group.dto.*;
 import rest.felix.back.group.entity.enumerated.GroupRole;
-import rest.felix.back.group.exception.AlreadyGroupMemberException;
 import rest.felix.back.group.exception.CannotRemoveSelfException;
 import rest.felix.back.group.exception.ForbiddenRoleChangeException;
 import rest.felix.back.group.exception.MembershipNotFoundException;
@@ -51,17 +49,18 @@ public class GroupController {
   }
 
   @GetMapping("/my")
-  public ResponseEntity<List<DetailedGroupResponseDTO>> getMyDetailedGroups(
-      @AuthenticationPrincipal AuthUserDTO authUser) {
+  public ResponseEntity<DetailedGroupPageResponseDTO> getMyDetailedGroups(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
 
     long userId = authUser.getUserId();
 
-    List<DetailedGroupResponseDTO> detailedGroupResponseDTOs =
-        groupService.findDetailedGroupsByUserId(userId).stream()
-            .map(DetailedGroupResponseDTO::of)
-            .toList();
+    DetailedGroupPageDTO detailedGroupPageDTO =
+        groupService.findDetailedGroupsByUserId(userId, cursor, size);
 
-    return ResponseEntity.status(HttpStatus.OK).body(detailedGroupResponseDTOs);
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(DetailedGroupPageResponseDTO.of(detailedGroupPageDTO));
   }
 
   @GetMapping("/{groupId}")
@@ -75,6 +74,23 @@ public class GroupController {
     return ResponseEntity.status(HttpStatus.OK).body(FullGroupDetailsResponseDTO.of(groupDTO));
   }
 
+  @GetMapping("/{groupId}/member")
+  public ResponseEntity<MemberPageResponseDTO> getMembers(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestParam(name = "role", required = false) GroupRole role,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+
+    long userId = authUser.getUserId();
+
+    groupService.assertGroupAuthority(userId, groupId, GroupRole.VIEWER);
+
+    MemberPageDTO memberPageDTO = groupService.findMembers(groupId, role, cursor, size);
+
+    return ResponseEntity.status(HttpStatus.OK).body(MemberPageResponseDTO.of(memberPageDTO));
+  }
+
   @PutMapping("/{groupId}")
   public ResponseEntity<GroupResponseDTO> updateGroup(
       @AuthenticationPrincipal AuthUserDTO authUser,
@@ -171,12 +187,10 @@ public class GroupController {
     long userId = authUser.getUserId();
     ZonedDateTime now = ZonedDateTime.now();
 
-    GroupInvitationDTO groupInvitation = groupInvitationService.findInvitation(token);
-
-    boolean isMember = groupService.findUserRole(userId, groupInvitation.groupId()).isPresent();
+    GroupInvitationInfoDTO groupInvitationInfo = groupService.findGroupInvitationPreview(token);
 
-    GroupInvitationInfoDTO groupInvitationInfo =
-        groupService.findGroupInvitationInfo(groupInvitation);
+    boolean isMember =
+        groupService.findUserRole(userId, groupInvitationInfo.groupId()).isPresent();
 
     boolean isExpired = groupInvitationInfo.expiresAt().isBefore(now);
 
@@ -189,14 +203,8 @@ public class GroupController {
       @AuthenticationPrincipal AuthUserDTO authUser, @PathVariable(name = "token") String token) {
 
     long userId = authUser.getUserId();
-    ZonedDateTime now = ZonedDateTime.now();
-
-    GroupInvitationDTO groupInvitation = groupInvitationService.findValidInvitation(token, now);
-
-    if (groupService.findUserRole(userId, groupInvitation.groupId()).isPresent())
-      throw new AlreadyGroupMemberException();
 
-    groupService.registerUserToGroup(userId, groupInvitation.groupId(), GroupRole.MEMBER);
+    groupInvitationService.acceptInvitation(userId, token, ZonedDateTime.now());
 
     return ResponseEntity.status(HttpStatus.CREATED).build();
   }
@@ -1,5 +1,6 @@
 package rest.felix.back.group.dto;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 
@@ -11,4 +12,5 @@ public record DetailedGroupDTO(
     long completedTodoCount,
     List<MemberDTO> members,
     long memberCount,
-    GroupRole myRole) {}
+    GroupRole myRole,
+    ZonedDateTime lastActivityAt) {}
@@ -0,0 +1,13 @@
+package rest.felix.back.group.dto;
+
+import java.util.List;
+
+public record DetailedGroupPageResponseDTO(
+    List<DetailedGroupResponseDTO> groups, String nextCursor) {
+
+  public static DetailedGroupPageResponseDTO of(DetailedGroupPageDTO detailedGroupPageDTO) {
+    return new DetailedGroupPageResponseDTO(
+        detailedGroupPageDTO.groups().stream().map(DetailedGroupResponseDTO::of).toList(),
+        detailedGroupPageDTO.nextCursor());
+  }
+}
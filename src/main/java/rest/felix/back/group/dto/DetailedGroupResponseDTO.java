@@ -1,5 +1,6 @@
 package rest.felix.back.group.dto;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 
@@ -11,7 +12,8 @@ public record DetailedGroupResponseDTO(
     long completedTodoCount,
     List<MemberResponseDTO> members,
     long memberCount,
-    GroupRole myRole) {
+    GroupRole myRole,
+    ZonedDateTime lastActivityAt) {
 
   public static DetailedGroupResponseDTO of(DetailedGroupDTO dto) {
     return new DetailedGroupResponseDTO(
@@ -22,6 +24,7 @@ public record DetailedGroupResponseDTO(
         dto.completedTodoCount(),
         dto.members().stream().map(MemberResponseDTO::of).toList(),
         dto.memberCount(),
-        dto.myRole());
+        dto.myRole(),
+        dto.lastActivityAt());
   }
 }
@@ -0,0 +1,34 @@
+package rest.felix.back.group.dto;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import rest.felix.back.common.exception.throwable.badrequest.InvalidCursorException;
+
+/** 내 그룹 목록의 keyset cursor. (lastActivityAt, groupId)를 "ISO instant_groupId" 문자열로 주고받는다. */
+public record GroupCursorDTO(ZonedDateTime lastActivityAt, long groupId) {
+
+  private static final char SEPARATOR = '_';
+
+  public static GroupCursorDTO of(GroupDTO dto) {
+    return new GroupCursorDTO(dto.lastActivityAt(), dto.id());
+  }
+
+  public static GroupCursorDTO parse(String cursor) {
+    int separator = cursor.lastIndexOf(SEPARATOR);
+    if (separator < 0) throw new InvalidCursorException();
+
+    try {
+      return new GroupCursorDTO(
+          Instant.parse(cursor.substring(0, separator)).atZone(ZoneOffset.UTC),
+          Long.parseLong(cursor.substring(separator + 1)));
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  public String encode() {
+    return lastActivityAt.toInstant().toString() + SEPARATOR + groupId;
+  }
+}
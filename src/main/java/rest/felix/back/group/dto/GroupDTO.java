@@ -1,9 +1,11 @@
 package rest.felix.back.group.dto;
 
+import java.time.ZonedDateTime;
 import rest.felix.back.group.entity.Group;
 
-public record GroupDTO(long id, String name, String description) {
+public record GroupDTO(long id, String name, String description, ZonedDateTime lastActivityAt) {
   public static GroupDTO of(Group group) {
-    return new GroupDTO(group.getId(), group.getName(), group.getDescription());
+    return new GroupDTO(
+        group.getId(), group.getName(), group.getDescription(), group.getLastActivityAt());
   }
 }
@@ -0,0 +1,17 @@
+package rest.felix.back.group.dto;
+
+import java.time.ZonedDateTime;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+
+/** 초대 미리보기를 한 번에 읽은 결과. 발행자가 그룹을 떠났으면 issuer 필드는 null이다. */
+public record GroupInvitationPreviewDTO(
+    long groupId,
+    String name,
+    String description,
+    long todoCount,
+    long completedTodoCount,
+    long memberCount,
+    Long issuerId,
+    String issuerNickname,
+    GroupRole issuerRole,
+    ZonedDateTime expiresAt) {}
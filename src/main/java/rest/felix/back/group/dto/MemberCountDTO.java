@@ -0,0 +1,3 @@
+package rest.felix.back.group.dto;
+
+public record MemberCountDTO(long groupId, long memberCount) {}
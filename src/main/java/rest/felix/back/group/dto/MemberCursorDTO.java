@@ -0,0 +1,31 @@
+package rest.felix.back.group.dto;
+
+import rest.felix.back.common.exception.throwable.badrequest.InvalidCursorException;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+
+/** 멤버 목록의 keyset cursor. (role, userId)를 "ROLE_userId" 문자열로 주고받는다. */
+public record MemberCursorDTO(GroupRole role, long userId) {
+
+  private static final char SEPARATOR = '_';
+
+  public static MemberCursorDTO of(MemberDTO dto) {
+    return new MemberCursorDTO(dto.role(), dto.id());
+  }
+
+  public static MemberCursorDTO parse(String cursor) {
+    int separator = cursor.lastIndexOf(SEPARATOR);
+    if (separator < 0) throw new InvalidCursorException();
+
+    try {
+      return new MemberCursorDTO(
+          GroupRole.valueOf(cursor.substring(0, separator)),
+          Long.parseLong(cursor.substring(separator + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  public String encode() {
+    return role.name() + SEPARATOR + userId;
+  }
+}
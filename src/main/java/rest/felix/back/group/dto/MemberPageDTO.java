@@ -0,0 +1,6 @@
+package rest.felix.back.group.dto;
+
+import java.util.List;
+
+/** nextCursor는 다음 페이지를 요청할 때 넘길 마지막 멤버의 cursor. 더 없으면 null이다. */
+public record MemberPageDTO(List<MemberDTO> members, String nextCursor) {}
@@ -0,0 +1,12 @@
+package rest.felix.back.group.dto;
+
+import java.util.List;
+
+public record MemberPageResponseDTO(List<MemberResponseDTO> members, String nextCursor) {
+
+  public static MemberPageResponseDTO of(MemberPageDTO memberPageDTO) {
+    return new MemberPageResponseDTO(
+        memberPageDTO.members().stream().map(MemberResponseDTO::of).toList(),
+        memberPageDTO.nextCursor());
+  }
+}
@@ -1,7 +1,10 @@
 package rest.felix.back.group.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import rest.felix.back.group.dto.serializer.MemberResponseDTOSerializer;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 
+@JsonSerialize(using = MemberResponseDTOSerializer.class)
 public record MemberResponseDTO(long id, String nickname, long groupId, GroupRole role) {
 
   public static MemberResponseDTO of(MemberDTO dto) {
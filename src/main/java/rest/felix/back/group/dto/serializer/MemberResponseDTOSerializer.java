@@ -0,0 +1,38 @@
+package rest.felix.back.group.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import rest.felix.back.group.dto.MemberResponseDTO;
+
+/** 그룹 목록/상세 응답마다 반복되는 멤버 목록을 필드 단위로 기록한다. */
+public class MemberResponseDTOSerializer extends StdSerializer<MemberResponseDTO> {
+
+  private static final SerializedString ID = new SerializedString("id");
+  private static final SerializedString NICKNAME = new SerializedString("nickname");
+  private static final SerializedString GROUP_ID = new SerializedString("groupId");
+  private static final SerializedString ROLE = new SerializedString("role");
+
+  public MemberResponseDTOSerializer() {
+    super(MemberResponseDTO.class);
+  }
+
+  @Override
+  public void serialize(MemberResponseDTO dto, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(dto);
+
+    gen.writeFieldName(ID);
+    gen.writeNumber(dto.id());
+    gen.writeFieldName(NICKNAME);
+    gen.writeString(dto.nickname());
+    gen.writeFieldName(GROUP_ID);
+    gen.writeNumber(dto.groupId());
+    gen.writeFieldName(ROLE);
+    gen.writeString(dto.role() != null ? dto.role().name() : null);
+
+    gen.writeEndObject();
+  }
+}
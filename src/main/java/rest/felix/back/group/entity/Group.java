@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import rest.felix.back.todo.entity.Todo;
@@ -18,7 +19,8 @@ import rest.felix.back.todo.entity.Todo;
 public class Group {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_seq")
+  @SequenceGenerator(name = "group_seq", sequenceName = "group_seq", allocationSize = 50)
   @Setter(AccessLevel.NONE)
   private Long id;
 
@@ -34,6 +36,25 @@ public class Group {
   @OneToMany(mappedBy = "group", fetch = FetchType.LAZY)
   private List<Todo> todos = List.of();
 
+  // todo에서 archived_todo로 옮긴 DONE todo 수. todo 개수를 셀 때 archived_todo를 읽지 않도록 따로 센다.
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long archivedTodoCount = 0;
+
+  // 삭제 요청 시각. 값이 있으면 모든 조회에서 제외되고 GroupPurger가 하위 row를 나누어 지운다.
+  @Column(nullable = true)
+  private ZonedDateTime deletedAt;
+
+  // 삭제 중 지금까지 지운 하위 row 수.
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long purgedRowCount = 0;
+
+  // 마지막으로 todo가 바뀐 시각. /group/my를 최근 활동 순으로 정렬하는 데 쓰고, GroupActivityRecorder가 그룹마다 1초에 한
+  // 번까지만 갱신한다. 기존 row는 007_group_last_activity_at.sql이 채운다.
+  @Column(nullable = true)
+  private ZonedDateTime lastActivityAt = ZonedDateTime.now();
+
   @CreationTimestamp
   @Column(nullable = false, updatable = false)
   private ZonedDateTime createdAt;
@@ -14,9 +14,19 @@ import rest.felix.back.user.entity.User;
 @Getter
 @Setter
 @Entity
+// 초대 생성 시 유효한 초대 수를 세는 조회와 만료된 초대를 지우는 조회에 쓴다.
+@Table(
+    indexes = {
+      @Index(
+          name = "group_invitation_issuer_id_group_id_expires_at_idx",
+          columnList = "issuer_id, group_id, expires_at"),
+      @Index(name = "group_invitation_expires_at_idx", columnList = "expires_at")
+    })
 public class GroupInvitation {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_invitation_seq")
+  @SequenceGenerator(
+      name = "group_invitation_seq", sequenceName = "group_invitation_seq", allocationSize = 50)
   @Setter(AccessLevel.NONE)
   private Long id;
 
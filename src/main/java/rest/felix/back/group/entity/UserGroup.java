@@ -15,11 +15,17 @@ import rest.felix.back.user.entity.User;
 @Setter
 @ToString
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "groupId"}))
+@Table(
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "group_id"}),
+    indexes =
+        @Index(
+            name = "user_group_group_id_role_rank_user_id_idx",
+            columnList = "group_id, role_rank, user_id"))
 public class UserGroup {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_group_seq")
+  @SequenceGenerator(name = "user_group_seq", sequenceName = "user_group_seq", allocationSize = 50)
   @Setter(AccessLevel.NONE)
   private Long id;
 
@@ -35,9 +41,20 @@ public class UserGroup {
   @Enumerated(EnumType.STRING)
   private GroupRole groupRole;
 
+  // group_role은 문자열이라 그대로 정렬하면 알파벳 순이 되므로, 역할 순으로 정렬할 수 있게 GroupRole.rank()를 함께 저장한다.
+  // setGroupRole이 함께 바꾸고, 기존 row는 009_user_group_role_rank.sql이 채운다.
+  @Column(nullable = true)
+  @Setter(AccessLevel.NONE)
+  private Integer roleRank;
+
   @CreationTimestamp
   @Column(nullable = false, updatable = false)
   private ZonedDateTime createdAt;
 
   @UpdateTimestamp private ZonedDateTime updatedAt;
+
+  public void setGroupRole(GroupRole groupRole) {
+    this.groupRole = groupRole;
+    this.roleRank = groupRole.rank();
+  }
 }
@@ -12,6 +12,11 @@ public enum GroupRole {
     this.authorityLevel = level;
   }
 
+  /** 역할이 높을수록 작은 정렬 순위. 선언 순서대로 OWNER가 0이다. */
+  public int rank() {
+    return ordinal();
+  }
+
   public boolean gt(GroupRole other) {
     return this.authorityLevel > other.authorityLevel;
   }
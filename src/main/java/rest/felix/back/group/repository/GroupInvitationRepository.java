@@ -3,12 +3,14 @@ package rest.felix.back.group.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import rest.felix.back.group.dto.CreateGroupInvitationDTO;
 import rest.felix.back.group.dto.GroupInvitationDTO;
+import rest.felix.back.group.dto.GroupInvitationPreviewDTO;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.group.entity.GroupInvitation;
 import rest.felix.back.user.entity.User;
@@ -63,6 +65,7 @@ public class GroupInvitationRepository {
                                                     SELECT gi
                                                     FROM GroupInvitation gi
                                                     WHERE gi.token = :token
+                                                      AND gi.group.deletedAt IS NULL
                                                     """,
                       GroupInvitation.class)
                   .setParameter("token", token)
@@ -73,6 +76,110 @@ public class GroupInvitationRepository {
     }
   }
 
+  /**
+   * 초대, 그룹, 발행자, todo 수, 멤버 수를 한 번의 조회로 읽는다. 삭제된 그룹의 초대는 없는 것으로 본다.
+   *
+   * <p>개수는 group_id index를 타는 subquery로 세므로 그룹의 todo와 멤버를 row로 읽어 오지 않는다.
+   */
+  @Transactional(readOnly = true)
+  public Optional<GroupInvitationPreviewDTO> findPreviewByToken(String token) {
+    return em
+        .createQuery(
+            """
+                                SELECT new rest.felix.back.group.dto.GroupInvitationPreviewDTO(
+                                    g.id,
+                                    g.name,
+                                    g.description,
+                                    (
+                                      SELECT COUNT(t)
+                                      FROM Todo t
+                                      WHERE t.group.id = g.id
+                                    ) + g.archivedTodoCount,
+                                    (
+                                      SELECT COUNT(t)
+                                      FROM Todo t
+                                      WHERE t.group.id = g.id
+                                        AND t.todoStatus = TodoStatus.DONE
+                                    ) + g.archivedTodoCount,
+                                    (
+                                      SELECT COUNT(mug)
+                                      FROM UserGroup mug
+                                      WHERE mug.group.id = g.id
+                                    ),
+                                    u.id,
+                                    u.nickname,
+                                    ug.groupRole,
+                                    gi.expiresAt
+                                )
+                                FROM GroupInvitation gi
+                                JOIN gi.group g
+                                LEFT JOIN UserGroup ug
+                                  ON ug.group.id = g.id
+                                  AND ug.user.id = gi.issuer.id
+                                LEFT JOIN ug.user u
+                                WHERE gi.token = :token
+                                  AND g.deletedAt IS NULL
+                                """,
+            GroupInvitationPreviewDTO.class)
+        .setParameter("token", token)
+        .getResultList()
+        .stream()
+        .findFirst();
+  }
+
+  /** 그룹의 초대를 최대 limit개 지우고 지운 수를 반환한다. */
+  @Transactional
+  public int deleteByGroupId(long groupId, int limit) {
+    List<Long> ids =
+        em.createQuery(
+                """
+                                    SELECT gi.id
+                                    FROM GroupInvitation gi
+                                    WHERE gi.group.id = :groupId
+                                    """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(limit)
+            .getResultList();
+
+    if (ids.isEmpty()) return 0;
+
+    return em.createQuery(
+            """
+                                DELETE FROM GroupInvitation gi
+                                WHERE gi.id IN :ids
+                                """)
+        .setParameter("ids", ids)
+        .executeUpdate();
+  }
+
+  /** expiredBefore 전에 만료된 초대를 먼저 만료된 순서로 최대 limit개 지우고 지운 수를 반환한다. */
+  @Transactional
+  public int deleteExpired(ZonedDateTime expiredBefore, int limit) {
+    List<Long> ids =
+        em.createQuery(
+                """
+                                    SELECT gi.id
+                                    FROM GroupInvitation gi
+                                    WHERE gi.expiresAt <= :expiredBefore
+                                    ORDER BY gi.expiresAt ASC
+                                    """,
+                Long.class)
+            .setParameter("expiredBefore", expiredBefore)
+            .setMaxResults(limit)
+            .getResultList();
+
+    if (ids.isEmpty()) return 0;
+
+    return em.createQuery(
+            """
+                                DELETE FROM GroupInvitation gi
+                                WHERE gi.id IN :ids
+                                """)
+        .setParameter("ids", ids)
+        .executeUpdate();
+  }
+
   @Transactional
   public void delete(GroupInvitation groupInvitation) {
     em.remove(groupInvitation);
@@ -1,13 +1,18 @@
 package rest.felix.back.group.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.TypedQuery;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import rest.felix.back.group.dto.CreateGroupDTO;
+import rest.felix.back.group.dto.GroupCursorDTO;
 import rest.felix.back.group.dto.GroupDTO;
 import rest.felix.back.group.dto.UpdateGroupDTO;
 import rest.felix.back.group.entity.Group;
@@ -29,7 +34,7 @@ public class GroupRepository {
 
     em.persist(group);
 
-    return new GroupDTO(group.getId(), group.getName(), group.getDescription());
+    return GroupDTO.of(group);
   }
 
   @Transactional(readOnly = true)
@@ -40,6 +45,7 @@ public class GroupRepository {
                         FROM UserGroup ug
                         JOIN ug.group g
                         WHERE ug.user.id = :userId
+                          AND g.deletedAt IS NULL
                         ORDER BY g.id ASC
                         """;
 
@@ -48,10 +54,47 @@ public class GroupRepository {
         .setParameter("userId", userId)
         .getResultList()
         .stream()
-        .map(group -> new GroupDTO(group.getId(), group.getName(), group.getDescription()))
+        .map(GroupDTO::of)
         .toList();
   }
 
+  /**
+   * 유저가 속한 그룹을 최근 활동 순으로 cursor 다음부터 최대 limit개 반환한다.
+   *
+   * <p>정렬은 유저의 멤버십 row만 대상으로 하므로, 그룹별 집계는 반환된 페이지에 대해서만 하면 된다.
+   */
+  @Transactional(readOnly = true)
+  public List<GroupDTO> findGroupsByUserId(long userId, GroupCursorDTO cursor, int limit) {
+    String query =
+        """
+                        SELECT g
+                        FROM UserGroup ug
+                        JOIN ug.group g
+                        WHERE ug.user.id = :userId
+                          AND g.deletedAt IS NULL
+                        """
+            + (cursor != null
+                ? """
+                          AND (
+                            g.lastActivityAt < :cursorLastActivityAt
+                            OR (g.lastActivityAt = :cursorLastActivityAt AND g.id < :cursorGroupId)
+                          )
+                        """
+                : "")
+            + "ORDER BY g.lastActivityAt DESC, g.id DESC";
+
+    TypedQuery<Group> select =
+        em.createQuery(query, Group.class).setParameter("userId", userId).setMaxResults(limit);
+
+    if (cursor != null) {
+      select
+          .setParameter("cursorLastActivityAt", cursor.lastActivityAt())
+          .setParameter("cursorGroupId", cursor.groupId());
+    }
+
+    return select.getResultList().stream().map(GroupDTO::of).toList();
+  }
+
   @Transactional(readOnly = true)
   public Optional<GroupDTO> findById(long groupId) {
     try {
@@ -60,16 +103,91 @@ public class GroupRepository {
                             SELECT g
                             FROM Group g
                             WHERE g.id = :groupId
+                              AND g.deletedAt IS NULL
                             """;
 
       return Optional.of(
               em.createQuery(query, Group.class).setParameter("groupId", groupId).getSingleResult())
-          .map(group -> new GroupDTO(group.getId(), group.getName(), group.getDescription()));
+          .map(GroupDTO::of);
     } catch (NoResultException e) {
       return Optional.empty();
     }
   }
 
+  /**
+   * 마지막 활동 시각이 threshold보다 이전일 때만 now로 갱신한다. 갱신했으면 true를 반환한다.
+   *
+   * <p>GroupActivityRecorder가 afterCommit에서 부르므로, 끝난 transaction에 참여하지 않도록 새 transaction을 연다.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean touchLastActivityAt(long groupId, ZonedDateTime now, ZonedDateTime threshold) {
+    int updated =
+        em.createQuery(
+                """
+                                    UPDATE Group g
+                                    SET g.lastActivityAt = :now
+                                    WHERE g.id = :groupId
+                                      AND g.lastActivityAt < :threshold
+                                    """)
+            .setParameter("now", now)
+            .setParameter("groupId", groupId)
+            .setParameter("threshold", threshold)
+            .executeUpdate();
+
+    return updated > 0;
+  }
+
+  /** 그룹을 삭제 상태로 바꾼다. 이미 삭제 상태이면 아무것도 하지 않는다. */
+  @Transactional
+  public void markDeleted(long groupId, ZonedDateTime now) {
+    em.createQuery(
+            """
+                                UPDATE Group g
+                                SET g.deletedAt = :now
+                                WHERE g.id = :groupId
+                                  AND g.deletedAt IS NULL
+                                """)
+        .setParameter("now", now)
+        .setParameter("groupId", groupId)
+        .executeUpdate();
+  }
+
+  /** 삭제 상태인 그룹을 먼저 삭제된 순서로 최대 limit개 반환한다. */
+  @Transactional(readOnly = true)
+  public List<Long> findDeletedGroupIds(int limit) {
+    return em.createQuery(
+            """
+                                SELECT g.id
+                                FROM Group g
+                                WHERE g.deletedAt IS NOT NULL
+                                ORDER BY g.deletedAt ASC, g.id ASC
+                                """,
+            Long.class)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  /** 삭제 상태인 그룹 row를 잠근다. 그룹이 없거나 삭제 상태가 아니면 false를 반환한다. */
+  @Transactional
+  public boolean lockDeletedGroup(long groupId) {
+    Group group = em.find(Group.class, groupId, LockModeType.PESSIMISTIC_WRITE);
+
+    return group != null && group.getDeletedAt() != null;
+  }
+
+  @Transactional
+  public void addPurgedRowCount(long groupId, int count) {
+    em.createQuery(
+            """
+                                UPDATE Group g
+                                SET g.purgedRowCount = g.purgedRowCount + :count
+                                WHERE g.id = :groupId
+                                """)
+        .setParameter("count", (long) count)
+        .setParameter("groupId", groupId)
+        .executeUpdate();
+  }
+
   @Transactional
   public void deleteGroupById(long groupId) {
     em.createQuery(
@@ -100,6 +218,7 @@ public class GroupRepository {
                                             SELECT g
                                             FROM Group g
                                             WHERE g.id = :groupId
+                                              AND g.deletedAt IS NULL
                                             """,
                   Group.class)
               .setParameter("groupId", groupId)
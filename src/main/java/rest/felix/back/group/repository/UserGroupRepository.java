@@ -2,13 +2,17 @@ package rest.felix.back.group.repository;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.group.dto.MemberCountDTO;
 import rest.felix.back.group.dto.UpdateMemberDTO;
 import rest.felix.back.group.dto.UserGroupDTO;
 import rest.felix.back.group.entity.Group;
@@ -32,9 +36,12 @@ public class UserGroupRepository {
                                                         ug
                                                     FROM
                                                         UserGroup ug
+                                                    JOIN
+                                                        ug.group g
                                                     WHERE
                                                         ug.user.id = :userId AND
-                                                        ug.group.id = :groupId
+                                                        g.id = :groupId AND
+                                                        g.deletedAt IS NULL
                                                     """,
                       UserGroup.class)
                   .setParameter("userId", userId)
@@ -47,6 +54,29 @@ public class UserGroupRepository {
     }
   }
 
+  @Transactional(readOnly = true)
+  public Set<Long> findUserIdsInGroup(long groupId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) return Set.of();
+
+    return em
+        .createQuery(
+            """
+                                SELECT
+                                    ug.user.id
+                                FROM
+                                    UserGroup ug
+                                WHERE
+                                    ug.group.id = :groupId AND
+                                    ug.user.id IN :userIds
+                                """,
+            Long.class)
+        .setParameter("groupId", groupId)
+        .setParameter("userIds", userIds)
+        .getResultList()
+        .stream()
+        .collect(Collectors.toSet());
+  }
+
   @Transactional(readOnly = true)
   public List<UserGroupDTO> findByGroupId(long groupId) {
 
@@ -81,17 +111,67 @@ public class UserGroupRepository {
     em.persist(userGroup);
   }
 
+  /**
+   * 유효한 초대 토큰의 그룹에 멤버십을 INSERT ... SELECT 한 번으로 추가한다. 토큰이 없거나, 만료되었거나, 그룹이 삭제되었거나, 이미
+   * 멤버이면 아무것도 추가하지 않고 false를 반환한다.
+   *
+   * <p>이미 멤버인 경우는 user_group의 (user_id, group_id) unique 제약에 걸려 ON CONFLICT DO NOTHING으로 넘어가므로, 동시에
+   * 수락해도 예외 없이 하나만 추가된다.
+   */
   @Transactional
-  public void deleteByGroupId(long groupId) {
-    em.createQuery(
+  public boolean registerUserByInvitation(
+      long userId, String token, GroupRole role, ZonedDateTime now) {
+    int inserted =
+        em.createQuery(
+                """
+                                    INSERT INTO UserGroup (
+                                      user, group, groupRole, roleRank, createdAt, updatedAt
+                                    )
+                                    SELECT u, g, :role, :roleRank, :now, :now
+                                    FROM GroupInvitation gi
+                                    JOIN gi.group g
+                                    JOIN User u ON u.id = :userId
+                                    WHERE gi.token = :token
+                                      AND :now <= gi.expiresAt
+                                      AND g.deletedAt IS NULL
+                                    ON CONFLICT DO NOTHING
+                                    """)
+            .setParameter("role", role)
+            .setParameter("roleRank", role.rank())
+            .setParameter("now", now)
+            .setParameter("userId", userId)
+            .setParameter("token", token)
+            .executeUpdate();
+
+    return inserted > 0;
+  }
+
+  /** 그룹의 멤버십을 최대 limit개 지우고 지운 수를 반환한다. */
+  @Transactional
+  public int deleteByGroupId(long groupId, int limit) {
+    List<Long> ids =
+        em.createQuery(
+                """
+                                    SELECT ug.id
+                                    FROM UserGroup ug
+                                    WHERE ug.group.id = :groupId
+                                    """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(limit)
+            .getResultList();
+
+    if (ids.isEmpty()) return 0;
+
+    return em.createQuery(
             """
                                 DELETE
                                 FROM
                                   UserGroup ug
                                 WHERE
-                                  ug.group.id = :groupId
+                                  ug.id IN :ids
                                 """)
-        .setParameter("groupId", groupId)
+        .setParameter("ids", ids)
         .executeUpdate();
   }
 
@@ -133,6 +213,26 @@ public class UserGroupRepository {
         .collect(Collectors.toMap(UserGroupDTO::groupId, UserGroupDTO::groupRole));
   }
 
+  @Transactional(readOnly = true)
+  public Map<Long, Long> findMemberCountsByGroupIds(List<Long> groupIds) {
+    return em
+        .createQuery(
+            """
+                                SELECT new rest.felix.back.group.dto.MemberCountDTO(
+                                    ug.group.id,
+                                    COUNT(ug)
+                                )
+                                FROM UserGroup ug
+                                WHERE ug.group.id IN :groupIds
+                                GROUP BY ug.group.id
+                                """,
+            MemberCountDTO.class)
+        .setParameter("groupIds", groupIds)
+        .getResultList()
+        .stream()
+        .collect(Collectors.toMap(MemberCountDTO::groupId, MemberCountDTO::memberCount));
+  }
+
   @Transactional
   public void updateUserGroup(UpdateMemberDTO updateMemberDTO) {
     long userId = updateMemberDTO.userId();
@@ -142,13 +242,14 @@ public class UserGroupRepository {
     em.createQuery(
             """
                                 UPDATE UserGroup ug
-                                SET ug.groupRole = :role
+                                SET ug.groupRole = :role, ug.roleRank = :roleRank
                                 WHERE ug.user.id = :userId
                                 AND ug.group.id = :groupId
                                 """)
         .setParameter("userId", userId)
         .setParameter("groupId", groupId)
         .setParameter("role", role)
+        .setParameter("roleRank", role.rank())
         .executeUpdate();
   }
 }
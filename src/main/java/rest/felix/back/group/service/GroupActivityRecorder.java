@@ -0,0 +1,78 @@
+package rest.felix.back.group.service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import rest.felix.back.group.repository.GroupRepository;
+
+/**
+ * todo가 바뀔 때 그룹의 lastActivityAt을 갱신한다. 그룹마다 1초에 한 번까지만 UPDATE를 보낸다.
+ *
+ * <p>같은 인스턴스에서는 마지막으로 갱신한 시각을 기억해 1초 안의 요청을 DB에 보내지 않고, 여러 인스턴스 사이에서는 조건부 UPDATE가 1초 안의
+ * 갱신을 막는다. todo를 바꾼 transaction 안에서 부르면 commit된 뒤에 별도 transaction으로 갱신하므로, 되돌려진 변경은 활동으로 남지
+ * 않고 todo를 바꾸는 동안 group row를 잠그지 않는다.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class GroupActivityRecorder {
+
+  static final Duration INTERVAL = Duration.ofSeconds(1);
+
+  // 기억하는 그룹이 이보다 많아지면 INTERVAL이 지난 항목을 비운다.
+  private static final int MAX_TRACKED_GROUPS = 10_000;
+
+  private final GroupRepository groupRepository;
+
+  private final Map<Long, Long> lastTouchedAtMillis = new ConcurrentHashMap<>();
+
+  public void touch(long groupId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      touchNow(groupId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            touchNow(groupId);
+          }
+        });
+  }
+
+  private void touchNow(long groupId) {
+    ZonedDateTime now = ZonedDateTime.now();
+    long nowMillis = now.toInstant().toEpochMilli();
+
+    Long last = lastTouchedAtMillis.get(groupId);
+    if (last != null && nowMillis - last < INTERVAL.toMillis()) return;
+
+    // 같은 그룹을 동시에 갱신하려는 요청 중 하나만 UPDATE를 보낸다.
+    boolean claimed =
+        last == null
+            ? lastTouchedAtMillis.putIfAbsent(groupId, nowMillis) == null
+            : lastTouchedAtMillis.replace(groupId, last, nowMillis);
+    if (!claimed) return;
+
+    if (lastTouchedAtMillis.size() > MAX_TRACKED_GROUPS)
+      lastTouchedAtMillis
+          .values()
+          .removeIf(touchedAt -> nowMillis - touchedAt >= INTERVAL.toMillis());
+
+    // todo 변경은 이미 commit되었으므로, 갱신에 실패해도 요청은 실패로 돌리지 않고 다음 요청이 다시 갱신하도록 비워 둔다.
+    try {
+      groupRepository.touchLastActivityAt(groupId, now, now.minus(INTERVAL));
+    } catch (DataAccessException e) {
+      lastTouchedAtMillis.remove(groupId, nowMillis);
+      log.warn("Failed to touch group activity. groupId={}", groupId, e);
+    }
+  }
+}
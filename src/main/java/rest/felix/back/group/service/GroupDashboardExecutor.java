@@ -0,0 +1,101 @@
+package rest.felix.back.group.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.common.config.GroupDashboardConfig;
+
+/**
+ * 대시보드 조회를 서로 다른 virtual thread에서 동시에 실행한다.
+ *
+ * <p>대시보드 요청 하나가 동시에 실행하는 조회는 queryParallelism개까지이므로, 요청 하나가 connection pool을 혼자 차지하지 않는다.
+ * 조회마다 queryTimeoutMs의 transaction timeout을 걸어, 기다리기를 그만둔 조회가 DB에서도 멈추도록 한다.
+ */
+@Component
+public class GroupDashboardExecutor {
+
+  private final GroupDashboardConfig config;
+  private final TransactionTemplate queryTransaction;
+
+  // 조회 하나마다 virtual thread 하나를 쓰고, 대기 중에는 carrier thread를 점유하지 않는다.
+  private final ExecutorService queryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  public GroupDashboardExecutor(
+      GroupDashboardConfig config, PlatformTransactionManager transactionManager) {
+    this.config = config;
+
+    // transaction timeout은 안의 query마다 jakarta.persistence.query.timeout으로 걸린다. 초 단위이므로 올림한다.
+    this.queryTransaction = new TransactionTemplate(transactionManager);
+    this.queryTransaction.setReadOnly(true);
+    this.queryTransaction.setTimeout(
+        (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(config.getQueryTimeoutMs() + 999)));
+  }
+
+  /** 대시보드 요청 하나의 조회를 묶는다. 요청마다 새로 연다. */
+  public DashboardQueries open() {
+    return new DashboardQueries(new Semaphore(config.getQueryParallelism()));
+  }
+
+  /** 조회에서 던진 예외는 그대로, 시간 초과는 QueryTimeoutException으로 던진다. */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof TimeoutException timeout)
+        throw new QueryTimeoutException("Dashboard query timed out.", timeout);
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      throw e;
+    }
+  }
+
+  // 실행 중인 조회는 transaction timeout 안에 끝나므로 모두 끝날 때까지 기다린다.
+  @PreDestroy
+  public void close() {
+    queryExecutor.close();
+  }
+
+  public class DashboardQueries {
+
+    private final Semaphore permits;
+
+    private DashboardQueries(Semaphore permits) {
+      this.permits = permits;
+    }
+
+    /** 차례를 기다리는 시간도 queryTimeoutMs에 포함한다. */
+    public <T> CompletableFuture<T> supplyQuery(Supplier<T> query) {
+      return CompletableFuture.supplyAsync(
+              () -> {
+                acquire();
+                try {
+                  return queryTransaction.execute(status -> query.get());
+                } finally {
+                  permits.release();
+                }
+              },
+              queryExecutor)
+          .orTimeout(config.getQueryTimeoutMs(), TimeUnit.MILLISECONDS);
+    }
+
+    // 시간 안에 차례가 오지 않은 조회는 실행하지 않는다. 기다리던 쪽은 이미 orTimeout으로 끝났다.
+    private void acquire() {
+      try {
+        if (!permits.tryAcquire(config.getQueryTimeoutMs(), TimeUnit.MILLISECONDS))
+          throw new QueryTimeoutException("Dashboard query timed out.");
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new QueryTimeoutException("Dashboard query was interrupted.");
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package rest.felix.back.group.service;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import rest.felix.back.common.config.GroupInvitationPreviewConfig;
+import rest.felix.back.group.dto.GroupInvitationInfoDTO;
+
+/**
+ * 초대 미리보기를 토큰마다 캐시한다. 항목은 초대 만료 시각과 cacheTtlMs 중 먼저 오는 때까지 유지한다.
+ *
+ * <p>그룹 이름이나 개수가 바뀌어도 cacheTtlMs 동안은 이전 값을 보여줄 수 있다. 초대 수락은 캐시를 쓰지 않는다.
+ */
+@Component
+@AllArgsConstructor
+public class GroupInvitationPreviewCache {
+
+  private final GroupInvitationPreviewConfig config;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private record Entry(GroupInvitationInfoDTO info, long expiresAtMillis) {}
+
+  public Optional<GroupInvitationInfoDTO> get(String token, ZonedDateTime now) {
+    Entry entry = entries.get(token);
+    if (entry == null) return Optional.empty();
+
+    if (entry.expiresAtMillis() <= now.toInstant().toEpochMilli()) {
+      entries.remove(token, entry);
+      return Optional.empty();
+    }
+
+    return Optional.of(entry.info());
+  }
+
+  public void put(String token, GroupInvitationInfoDTO info, ZonedDateTime now) {
+    long nowMillis = now.toInstant().toEpochMilli();
+    long expiresAtMillis =
+        Math.min(info.expiresAt().toInstant().toEpochMilli(), nowMillis + config.getCacheTtlMs());
+    if (expiresAtMillis <= nowMillis) return;
+
+    // 가득 차면 지난 항목을 비우고, 그래도 가득 차 있으면 캐시하지 않는다.
+    if (entries.size() >= config.getCacheMaxEntries()) {
+      entries.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+      if (entries.size() >= config.getCacheMaxEntries()) return;
+    }
+
+    entries.put(token, new Entry(info, expiresAtMillis));
+  }
+}
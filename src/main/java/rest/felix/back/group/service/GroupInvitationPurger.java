@@ -0,0 +1,53 @@
+package rest.felix.back.group.service;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rest.felix.back.common.config.GroupInvitationPurgeConfig;
+import rest.felix.back.group.repository.GroupInvitationRepository;
+
+/**
+ * 만료된 초대를 chunk 단위로 지워 group_invitation을 유효한 초대 크기로 유지한다.
+ *
+ * <p>만료된 뒤 graceDays가 지난 초대만 지우므로, 그 전까지는 초대 조회가 isExpired로 만료를 알려 준다.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class GroupInvitationPurger {
+
+  private final GroupInvitationRepository groupInvitationRepository;
+  private final GroupInvitationPurgeConfig config;
+
+  @Scheduled(
+      initialDelayString = "${group.invitation-purge.interval-ms:600000}",
+      fixedDelayString = "${group.invitation-purge.interval-ms:600000}")
+  public void purgeScheduled() {
+    if (!config.isEnabled()) return;
+
+    purge();
+  }
+
+  /** chunk마다 별도의 트랜잭션으로 최대 batchLimit번 지우고, 지운 초대 수를 반환한다. 남은 초대는 다음 실행에서 지운다. */
+  public int purge() {
+    ZonedDateTime expiredBefore = ZonedDateTime.now().minusDays(config.getGraceDays());
+    int purged = 0;
+
+    try {
+      for (int batch = 0; batch < config.getBatchLimit(); batch++) {
+        int chunk = groupInvitationRepository.deleteExpired(expiredBefore, config.getChunkSize());
+        purged += chunk;
+
+        if (chunk < config.getChunkSize()) break;
+      }
+    } catch (DataAccessException e) {
+      // 남은 초대는 다음 주기에 다시 지운다.
+      log.warn("Failed to purge expired group invitations.", e);
+    }
+
+    return purged;
+  }
+}
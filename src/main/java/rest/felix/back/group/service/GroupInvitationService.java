@@ -8,16 +8,23 @@ import org.springframework.transaction.annotation.Transactional;
 import rest.felix.back.group.dto.CreateGroupInvitationDTO;
 import rest.felix.back.group.dto.GroupInvitationDTO;
 import rest.felix.back.group.entity.GroupInvitation;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.group.exception.AlreadyGroupMemberException;
 import rest.felix.back.group.exception.ExpiredInvitationException;
 import rest.felix.back.group.exception.NoInvitationException;
 import rest.felix.back.group.exception.TooManyInvitationsException;
 import rest.felix.back.group.repository.GroupInvitationRepository;
+import rest.felix.back.group.repository.GroupRepository;
+import rest.felix.back.group.repository.UserGroupRepository;
+import rest.felix.back.user.exception.UserNotFoundException;
 
 @Service
 @RequiredArgsConstructor
 public class GroupInvitationService {
 
   private final GroupInvitationRepository groupInvitationRepository;
+  private final GroupRepository groupRepository;
+  private final UserGroupRepository userGroupRepository;
 
   public String createInvitationToken() {
     return UUID.randomUUID().toString();
@@ -42,18 +49,26 @@ public class GroupInvitationService {
     groupInvitationRepository.delete(groupInvitation);
   }
 
-  @Transactional(readOnly = true)
-  public GroupInvitationDTO findValidInvitation(String token, ZonedDateTime now) {
+  /**
+   * 초대 토큰의 그룹에 MEMBER로 가입한다. 가입은 INSERT 한 번으로 하고, 가입하지 못했을 때만 초대와 멤버십을 다시 읽어 이유에 맞는
+   * 예외를 던진다.
+   */
+  @Transactional
+  public void acceptInvitation(long userId, String token, ZonedDateTime now) {
+    if (userGroupRepository.registerUserByInvitation(userId, token, GroupRole.MEMBER, now)) return;
+
     GroupInvitationDTO groupInvitation =
         groupInvitationRepository.findByToken(token).orElseThrow(NoInvitationException::new);
-    if (groupInvitation.expiresAt().isBefore(ZonedDateTime.now()))
-      throw new ExpiredInvitationException();
 
-    return groupInvitation;
-  }
+    if (groupInvitation.expiresAt().isBefore(now)) throw new ExpiredInvitationException();
 
-  @Transactional(readOnly = true)
-  public GroupInvitationDTO findInvitation(String token) {
-    return groupInvitationRepository.findByToken(token).orElseThrow(NoInvitationException::new);
+    // 삭제된 그룹의 초대는 없는 초대로 본다.
+    if (groupRepository.findById(groupInvitation.groupId()).isEmpty())
+      throw new NoInvitationException();
+
+    if (userGroupRepository.findByUserIdAndGroupId(userId, groupInvitation.groupId()).isPresent())
+      throw new AlreadyGroupMemberException();
+
+    throw new UserNotFoundException();
   }
 }
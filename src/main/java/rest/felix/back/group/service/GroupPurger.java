@@ -0,0 +1,55 @@
+package rest.felix.back.group.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rest.felix.back.common.config.GroupPurgeConfig;
+import rest.felix.back.group.repository.GroupRepository;
+
+/** 삭제 상태인 그룹의 하위 row를 chunk 단위로 지우고, 다 지우면 그룹도 지운다. */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class GroupPurger {
+
+  private final GroupService groupService;
+  private final GroupRepository groupRepository;
+  private final GroupPurgeConfig config;
+
+  @Scheduled(
+      initialDelayString = "${group.purge.interval-ms:10000}",
+      fixedDelayString = "${group.purge.interval-ms:10000}")
+  public void purgeScheduled() {
+    if (!config.isEnabled()) return;
+
+    purge();
+  }
+
+  /**
+   * 삭제 상태인 그룹을 chunk마다 별도의 트랜잭션으로 지우고, 완전히 지운 그룹 수를 반환한다. 삭제 상태는 DB에 남아 있으므로 중간에 멈춰도 다음
+   * 실행에서 이어서 지운다.
+   */
+  public int purge() {
+    int purged = 0;
+
+    for (long groupId : groupRepository.findDeletedGroupIds(config.getBatchLimit())) {
+      try {
+        long deleted = 0;
+        int chunk;
+        while ((chunk = groupService.purgeDeletedGroup(groupId, config.getChunkSize())) > 0) {
+          deleted += chunk;
+        }
+
+        log.info("Purged deleted group. groupId={}, deletedRows={}", groupId, deleted);
+        purged++;
+      } catch (DataAccessException e) {
+        // 실패한 그룹은 다음 주기에 남은 row부터 다시 지운다.
+        log.warn("Failed to purge deleted group. groupId={}", groupId, e);
+      }
+    }
+
+    return purged;
+  }
+}
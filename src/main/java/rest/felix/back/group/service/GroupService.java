@@ -1,21 +1,26 @@
 package rest.felix.back.group.service;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.common.config.GroupDashboardConfig;
 import rest.felix.back.common.exception.throwable.notFound.ResourceNotFoundException;
 import rest.felix.back.group.dto.*;
 import rest.felix.back.group.entity.enumerated.GroupRole;
-import rest.felix.back.group.exception.GroupNotFoundException;
 import rest.felix.back.group.exception.MembershipNotFoundException;
+import rest.felix.back.group.exception.NoInvitationException;
+import rest.felix.back.group.repository.GroupInvitationRepository;
 import rest.felix.back.group.repository.GroupRepository;
 import rest.felix.back.group.repository.UserGroupRepository;
 import rest.felix.back.todo.dto.TodoCountDTO;
 import rest.felix.back.todo.dto.TodoWithStarredStatusDTO;
 import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.todo.service.StarBuffer;
 import rest.felix.back.user.exception.UserAccessDeniedException;
 import rest.felix.back.user.repository.UserRepository;
 
@@ -23,10 +28,18 @@ import rest.felix.back.user.repository.UserRepository;
 @AllArgsConstructor
 public class GroupService {
 
+  private static final int MAX_GROUP_PAGE_SIZE = 100;
+  private static final int MAX_MEMBER_PAGE_SIZE = 100;
+
   private final GroupRepository groupRepository;
   private final UserGroupRepository userGroupRepository;
   private final TodoRepository todoRepository;
   private final UserRepository userRepository;
+  private final GroupInvitationRepository groupInvitationRepository;
+  private final StarBuffer starBuffer;
+  private final GroupDashboardConfig dashboardConfig;
+  private final GroupInvitationPreviewCache invitationPreviewCache;
+  private final GroupDashboardExecutor dashboardExecutor;
 
   @Transactional
   public GroupDTO createGroup(CreateGroupDTO createGroupDTO) {
@@ -45,37 +58,68 @@ public class GroupService {
     return groupRepository.findGroupsByUserId(userId);
   }
 
-  @Transactional(readOnly = true)
-  public List<DetailedGroupDTO> findDetailedGroupsByUserId(long userId) {
-    List<GroupDTO> myGroups = groupRepository.findGroupsByUserId(userId);
-    if (myGroups.isEmpty()) return List.of();
+  /**
+   * 그룹 목록을 최근 활동 순으로 한 페이지 읽은 뒤 todo 수, 멤버 미리보기, 멤버 수, 내 역할을 서로 다른 virtual thread에서 동시에
+   * 조회한다. 멤버는 그룹마다 memberPreviewSize명까지만 담고, 전체 목록은 멤버 목록 API로 따로 읽는다.
+   *
+   * <p>각 조회는 자기 read-only 트랜잭션으로 자기 connection을 쓰므로, 이 메서드는 트랜잭션을 열지 않는다. 요청 하나가 동시에 쓰는
+   * connection 수는 GroupDashboardExecutor가 제한한다.
+   */
+  public DetailedGroupPageDTO findDetailedGroupsByUserId(long userId, String cursor, int size) {
+    int limit = Math.clamp(size, 1, MAX_GROUP_PAGE_SIZE);
+    GroupCursorDTO groupCursor = cursor != null ? GroupCursorDTO.parse(cursor) : null;
+
+    List<GroupDTO> myGroups = groupRepository.findGroupsByUserId(userId, groupCursor, limit);
+    if (myGroups.isEmpty()) return new DetailedGroupPageDTO(List.of(), null);
 
     List<Long> groupIds = myGroups.stream().map(GroupDTO::id).toList();
 
-    Map<Long, TodoCountDTO> todoCountDTOs = todoRepository.findTodoCountsByGroupIds(groupIds);
-    Map<Long, List<MemberDTO>> memberDTOs = userRepository.findMembersByGroupIds(groupIds);
-    Map<Long, GroupRole> myRoles = userGroupRepository.findUserRolesByGroupIds(userId, groupIds);
-
-    return myGroups.stream()
-        .map(
-            group -> {
-              long groupId = group.id();
-              TodoCountDTO todoCount =
-                  todoCountDTOs.getOrDefault(groupId, new TodoCountDTO(groupId, 0, 0));
-              List<MemberDTO> members = memberDTOs.getOrDefault(groupId, List.of());
-              GroupRole myRole = myRoles.get(groupId);
-
-              return new DetailedGroupDTO(
-                  groupId,
-                  group.name(),
-                  group.description(),
-                  todoCount.todoCount(),
-                  todoCount.completedTodoCount(),
-                  members,
-                  members.size(),
-                  myRole);
-            })
-        .toList();
+    GroupDashboardExecutor.DashboardQueries queries = dashboardExecutor.open();
+    CompletableFuture<Map<Long, TodoCountDTO>> todoCountsFuture =
+        queries.supplyQuery(() -> todoRepository.findTodoCountsByGroupIds(groupIds));
+    CompletableFuture<Map<Long, List<MemberDTO>>> membersFuture =
+        queries.supplyQuery(
+            () ->
+                userRepository.findMemberPreviewsByGroupIds(
+                    groupIds, dashboardConfig.getMemberPreviewSize()));
+    CompletableFuture<Map<Long, Long>> memberCountsFuture =
+        queries.supplyQuery(() -> userGroupRepository.findMemberCountsByGroupIds(groupIds));
+    CompletableFuture<Map<Long, GroupRole>> myRolesFuture =
+        queries.supplyQuery(() -> userGroupRepository.findUserRolesByGroupIds(userId, groupIds));
+
+    Map<Long, TodoCountDTO> todoCountDTOs = GroupDashboardExecutor.join(todoCountsFuture);
+    Map<Long, List<MemberDTO>> memberDTOs = GroupDashboardExecutor.join(membersFuture);
+    Map<Long, Long> memberCounts = GroupDashboardExecutor.join(memberCountsFuture);
+    Map<Long, GroupRole> myRoles = GroupDashboardExecutor.join(myRolesFuture);
+
+    List<DetailedGroupDTO> detailedGroups =
+        myGroups.stream()
+            .map(
+                group -> {
+                  long groupId = group.id();
+                  TodoCountDTO todoCount =
+                      todoCountDTOs.getOrDefault(groupId, new TodoCountDTO(groupId, 0, 0));
+                  List<MemberDTO> members = memberDTOs.getOrDefault(groupId, List.of());
+                  GroupRole myRole = myRoles.get(groupId);
+
+                  return new DetailedGroupDTO(
+                      groupId,
+                      group.name(),
+                      group.description(),
+                      todoCount.todoCount(),
+                      todoCount.completedTodoCount(),
+                      members,
+                      memberCounts.getOrDefault(groupId, (long) members.size()),
+                      myRole,
+                      group.lastActivityAt());
+                })
+            .toList();
+    String nextCursor =
+        myGroups.size() == limit
+            ? GroupCursorDTO.of(myGroups.get(myGroups.size() - 1)).encode()
+            : null;
+
+    return new DetailedGroupPageDTO(detailedGroups, nextCursor);
   }
 
   @Transactional(readOnly = true)
@@ -89,12 +133,32 @@ public class GroupService {
     return userGroupRepository.findByUserIdAndGroupId(userId, groupId).map(UserGroupDTO::groupRole);
   }
 
+  /** 그룹을 삭제 상태로만 바꾼다. 하위 row는 GroupPurger가 나누어 지운다. */
   @Transactional
   public void deleteGroupById(long groupId) {
-    userGroupRepository.deleteByGroupId(groupId);
-    todoRepository.deleteByGroupId(groupId);
+    groupRepository.markDeleted(groupId, ZonedDateTime.now());
+  }
+
+  /**
+   * 삭제 상태인 그룹의 하위 row를 todo, 보관된 todo, 초대, 멤버십 순서로 최대 limit개 지우고 지운 수를 반환한다. 남은 row가
+   * 없으면 그룹을 지우고 0을 반환한다.
+   */
+  @Transactional
+  public int purgeDeletedGroup(long groupId, int limit) {
+    if (!groupRepository.lockDeletedGroup(groupId)) return 0;
 
-    groupRepository.deleteGroupById(groupId);
+    int deleted = todoRepository.deleteByGroupId(groupId, limit);
+    if (deleted == 0) deleted = todoRepository.deleteArchivedByGroupId(groupId, limit);
+    if (deleted == 0) deleted = groupInvitationRepository.deleteByGroupId(groupId, limit);
+    if (deleted == 0) deleted = userGroupRepository.deleteByGroupId(groupId, limit);
+
+    if (deleted == 0) {
+      groupRepository.deleteGroupById(groupId);
+      return 0;
+    }
+
+    groupRepository.addPurgedRowCount(groupId, deleted);
+    return deleted;
   }
 
   @Transactional(readOnly = true)
@@ -109,21 +173,51 @@ public class GroupService {
     GroupDTO groupDTO =
         groupRepository.findById(groupId).orElseThrow(ResourceNotFoundException::new);
 
-    List<MemberDTO> memberDTOs = userRepository.findMembersByGroupId(groupId);
+    List<MemberDTO> memberDTOs = findMemberPreviews(groupId);
+    long memberCount = countMembers(groupId);
 
     List<TodoWithStarredStatusDTO> todoDTOs =
-        todoRepository.findByGroupIdWithStars(userId, groupId);
+        starBuffer.merge(userId, groupId, todoRepository.findByGroupIdWithStars(userId, groupId));
 
     return new FullGroupDetailsDTO(
         groupId,
         groupDTO.name(),
         groupDTO.description(),
         memberDTOs,
-        memberDTOs.size(),
+        memberCount,
         myRole,
         todoDTOs);
   }
 
+  /** 그룹 멤버를 keyset 페이지로 반환한다. role이 주어지면 그 역할의 멤버만 반환한다. */
+  @Transactional(readOnly = true)
+  public MemberPageDTO findMembers(long groupId, GroupRole role, String cursor, int size) {
+    int limit = Math.clamp(size, 1, MAX_MEMBER_PAGE_SIZE);
+    MemberCursorDTO memberCursor = cursor != null ? MemberCursorDTO.parse(cursor) : null;
+
+    List<MemberDTO> members =
+        userRepository.findMembersByGroupId(groupId, role, memberCursor, limit);
+    String nextCursor =
+        members.size() == limit
+            ? MemberCursorDTO.of(members.get(members.size() - 1)).encode()
+            : null;
+
+    return new MemberPageDTO(members, nextCursor);
+  }
+
+  // 그룹 상세와 초대 정보에는 멤버를 memberPreviewSize명까지만 담는다. 전체 목록은 findMembers로 읽는다.
+  private List<MemberDTO> findMemberPreviews(long groupId) {
+    return userRepository
+        .findMemberPreviewsByGroupIds(List.of(groupId), dashboardConfig.getMemberPreviewSize())
+        .getOrDefault(groupId, List.of());
+  }
+
+  private long countMembers(long groupId) {
+    return userGroupRepository
+        .findMemberCountsByGroupIds(List.of(groupId))
+        .getOrDefault(groupId, 0L);
+  }
+
   @Transactional(readOnly = true)
   public void assertGroupAuthority(long userId, long groupId, GroupRole groupRole) {
 
@@ -146,34 +240,42 @@ public class GroupService {
     userGroupRepository.registerUserToGroup(userId, groupId, groupRole);
   }
 
-  @Transactional(readOnly = true)
-  public GroupInvitationInfoDTO findGroupInvitationInfo(GroupInvitationDTO groupInvitation) {
-    long groupId = groupInvitation.groupId();
-    long issuerId = groupInvitation.issuerId();
-
-    GroupDTO groupDTO = groupRepository.findById(groupId).orElseThrow(GroupNotFoundException::new);
-
-    TodoCountDTO todoCount =
-        todoRepository.findTodoCountsByGroupId(groupId).orElseThrow(GroupNotFoundException::new);
-
-    List<MemberDTO> members = userRepository.findMembersByGroupId(groupId);
-
-    MemberDTO issuer =
-        members.stream()
-            .filter(member -> member.id() == issuerId)
-            .findFirst()
-            .orElseThrow(ResourceNotFoundException::new);
-
-    return new GroupInvitationInfoDTO(
-        groupId,
-        groupDTO.name(),
-        groupDTO.description(),
-        todoCount.todoCount(),
-        todoCount.completedTodoCount(),
-        members.size(),
-        issuer,
-        members,
-        groupInvitation.expiresAt());
+  /**
+   * 초대 링크 미리보기. 토큰마다 캐시하고, 캐시에 없을 때만 초대, 그룹, 발행자, 개수를 한 번에 읽은 뒤 멤버 미리보기를 읽는다.
+   *
+   * <p>캐시를 먼저 보므로 트랜잭션을 열지 않는다.
+   */
+  public GroupInvitationInfoDTO findGroupInvitationPreview(String token) {
+    ZonedDateTime now = ZonedDateTime.now();
+
+    Optional<GroupInvitationInfoDTO> cached = invitationPreviewCache.get(token, now);
+    if (cached.isPresent()) return cached.get();
+
+    GroupInvitationPreviewDTO preview =
+        groupInvitationRepository
+            .findPreviewByToken(token)
+            .orElseThrow(NoInvitationException::new);
+
+    if (preview.issuerId() == null) throw new ResourceNotFoundException();
+
+    long groupId = preview.groupId();
+
+    GroupInvitationInfoDTO info =
+        new GroupInvitationInfoDTO(
+            groupId,
+            preview.name(),
+            preview.description(),
+            preview.todoCount(),
+            preview.completedTodoCount(),
+            preview.memberCount(),
+            new MemberDTO(
+                preview.issuerId(), preview.issuerNickname(), groupId, preview.issuerRole()),
+            findMemberPreviews(groupId),
+            preview.expiresAt());
+
+    invitationPreviewCache.put(token, info, now);
+
+    return info;
   }
 
   @Transactional
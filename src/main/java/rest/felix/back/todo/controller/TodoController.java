@@ -4,10 +4,12 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import rest.felix.back.common.util.EntityTag;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.service.GroupService;
 import rest.felix.back.todo.dto.*;
@@ -25,16 +27,47 @@ public class TodoController {
 
   @GetMapping("/group/{groupId}/todo")
   public ResponseEntity<List<TodoResponseDTO>> getTodos(
-      @AuthenticationPrincipal AuthUserDTO authUser, @PathVariable(name = "groupId") long groupId) {
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestParam(name = "includeArchived", defaultValue = "false") boolean includeArchived) {
 
     groupService.assertGroupAuthority(authUser.getUserId(), groupId, GroupRole.VIEWER);
 
-    List<TodoResponseDTO> todoResponseDTOs =
-        todoService.getTodosInGroup(groupId).stream().map(TodoResponseDTO::of).toList();
+    List<TodoDTO> todoDTOs =
+        includeArchived
+            ? todoService.getTodosWithArchivedInGroup(groupId)
+            : todoService.getTodosInGroup(groupId);
+    List<TodoResponseDTO> todoResponseDTOs = todoDTOs.stream().map(TodoResponseDTO::of).toList();
 
     return ResponseEntity.ok().body(todoResponseDTOs);
   }
 
+  @GetMapping("/group/{groupId}/todo/archive")
+  public ResponseEntity<TodoPageResponseDTO> getArchivedTodos(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+
+    groupService.assertGroupAuthority(authUser.getUserId(), groupId, GroupRole.VIEWER);
+
+    TodoPageDTO todoPageDTO = todoService.getArchivedTodosInGroup(groupId, cursor, size);
+
+    return ResponseEntity.ok().body(TodoPageResponseDTO.of(todoPageDTO));
+  }
+
+  @GetMapping("/todo/starred")
+  public ResponseEntity<StarredTodoPageResponseDTO> getStarredTodos(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+
+    StarredTodoPageDTO starredTodoPageDTO =
+        todoService.getStarredTodos(authUser.getUserId(), cursor, size);
+
+    return ResponseEntity.ok().body(StarredTodoPageResponseDTO.of(starredTodoPageDTO));
+  }
+
   @PostMapping("/group/{groupId}/todo")
   public ResponseEntity<TodoResponseDTO> createTodo(
       @AuthenticationPrincipal AuthUserDTO authUser,
@@ -56,7 +89,30 @@ public class TodoController {
 
     TodoResponseDTO todoResponseDTO = TodoResponseDTO.of(todoDTO);
 
-    return ResponseEntity.status(HttpStatus.CREATED).body(todoResponseDTO);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .eTag(EntityTag.of(todoDTO.version()))
+        .body(todoResponseDTO);
+  }
+
+  @PostMapping("/group/{groupId}/todo/bulk")
+  public ResponseEntity<List<TodoResponseDTO>> createTodos(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestBody @Valid CreateTodosRequestDTO createTodosRequestDTO) {
+
+    long userId = authUser.getUserId();
+
+    groupService.assertGroupAuthority(userId, groupId, GroupRole.MEMBER);
+
+    List<CreateTodoDTO> createTodoDTOs =
+        createTodosRequestDTO.todos().stream()
+            .map(dto -> CreateTodoDTO.of(userId, groupId, dto))
+            .toList();
+
+    List<TodoResponseDTO> todoResponseDTOs =
+        todoService.createTodos(groupId, createTodoDTOs).stream().map(TodoResponseDTO::of).toList();
+
+    return ResponseEntity.status(HttpStatus.CREATED).body(todoResponseDTOs);
   }
 
   @DeleteMapping("/group/{groupId}/todo/{todoId}")
@@ -75,7 +131,7 @@ public class TodoController {
             role.gte(GroupRole.MANAGER)
                 || (role.eq(GroupRole.MEMBER) && todo.authorId() == userId));
 
-    todoService.deleteTodo(todoId);
+    todoService.deleteTodo(groupId, todoId);
 
     return ResponseEntity.noContent().build();
   }
@@ -85,7 +141,8 @@ public class TodoController {
       @AuthenticationPrincipal AuthUserDTO authUser,
       @PathVariable(name = "groupId") long groupId,
       @PathVariable(name = "todoId") long todoId,
-      @RequestBody UpdateTodoRequestDTO updateTodoRequestDTO) {
+      @RequestBody UpdateTodoRequestDTO updateTodoRequestDTO,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
     long userId = authUser.getUserId();
 
@@ -98,11 +155,16 @@ public class TodoController {
                 || (role.eq(GroupRole.MEMBER) && todo.authorId() == userId));
 
     UpdateTodoDTO updateTodoDTO =
-        new UpdateTodoDTO(todoId, updateTodoRequestDTO.title(), updateTodoRequestDTO.description());
+        new UpdateTodoDTO(
+            groupId,
+            todoId,
+            updateTodoRequestDTO.title(),
+            updateTodoRequestDTO.description(),
+            EntityTag.parseVersion(ifMatch));
 
     TodoDTO updatedTodoDTO = todoService.updateTodo(updateTodoDTO);
 
-    return ResponseEntity.ok().body(updatedTodoDTO);
+    return ResponseEntity.ok().eTag(EntityTag.of(updatedTodoDTO.version())).body(updatedTodoDTO);
   }
 
   @PatchMapping("/group/{groupId}/todo/{todoId}/metadata")
@@ -110,7 +172,8 @@ public class TodoController {
       @AuthenticationPrincipal AuthUserDTO authUser,
       @PathVariable(name = "groupId") long groupId,
       @PathVariable(name = "todoId") long todoId,
-      @RequestBody @Valid UpdateTodoMetadataRequestDTO dto) {
+      @RequestBody @Valid UpdateTodoMetadataRequestDTO dto,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
     long userId = authUser.getUserId();
 
@@ -126,9 +189,11 @@ public class TodoController {
             isImportant ->
                 Optional.ofNullable(isImportant).orElseThrow(IllegalArgumentException::new));
 
-    TodoDTO updatedTodoDTO = todoService.updateTodoMetadata(UpdateTodoMetadataDTO.of(todoId, dto));
+    TodoDTO updatedTodoDTO =
+        todoService.updateTodoMetadata(
+            UpdateTodoMetadataDTO.of(groupId, todoId, dto, EntityTag.parseVersion(ifMatch)));
 
-    return ResponseEntity.ok().body(updatedTodoDTO);
+    return ResponseEntity.ok().eTag(EntityTag.of(updatedTodoDTO.version())).body(updatedTodoDTO);
   }
 
   @PutMapping("/group/{groupId}/todo/{todoId}/move")
@@ -136,14 +201,54 @@ public class TodoController {
       @AuthenticationPrincipal AuthUserDTO authUser,
       @PathVariable(name = "groupId") long groupId,
       @PathVariable(name = "todoId") long todoId,
-      @RequestBody MoveTodoRequestDTO moveTodoRequestDTO) {
+      @RequestBody MoveTodoRequestDTO moveTodoRequestDTO,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    long userId = authUser.getUserId();
+
+    todoService.assertTodoAuthority(userId, groupId, todoId, GroupRole.MEMBER);
+
+    TodoDTO todo =
+        todoService.moveTodo(
+            MoveTodoDTO.of(
+                groupId, todoId, moveTodoRequestDTO, EntityTag.parseVersion(ifMatch)));
+
+    return ResponseEntity.ok().eTag(EntityTag.of(todo.version())).body(TodoResponseDTO.of(todo));
+  }
+
+  @PutMapping("/group/{groupId}/todo/{todoId}/position")
+  public ResponseEntity<TodoResponseDTO> moveTodoToPosition(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @PathVariable(name = "groupId") long groupId,
+      @PathVariable(name = "todoId") long todoId,
+      @RequestBody @Valid MoveTodoToPositionRequestDTO moveTodoToPositionRequestDTO,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
     long userId = authUser.getUserId();
 
     todoService.assertTodoAuthority(userId, groupId, todoId, GroupRole.MEMBER);
 
-    TodoDTO todo = todoService.moveTodo(MoveTodoDTO.of(todoId, moveTodoRequestDTO));
+    TodoDTO todo =
+        todoService.moveTodoToPosition(
+            MoveTodoToPositionDTO.of(
+                groupId, todoId, moveTodoToPositionRequestDTO, EntityTag.parseVersion(ifMatch)));
+
+    return ResponseEntity.ok().eTag(EntityTag.of(todo.version())).body(TodoResponseDTO.of(todo));
+  }
+
+  @PostMapping("/group/{groupId}/ops")
+  public ResponseEntity<List<TodoOperationResultResponseDTO>> applyOperations(
+      @AuthenticationPrincipal AuthUserDTO authUser,
+      @PathVariable(name = "groupId") long groupId,
+      @RequestBody @Valid TodoOperationsRequestDTO todoOperationsRequestDTO) {
+    long userId = authUser.getUserId();
+
+    List<TodoOperationResultResponseDTO> results =
+        todoService
+            .applyOperations(TodoOperationsDTO.of(userId, groupId, todoOperationsRequestDTO))
+            .stream()
+            .map(TodoOperationResultResponseDTO::of)
+            .toList();
 
-    return ResponseEntity.ok().body(TodoResponseDTO.of(todo));
+    return ResponseEntity.ok().body(results);
   }
 
   @PostMapping("/group/{groupId}/todo/{todoId}/star")
@@ -155,7 +260,7 @@ public class TodoController {
 
     todoService.assertTodoAuthority(userId, groupId, todoId, GroupRole.VIEWER);
 
-    todoService.starTodo(userId, todoId);
+    todoService.starTodo(userId, groupId, todoId);
     return ResponseEntity.status(HttpStatus.CREATED).build();
   }
 
@@ -168,7 +273,7 @@ public class TodoController {
 
     todoService.assertTodoAuthority(userId, groupId, todoId, GroupRole.VIEWER);
 
-    todoService.unstarTodo(userId, todoId);
+    todoService.unstarTodo(userId, groupId, todoId);
     return ResponseEntity.noContent().build();
   }
 }
@@ -0,0 +1,10 @@
+package rest.felix.back.todo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CreateTodosRequestDTO(
+    @NotEmpty @Size(max = 500) List<@Valid @NotNull CreateTodoRequestDTO> todos) {}
@@ -2,8 +2,15 @@ package rest.felix.back.todo.dto;
 
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 
-public record MoveTodoDTO(long todoId, TodoStatus todoStatus, String order) {
-  public static MoveTodoDTO of(long todoId, MoveTodoRequestDTO moveTodoRequestDTO) {
-    return new MoveTodoDTO(todoId, moveTodoRequestDTO.todoStatus(), moveTodoRequestDTO.order());
+public record MoveTodoDTO(
+    long groupId, long todoId, TodoStatus todoStatus, String order, Long version) {
+  public MoveTodoDTO(long groupId, long todoId, TodoStatus todoStatus, String order) {
+    this(groupId, todoId, todoStatus, order, null);
+  }
+
+  public static MoveTodoDTO of(
+      long groupId, long todoId, MoveTodoRequestDTO moveTodoRequestDTO, Long version) {
+    return new MoveTodoDTO(
+        groupId, todoId, moveTodoRequestDTO.todoStatus(), moveTodoRequestDTO.order(), version);
   }
 }
@@ -0,0 +1,30 @@
+package rest.felix.back.todo.dto;
+
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+public record MoveTodoToPositionDTO(
+    long groupId,
+    long todoId,
+    TodoStatus todoStatus,
+    Long beforeTodoId,
+    Long afterTodoId,
+    Long version) {
+  public MoveTodoToPositionDTO(
+      long groupId, long todoId, TodoStatus todoStatus, Long beforeTodoId, Long afterTodoId) {
+    this(groupId, todoId, todoStatus, beforeTodoId, afterTodoId, null);
+  }
+
+  public static MoveTodoToPositionDTO of(
+      long groupId,
+      long todoId,
+      MoveTodoToPositionRequestDTO moveTodoToPositionRequestDTO,
+      Long version) {
+    return new MoveTodoToPositionDTO(
+        groupId,
+        todoId,
+        moveTodoToPositionRequestDTO.todoStatus(),
+        moveTodoToPositionRequestDTO.beforeTodoId(),
+        moveTodoToPositionRequestDTO.afterTodoId(),
+        version);
+  }
+}
@@ -0,0 +1,13 @@
+package rest.felix.back.todo.dto;
+
+import jakarta.validation.constraints.NotNull;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+/**
+ * 이웃 todo 기준 이동 요청
+ *
+ * <p>beforeTodoId는 이동한 todo 바로 앞에, afterTodoId는 바로 뒤에 올 todo이다. 둘 다 없으면 column의 맨 뒤로
+ * 이동하고, 둘 다 있으면 beforeTodoId를 기준으로 한다.
+ */
+public record MoveTodoToPositionRequestDTO(
+    @NotNull TodoStatus todoStatus, Long beforeTodoId, Long afterTodoId) {}
@@ -0,0 +1,34 @@
+package rest.felix.back.todo.dto;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import rest.felix.back.common.exception.throwable.badrequest.InvalidCursorException;
+
+/** star 목록의 keyset cursor. (starredAt, starId)를 "ISO instant_starId" 문자열로 주고받는다. */
+public record StarCursorDTO(ZonedDateTime starredAt, long starId) {
+
+  private static final char SEPARATOR = '_';
+
+  public static StarCursorDTO of(StarredTodoDTO dto) {
+    return new StarCursorDTO(dto.starredAt(), dto.starId());
+  }
+
+  public static StarCursorDTO parse(String cursor) {
+    int separator = cursor.lastIndexOf(SEPARATOR);
+    if (separator < 0) throw new InvalidCursorException();
+
+    try {
+      return new StarCursorDTO(
+          Instant.parse(cursor.substring(0, separator)).atZone(ZoneOffset.UTC),
+          Long.parseLong(cursor.substring(separator + 1)));
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  public String encode() {
+    return starredAt.toInstant().toString() + SEPARATOR + starId;
+  }
+}
@@ -0,0 +1,3 @@
+package rest.felix.back.todo.dto;
+
+public record StarIntentDTO(long userId, long groupId, long todoId, boolean starred) {}
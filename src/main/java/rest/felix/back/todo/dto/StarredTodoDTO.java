@@ -0,0 +1,12 @@
+package rest.felix.back.todo.dto;
+
+import java.time.ZonedDateTime;
+import rest.felix.back.todo.entity.UserTodoStar;
+
+public record StarredTodoDTO(long starId, ZonedDateTime starredAt, TodoDTO todo) {
+
+  public static StarredTodoDTO of(UserTodoStar userTodoStar) {
+    return new StarredTodoDTO(
+        userTodoStar.getId(), userTodoStar.getCreatedAt(), TodoDTO.of(userTodoStar.getTodo()));
+  }
+}
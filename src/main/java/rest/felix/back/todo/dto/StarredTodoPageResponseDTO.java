@@ -0,0 +1,12 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+
+public record StarredTodoPageResponseDTO(List<TodoResponseDTO> todos, String nextCursor) {
+
+  public static StarredTodoPageResponseDTO of(StarredTodoPageDTO starredTodoPageDTO) {
+    return new StarredTodoPageResponseDTO(
+        starredTodoPageDTO.todos().stream().map(TodoResponseDTO::of).toList(),
+        starredTodoPageDTO.nextCursor());
+  }
+}
@@ -0,0 +1,17 @@
+package rest.felix.back.todo.dto;
+
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+/**
+ * 일괄 처리에서 todo 하나에 쓸 값. 같은 요청에서 여러 번 바꾼 todo는 마지막 값만 담는다.
+ *
+ * @param version 요청 처음에 읽은 version. 이 version일 때만 쓴다.
+ */
+public record TodoChangeDTO(
+    long id, String title, String description, TodoStatus todoStatus, String order, long version) {
+
+  public static TodoChangeDTO of(TodoDTO todo, long version) {
+    return new TodoChangeDTO(
+        todo.id(), todo.title(), todo.description(), todo.status(), todo.order(), version);
+  }
+}
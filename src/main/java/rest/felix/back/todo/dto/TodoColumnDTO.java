@@ -0,0 +1,5 @@
+package rest.felix.back.todo.dto;
+
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+public record TodoColumnDTO(long groupId, TodoStatus todoStatus) {}
@@ -1,6 +1,7 @@
 package rest.felix.back.todo.dto;
 
 import java.time.LocalDate;
+import rest.felix.back.todo.entity.ArchivedTodo;
 import rest.felix.back.todo.entity.Todo;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 
@@ -14,7 +15,8 @@ public record TodoDTO(
     LocalDate dueDate,
     long authorId,
     long groupId,
-    Long assigneeId) {
+    Long assigneeId,
+    long version) {
 
   public static TodoDTO of(Todo todo) {
     return new TodoDTO(
@@ -27,6 +29,23 @@ public record TodoDTO(
         todo.getDueDate(),
         todo.getAuthor().getId(),
         todo.getGroup().getId(),
-        todo.getAssignee() != null ? todo.getAssignee().getId() : null);
+        todo.getAssignee() != null ? todo.getAssignee().getId() : null,
+        todo.getVersion());
+  }
+
+  /** 보관된 todo는 DONE이며 더 이상 수정하지 않으므로 version은 0으로 둔다. */
+  public static TodoDTO of(ArchivedTodo todo) {
+    return new TodoDTO(
+        todo.getId(),
+        todo.getTitle(),
+        todo.getDescription(),
+        todo.getOrder(),
+        TodoStatus.DONE,
+        todo.isImportant(),
+        todo.getDueDate(),
+        todo.getAuthorId(),
+        todo.getGroupId(),
+        todo.getAssigneeId(),
+        0L);
   }
 }
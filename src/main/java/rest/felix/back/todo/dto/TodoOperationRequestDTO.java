@@ -0,0 +1,51 @@
+package rest.felix.back.todo.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+/**
+ * 일괄 처리 요청의 작업 하나. type에 따라 필요한 필드만 채운다.
+ *
+ * <ul>
+ *   <li>CREATE: title, description (dueDate, assigneeId 선택)
+ *   <li>UPDATE: todoId와 title, description 중 하나 이상 (version 선택)
+ *   <li>MOVE: todoId, todoStatus, order (version 선택)
+ *   <li>DELETE, STAR, UNSTAR: todoId
+ * </ul>
+ */
+public record TodoOperationRequestDTO(
+    @NotNull TodoOperationType type,
+    Long todoId,
+    @Size(max = 100) String title,
+    @Size(max = 1000) String description,
+    LocalDate dueDate,
+    Long assigneeId,
+    TodoStatus todoStatus,
+    String order,
+    Long version) {
+
+  @AssertTrue(message = "todoId is required for this operation.")
+  private boolean isTodoIdValid() {
+    return type == null || !type.requiresTodoId() || todoId != null;
+  }
+
+  @AssertTrue(message = "title and description are required to create a todo.")
+  private boolean isCreateValid() {
+    return type != TodoOperationType.CREATE || (title != null && description != null);
+  }
+
+  @AssertTrue(message = "title or description is required to update a todo.")
+  private boolean isUpdateValid() {
+    return type != TodoOperationType.UPDATE || title != null || description != null;
+  }
+
+  @AssertTrue(message = "todoStatus and order are required to move a todo.")
+  private boolean isMoveValid() {
+    return type != TodoOperationType.MOVE
+        || (todoStatus != null && order != null && !order.isEmpty());
+  }
+}
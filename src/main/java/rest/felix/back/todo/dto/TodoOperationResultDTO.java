@@ -0,0 +1,9 @@
+package rest.felix.back.todo.dto;
+
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
+
+/**
+ * @param todo 작업 후의 Todo. DELETE, STAR, UNSTAR는 null
+ */
+public record TodoOperationResultDTO(
+    int index, TodoOperationType type, long todoId, TodoDTO todo) {}
@@ -0,0 +1,15 @@
+package rest.felix.back.todo.dto;
+
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
+
+public record TodoOperationResultResponseDTO(
+    int index, TodoOperationType type, long todoId, TodoResponseDTO todo) {
+
+  public static TodoOperationResultResponseDTO of(TodoOperationResultDTO dto) {
+    return new TodoOperationResultResponseDTO(
+        dto.index(),
+        dto.type(),
+        dto.todoId(),
+        dto.todo() != null ? TodoResponseDTO.of(dto.todo()) : null);
+  }
+}
@@ -0,0 +1,11 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+
+public record TodoOperationsDTO(
+    long userId, long groupId, List<TodoOperationRequestDTO> operations) {
+
+  public static TodoOperationsDTO of(long userId, long groupId, TodoOperationsRequestDTO dto) {
+    return new TodoOperationsDTO(userId, groupId, dto.operations());
+  }
+}
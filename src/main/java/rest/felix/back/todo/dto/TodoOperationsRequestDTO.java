@@ -0,0 +1,10 @@
+package rest.felix.back.todo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TodoOperationsRequestDTO(
+    @NotEmpty @Size(max = 100) List<@Valid @NotNull TodoOperationRequestDTO> operations) {}
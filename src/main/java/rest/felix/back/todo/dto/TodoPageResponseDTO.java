@@ -0,0 +1,11 @@
+package rest.felix.back.todo.dto;
+
+import java.util.List;
+
+public record TodoPageResponseDTO(List<TodoResponseDTO> todos, Long nextCursor) {
+
+  public static TodoPageResponseDTO of(TodoPageDTO todoPageDTO) {
+    return new TodoPageResponseDTO(
+        todoPageDTO.todos().stream().map(TodoResponseDTO::of).toList(), todoPageDTO.nextCursor());
+  }
+}
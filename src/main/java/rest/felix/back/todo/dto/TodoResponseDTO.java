@@ -1,8 +1,11 @@
 package rest.felix.back.todo.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.time.LocalDate;
+import rest.felix.back.todo.dto.serializer.TodoResponseDTOSerializer;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 
+@JsonSerialize(using = TodoResponseDTOSerializer.class)
 public record TodoResponseDTO(
     long id,
     String title,
@@ -13,7 +16,8 @@ public record TodoResponseDTO(
     LocalDate dueDate,
     long authorId,
     long groupId,
-    Long assigneeId) {
+    Long assigneeId,
+    long version) {
   public static TodoResponseDTO of(TodoDTO todoDTO) {
     return new TodoResponseDTO(
         todoDTO.id(),
@@ -25,6 +29,7 @@ public record TodoResponseDTO(
         todoDTO.dueDate(),
         todoDTO.authorId(),
         todoDTO.groupId(),
-        todoDTO.assigneeId());
+        todoDTO.assigneeId(),
+        todoDTO.version());
   }
 }
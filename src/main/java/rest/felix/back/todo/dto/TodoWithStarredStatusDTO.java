@@ -13,9 +13,11 @@ public record TodoWithStarredStatusDTO(
     boolean isImportant,
     LocalDate dueDate,
     boolean isStarred,
+    long starCount,
     long authorId,
     long groupId,
-    Long assigneeId) {
+    Long assigneeId,
+    long version) {
 
   public static TodoWithStarredStatusDTO of(Todo todo, boolean isStarred) {
     return new TodoWithStarredStatusDTO(
@@ -27,8 +29,30 @@ public record TodoWithStarredStatusDTO(
         todo.isImportant(),
         todo.getDueDate(),
         isStarred,
+        todo.getStarCount(),
         todo.getAuthor().getId(),
         todo.getGroup().getId(),
-        todo.getAssignee() != null ? todo.getAssignee().getId() : null);
+        todo.getAssignee() != null ? todo.getAssignee().getId() : null,
+        todo.getVersion());
+  }
+
+  /** star 여부를 바꾸고, 바뀌었으면 starCount도 함께 맞춘다. */
+  public TodoWithStarredStatusDTO withStarred(boolean starred) {
+    if (starred == isStarred) return this;
+
+    return new TodoWithStarredStatusDTO(
+        id,
+        title,
+        description,
+        order,
+        status,
+        isImportant,
+        dueDate,
+        starred,
+        starred ? starCount + 1 : Math.max(starCount - 1, 0),
+        authorId,
+        groupId,
+        assigneeId,
+        version);
   }
 }
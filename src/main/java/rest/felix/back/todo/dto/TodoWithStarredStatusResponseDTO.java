@@ -1,8 +1,11 @@
 package rest.felix.back.todo.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.time.LocalDate;
+import rest.felix.back.todo.dto.serializer.TodoWithStarredStatusResponseDTOSerializer;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 
+@JsonSerialize(using = TodoWithStarredStatusResponseDTOSerializer.class)
 public record TodoWithStarredStatusResponseDTO(
     long id,
     String title,
@@ -12,9 +15,11 @@ public record TodoWithStarredStatusResponseDTO(
     boolean isImportant,
     LocalDate dueDate,
     boolean isStarred,
+    long starCount,
     long authorId,
     long groupId,
-    Long assigneeId) {
+    Long assigneeId,
+    long version) {
 
   public static TodoWithStarredStatusResponseDTO of(TodoWithStarredStatusDTO dto) {
     return new TodoWithStarredStatusResponseDTO(
@@ -26,8 +31,10 @@ public record TodoWithStarredStatusResponseDTO(
         dto.isImportant(),
         dto.dueDate(),
         dto.isStarred(),
+        dto.starCount(),
         dto.authorId(),
         dto.groupId(),
-        dto.assigneeId());
+        dto.assigneeId(),
+        dto.version());
   }
 }
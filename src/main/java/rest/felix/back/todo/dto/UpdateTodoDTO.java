@@ -1,3 +1,11 @@
 package rest.felix.back.todo.dto;
 
-public record UpdateTodoDTO(long id, String title, String description) {}
+/**
+ * @param version If-Match로 받은 version. null이면 version을 확인하지 않는다.
+ */
+public record UpdateTodoDTO(
+    long groupId, long id, String title, String description, Long version) {
+  public UpdateTodoDTO(long groupId, long id, String title, String description) {
+    this(groupId, id, title, description, null);
+  }
+}
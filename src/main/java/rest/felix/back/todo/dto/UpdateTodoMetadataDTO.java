@@ -4,11 +4,24 @@ import java.time.LocalDate;
 import rest.felix.back.common.util.NullableField;
 
 public record UpdateTodoMetadataDTO(
+    long groupId,
     long todoId,
     NullableField<Boolean> isImportant,
     NullableField<LocalDate> dueDate,
-    NullableField<Long> assigneeId) {
-  public static UpdateTodoMetadataDTO of(long todoId, UpdateTodoMetadataRequestDTO dto) {
-    return new UpdateTodoMetadataDTO(todoId, dto.isImportant(), dto.dueDate(), dto.assigneeId());
+    NullableField<Long> assigneeId,
+    Long version) {
+  public UpdateTodoMetadataDTO(
+      long groupId,
+      long todoId,
+      NullableField<Boolean> isImportant,
+      NullableField<LocalDate> dueDate,
+      NullableField<Long> assigneeId) {
+    this(groupId, todoId, isImportant, dueDate, assigneeId, null);
+  }
+
+  public static UpdateTodoMetadataDTO of(
+      long groupId, long todoId, UpdateTodoMetadataRequestDTO dto, Long version) {
+    return new UpdateTodoMetadataDTO(
+        groupId, todoId, dto.isImportant(), dto.dueDate(), dto.assigneeId(), version);
   }
 }
@@ -0,0 +1,68 @@
+package rest.felix.back.todo.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import rest.felix.back.todo.dto.TodoWithStarredStatusResponseDTO;
+
+/** 그룹 상세 조회의 보드 목록을 bean serializer 없이 필드 단위로 기록한다. */
+public class TodoWithStarredStatusResponseDTOSerializer
+    extends StdSerializer<TodoWithStarredStatusResponseDTO> {
+
+  private static final SerializedString ID = new SerializedString("id");
+  private static final SerializedString TITLE = new SerializedString("title");
+  private static final SerializedString DESCRIPTION = new SerializedString("description");
+  private static final SerializedString ORDER = new SerializedString("order");
+  private static final SerializedString STATUS = new SerializedString("status");
+  private static final SerializedString IS_IMPORTANT = new SerializedString("isImportant");
+  private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+  private static final SerializedString IS_STARRED = new SerializedString("isStarred");
+  private static final SerializedString STAR_COUNT = new SerializedString("starCount");
+  private static final SerializedString AUTHOR_ID = new SerializedString("authorId");
+  private static final SerializedString GROUP_ID = new SerializedString("groupId");
+  private static final SerializedString ASSIGNEE_ID = new SerializedString("assigneeId");
+  private static final SerializedString VERSION = new SerializedString("version");
+
+  public TodoWithStarredStatusResponseDTOSerializer() {
+    super(TodoWithStarredStatusResponseDTO.class);
+  }
+
+  @Override
+  public void serialize(
+      TodoWithStarredStatusResponseDTO dto, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    gen.writeStartObject(dto);
+
+    gen.writeFieldName(ID);
+    gen.writeNumber(dto.id());
+    gen.writeFieldName(TITLE);
+    gen.writeString(dto.title());
+    gen.writeFieldName(DESCRIPTION);
+    gen.writeString(dto.description());
+    gen.writeFieldName(ORDER);
+    gen.writeString(dto.order());
+    gen.writeFieldName(STATUS);
+    gen.writeString(dto.status() != null ? dto.status().name() : null);
+    gen.writeFieldName(IS_IMPORTANT);
+    gen.writeBoolean(dto.isImportant());
+    gen.writeFieldName(DUE_DATE);
+    provider.defaultSerializeValue(dto.dueDate(), gen);
+    gen.writeFieldName(IS_STARRED);
+    gen.writeBoolean(dto.isStarred());
+    gen.writeFieldName(STAR_COUNT);
+    gen.writeNumber(dto.starCount());
+    gen.writeFieldName(AUTHOR_ID);
+    gen.writeNumber(dto.authorId());
+    gen.writeFieldName(GROUP_ID);
+    gen.writeNumber(dto.groupId());
+    gen.writeFieldName(ASSIGNEE_ID);
+    if (dto.assigneeId() != null) gen.writeNumber(dto.assigneeId());
+    else gen.writeNull();
+    gen.writeFieldName(VERSION);
+    gen.writeNumber(dto.version());
+
+    gen.writeEndObject();
+  }
+}
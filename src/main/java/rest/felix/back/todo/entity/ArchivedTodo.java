@@ -0,0 +1,58 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 오래된 DONE todo를 옮겨 두는 테이블.
+ *
+ * <p>TodoArchiver가 todo에서 옮겨 오므로 id는 원래 todo의 id를 그대로 쓴다. 연관 대신 id만 보관해서 todo 테이블과 같은 FK를
+ * 유지하지 않는다.
+ */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(indexes = @Index(name = "archived_todo_group_id_id_idx", columnList = "group_id, id"))
+public class ArchivedTodo {
+
+  @Id private Long id;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  @Column(nullable = false)
+  private Long authorId;
+
+  @Column(nullable = true)
+  private Long assigneeId;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(nullable = false, length = 1000)
+  private String description;
+
+  @Column(nullable = false)
+  private String order;
+
+  @Column(nullable = true)
+  private LocalDate dueDate;
+
+  @Column(nullable = false)
+  private boolean isImportant = false;
+
+  @Column(nullable = false, updatable = false)
+  private ZonedDateTime createdAt;
+
+  // todo가 마지막으로 바뀐 시각. DONE으로 옮긴 시각에 해당한다.
+  @Column(nullable = true, updatable = false)
+  private ZonedDateTime completedAt;
+
+  @Column(nullable = false, updatable = false)
+  private ZonedDateTime archivedAt;
+}
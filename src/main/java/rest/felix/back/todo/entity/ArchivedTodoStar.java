@@ -0,0 +1,39 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 보관된 todo에 달려 있던 star.
+ *
+ * <p>TodoArchiver가 todo와 함께 user_todo_star에서 옮겨 오므로 id는 원래 star의 id를 그대로 쓴다. ArchivedTodo처럼 연관
+ * 대신 id만 보관한다.
+ */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(
+    indexes =
+        @Index(
+            name = "archived_todo_star_group_id_todo_id_idx",
+            columnList = "group_id, todo_id"))
+public class ArchivedTodoStar {
+
+  @Id private Long id;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private Long todoId;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  @Column(nullable = false, updatable = false)
+  private ZonedDateTime createdAt;
+}
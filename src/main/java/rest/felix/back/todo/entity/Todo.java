@@ -7,7 +7,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
@@ -17,11 +19,14 @@ import rest.felix.back.user.entity.User;
 @Getter
 @Setter
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "order", "todo_status"}))
+@DynamicUpdate
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "todo_status", "order"}))
 public class Todo {
 
+  // IDENTITY는 insert마다 id를 돌려받아야 해서 JDBC batch insert가 꺼진다. sequence를 50개씩 미리 받아 쓴다.
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+  @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
   @Setter(AccessLevel.NONE)
   private Long id;
 
@@ -53,6 +58,20 @@ public class Todo {
   @Column(nullable = false)
   private boolean isImportant = false;
 
+  // 보드에서 star 수를 user_todo_star에서 세지 않도록 star, unstar 때 같은 transaction에서 함께 바꾼다.
+  // 기존 row는 006_todo_star_count.sql이 채운다.
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  @Setter(AccessLevel.NONE)
+  private long starCount = 0;
+
+  // 기존 row에도 컬럼을 추가할 수 있도록 default를 둔다.
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  @Setter(AccessLevel.NONE)
+  private Long version;
+
   @CreationTimestamp
   @Column(nullable = false, updatable = false)
   private ZonedDateTime createdAt;
@@ -0,0 +1,38 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+/**
+ * column(group, status)마다 하나씩 두는 lock row.
+ *
+ * <p>이웃의 order를 읽고 새 order를 쓰는 이동과 재정렬이 이 row를 잠근다. 같은 column에 쓰는 요청만 서로 기다리고, 같은 그룹의 다른
+ * column은 기다리지 않는다.
+ */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "todo_status"}))
+public class TodoColumnLock {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_column_lock_seq")
+  @SequenceGenerator(
+      name = "todo_column_lock_seq",
+      sequenceName = "todo_column_lock_seq",
+      allocationSize = 50)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private TodoStatus todoStatus;
+}
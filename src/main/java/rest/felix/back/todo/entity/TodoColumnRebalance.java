@@ -0,0 +1,42 @@
+package rest.felix.back.todo.entity;
+
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+/**
+ * order key가 길어져 재정렬이 필요할 수 있는 column(group, status) 표시.
+ *
+ * <p>긴 key를 쓴 이동이 남기고 TodoOrderRebalancer가 확인한 뒤 지운다. 재정렬할 column을 찾을 때 todo 전체 대신 표시된
+ * column만 확인한다.
+ */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "todo_status"}))
+public class TodoColumnRebalance {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_column_rebalance_seq")
+  @SequenceGenerator(
+      name = "todo_column_rebalance_seq",
+      sequenceName = "todo_column_rebalance_seq",
+      allocationSize = 50)
+  @Setter(AccessLevel.NONE)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long groupId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private TodoStatus todoStatus;
+
+  @Column(nullable = false, updatable = false)
+  private ZonedDateTime createdAt;
+}
@@ -8,17 +8,26 @@ import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import rest.felix.back.group.entity.Group;
 import rest.felix.back.user.entity.User;
 
 @ToString
 @Getter
 @Setter
 @Entity
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "todo_id"}))
+// 내가 star한 todo 목록을 최근 순으로 읽는 keyset 조회에 쓴다.
+@Table(
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "todo_id"}),
+    indexes =
+        @Index(
+            name = "user_todo_star_user_id_created_at_idx",
+            columnList = "user_id, created_at, id"))
 public class UserTodoStar {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_todo_star_seq")
+  @SequenceGenerator(
+      name = "user_todo_star_seq", sequenceName = "user_todo_star_seq", allocationSize = 50)
   @Setter(AccessLevel.NONE)
   private Long id;
 
@@ -30,6 +39,12 @@ public class UserTodoStar {
   @JoinColumn(name = "todo_id", nullable = false)
   private Todo todo;
 
+  // todo의 group_id를 복사해 둔다. partition 모드에서 user_todo_star의 partition key로 쓰이고, 기존 row는
+  // 005_user_todo_star_group_id.sql이 채운다.
+  @ManyToOne(optional = true, fetch = FetchType.LAZY)
+  @JoinColumn(name = "group_id", nullable = true)
+  private Group group;
+
   @CreationTimestamp
   @Column(nullable = false, updatable = false)
   private ZonedDateTime createdAt;
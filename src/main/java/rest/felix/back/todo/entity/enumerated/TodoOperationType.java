@@ -0,0 +1,14 @@
+package rest.felix.back.todo.entity.enumerated;
+
+public enum TodoOperationType {
+  CREATE,
+  UPDATE,
+  MOVE,
+  DELETE,
+  STAR,
+  UNSTAR;
+
+  public boolean requiresTodoId() {
+    return this != CREATE;
+  }
+}
@@ -0,0 +1,9 @@
+package rest.felix.back.todo.exception;
+
+import rest.felix.back.common.exception.throwable.preconditionFailed.PreconditionFailedException;
+
+public class TodoVersionMismatchException extends PreconditionFailedException {
+  public TodoVersionMismatchException() {
+    super("The todo has been modified by another request.");
+  }
+}
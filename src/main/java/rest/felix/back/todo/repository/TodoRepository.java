@@ -1,21 +1,35 @@
 package rest.felix.back.todo.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.todo.dto.*;
+import rest.felix.back.todo.entity.ArchivedTodo;
 import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.TodoColumnLock;
 import rest.felix.back.todo.entity.UserTodoStar;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.exception.DestinationNotFoundException;
+import rest.felix.back.todo.exception.DuplicateTodoOrderException;
 import rest.felix.back.todo.exception.TodoNotFoundException;
+import rest.felix.back.todo.exception.TodoVersionMismatchException;
 import rest.felix.back.todo.service.OrderGenerator;
 import rest.felix.back.user.entity.User;
 
@@ -23,6 +37,9 @@ import rest.felix.back.user.entity.User;
 @AllArgsConstructor
 public class TodoRepository {
 
+  private static final String TEMPORARY_ORDER_PREFIX = "~";
+  private static final int MAX_APPEND_ATTEMPTS = 10;
+
   private final EntityManager em;
 
   @Transactional(readOnly = true)
@@ -58,14 +75,19 @@ public class TodoRepository {
                                   t.isImportant,
                                   t.dueDate,
                                   CASE WHEN uts.id IS NOT NULL THEN TRUE ELSE FALSE END,
+                                  t.starCount,
                                   au.id,
                                   t.group.id,
-                                  asi.id
+                                  asi.id,
+                                  t.version
                                 )
                                 FROM Todo t
                                 JOIN t.author au
                                 LEFT JOIN t.assignee asi
-                                LEFT JOIN UserTodoStar uts ON uts.todo.id = t.id AND uts.user.id = :userId
+                                LEFT JOIN UserTodoStar uts
+                                  ON uts.group.id = :groupId
+                                  AND uts.todo.id = t.id
+                                  AND uts.user.id = :userId
                                 WHERE t.group.id = :groupId
                                 ORDER BY t.order ASC
                                 """,
@@ -75,31 +97,6 @@ public class TodoRepository {
         .getResultList();
   }
 
-  @Transactional(readOnly = true)
-  public Optional<TodoCountDTO> findTodoCountsByGroupId(Long groupId) {
-    try {
-      return Optional.of(
-          em.createQuery(
-                  """
-                                            SELECT new rest.felix.back.todo.dto.TodoCountDTO(
-                                                g.id,
-                                                COUNT(t),
-                                                SUM(CASE WHEN t.todoStatus = TodoStatus.DONE THEN 1 ELSE 0 END)
-                                            )
-                                            FROM Group g
-                                            LEFT JOIN g.todos t
-                                            WHERE g.id = :groupId
-                                            GROUP BY g.id
-                                            """,
-                  TodoCountDTO.class)
-              .setParameter("groupId", groupId)
-              .getSingleResult());
-
-    } catch (NoResultException e) {
-      return Optional.empty();
-    }
-  }
-
   @Transactional(readOnly = true)
   public Map<Long, TodoCountDTO> findTodoCountsByGroupIds(List<Long> groupIds) {
     return em
@@ -107,13 +104,14 @@ public class TodoRepository {
             """
                                 SELECT new rest.felix.back.todo.dto.TodoCountDTO(
                                     g.id,
-                                    COUNT(t),
+                                    COUNT(t) + g.archivedTodoCount,
                                     SUM(CASE WHEN t.todoStatus = TodoStatus.DONE THEN 1 ELSE 0 END)
+                                      + g.archivedTodoCount
                                 )
                                 FROM Group g
-                                LEFT JOIN g.todos t
+                                LEFT JOIN g.todos t ON t.group.id IN :groupIds
                                 WHERE g.id IN :groupIds
-                                GROUP BY g.id
+                                GROUP BY g.id, g.archivedTodoCount
                                 """,
             TodoCountDTO.class)
         .setParameter("groupIds", groupIds)
@@ -142,207 +140,1013 @@ public class TodoRepository {
         .map(TodoDTO::of);
   }
 
+  @Transactional(readOnly = true)
+  public Map<Long, TodoDTO> findByGroupIdAndIds(long groupId, Collection<Long> todoIds) {
+    if (todoIds.isEmpty()) return Map.of();
+
+    return em
+        .createQuery(
+            """
+                                SELECT t
+                                FROM Todo t
+                                WHERE t.group.id = :groupId AND t.id IN :todoIds
+                                """,
+            Todo.class)
+        .setParameter("groupId", groupId)
+        .setParameter("todoIds", todoIds)
+        .getResultList()
+        .stream()
+        .map(TodoDTO::of)
+        .collect(Collectors.toMap(TodoDTO::id, dto -> dto));
+  }
+
   @Transactional
   public TodoDTO createTodo(CreateTodoDTO createTodoDTO) {
-    Todo todo = new Todo();
+    long groupId = createTodoDTO.groupId();
+    TodoStatus defaultTodoStatus = TodoStatus.TO_DO;
+    ZonedDateTime now = ZonedDateTime.now();
+
+    // lock 없이 column의 마지막 order 뒤에 INSERT ... ON CONFLICT DO NOTHING으로 붙인다.
+    // 다른 append가 같은 order를 먼저 썼으면 추가된 row가 없으므로, 마지막 order를 다시 읽어 재시도한다.
+    for (int attempt = 0; attempt < MAX_APPEND_ATTEMPTS; attempt++) {
+      String order = OrderGenerator.generate(findLastOrder(groupId, defaultTodoStatus), null);
+
+      int inserted =
+          em.createQuery(
+                  """
+                                    INSERT INTO Todo (
+                                      author, group, assignee, title, description, todoStatus,
+                                      order, dueDate, isImportant, createdAt, updatedAt
+                                    )
+                                    VALUES (
+                                      :author, :group, :assignee, :title, :description, :todoStatus,
+                                      :order, :dueDate, FALSE, :now, :now
+                                    )
+                                    ON CONFLICT DO NOTHING
+                                    """)
+              .setParameter("author", em.getReference(User.class, createTodoDTO.authorId()))
+              .setParameter("group", em.getReference(Group.class, groupId))
+              .setParameter(
+                  "assignee",
+                  createTodoDTO.assigneeId() != null
+                      ? em.getReference(User.class, createTodoDTO.assigneeId())
+                      : null)
+              .setParameter("title", createTodoDTO.title())
+              .setParameter("description", createTodoDTO.description())
+              .setParameter("todoStatus", defaultTodoStatus)
+              .setParameter("order", order)
+              .setParameter("dueDate", createTodoDTO.dueDate())
+              .setParameter("now", now)
+              .executeUpdate();
 
-    User author = em.getReference(User.class, createTodoDTO.authorId());
-    Group group = em.getReference(Group.class, createTodoDTO.groupId());
-    User assignee =
-        createTodoDTO.assigneeId() != null
-            ? em.getReference(User.class, createTodoDTO.assigneeId())
-            : null;
+      if (inserted == 1) {
+        return em.createQuery(
+                """
+                                    SELECT t
+                                    FROM Todo t
+                                    WHERE t.group.id = :groupId
+                                      AND t.todoStatus = :todoStatus
+                                      AND t.order = :order
+                                    """,
+                Todo.class)
+            .setParameter("groupId", groupId)
+            .setParameter("todoStatus", defaultTodoStatus)
+            .setParameter("order", order)
+            .getResultList()
+            .stream()
+            .findFirst()
+            .map(TodoDTO::of)
+            .orElseThrow(TodoNotFoundException::new);
+      }
+    }
+
+    throw new DuplicateTodoOrderException();
+  }
 
+  /**
+   * 한 번에 추가하는 todo는 flush 때 JDBC batch로 나가므로 충돌한 row만 건너뛸 수 없다. 그 사이에 다른 append가 같은 order를
+   * 먼저 쓰면 unique 제약으로 실패하고, 호출한 쪽이 요청 전체를 거절한다.
+   */
+  @Transactional
+  public List<TodoDTO> createTodos(long groupId, List<CreateTodoDTO> createTodoDTOs) {
+    Group group = em.getReference(Group.class, groupId);
     TodoStatus defaultTodoStatus = TodoStatus.TO_DO;
 
-    todo.setAuthor(author);
-    todo.setGroup(group);
-    todo.setAssignee(assignee);
-    todo.setDueDate(createTodoDTO.dueDate());
-    todo.setTitle(createTodoDTO.title());
-    todo.setDescription(createTodoDTO.description());
-    todo.setTodoStatus(defaultTodoStatus);
+    String maxOrder = findLastOrder(groupId, defaultTodoStatus);
 
-    String maxOrder =
-        em.createQuery(
-                "SELECT MAX(t.order) FROM Todo t WHERE t.group = :group AND t.todoStatus = :todoStatus",
-                String.class)
-            .setParameter("group", group)
-            .setParameter("todoStatus", defaultTodoStatus)
-            .getSingleResult();
+    List<String> orders = OrderGenerator.generateAfter(maxOrder, createTodoDTOs.size());
+    List<Todo> todos = new ArrayList<>(createTodoDTOs.size());
 
-    String newOrder = OrderGenerator.generate(maxOrder, null);
+    for (int i = 0; i < createTodoDTOs.size(); i++) {
+      CreateTodoDTO createTodoDTO = createTodoDTOs.get(i);
+      Todo todo = new Todo();
 
-    todo.setOrder(newOrder);
+      todo.setAuthor(em.getReference(User.class, createTodoDTO.authorId()));
+      todo.setGroup(group);
+      todo.setAssignee(
+          createTodoDTO.assigneeId() != null
+              ? em.getReference(User.class, createTodoDTO.assigneeId())
+              : null);
+      todo.setDueDate(createTodoDTO.dueDate());
+      todo.setTitle(createTodoDTO.title());
+      todo.setDescription(createTodoDTO.description());
+      todo.setTodoStatus(defaultTodoStatus);
+      todo.setOrder(orders.get(i));
+
+      em.persist(todo);
+      todos.add(todo);
+    }
 
-    em.persist(todo);
+    // insert는 flush 때 hibernate.jdbc.batch_size 단위의 JDBC batch로 나간다.
+    em.flush();
+
+    return todos.stream().map(TodoDTO::of).toList();
+  }
+
+  /** (group_id, todo_status, order) unique index의 끝 한 칸만 읽는다. */
+  private String findLastOrder(long groupId, TodoStatus todoStatus) {
+    return em.createQuery(
+            """
+                                SELECT MAX(t.order)
+                                FROM Todo t
+                                WHERE t.group.id = :groupId AND t.todoStatus = :todoStatus
+                                """,
+            String.class)
+        .setParameter("groupId", groupId)
+        .setParameter("todoStatus", todoStatus)
+        .getSingleResult();
+  }
 
-    return TodoDTO.of(todo);
+  @Transactional
+  public void deleteById(long groupId, long todoId) {
+    deleteByIds(groupId, List.of(todoId));
   }
 
+  /** todo 수와 상관없이 star와 todo를 DELETE 한 번씩으로 지운다. */
   @Transactional
-  public void deleteById(long todoId) {
+  public void deleteByIds(long groupId, Collection<Long> todoIds) {
     em.createQuery(
             """
                                 DELETE FROM UserTodoStar uts
-                                WHERE uts.todo.id = :todoId
+                                WHERE uts.group.id = :groupId
+                                  AND uts.todo.id IN :todoIds
                                 """)
-        .setParameter("todoId", todoId)
+        .setParameter("groupId", groupId)
+        .setParameter("todoIds", todoIds)
         .executeUpdate();
     em.createQuery(
             """
                                 DELETE FROM Todo t
-                                WHERE t.id = :todoId
+                                WHERE t.group.id = :groupId
+                                  AND t.id IN :todoIds
                                 """)
-        .setParameter("todoId", todoId)
+        .setParameter("groupId", groupId)
+        .setParameter("todoIds", todoIds)
         .executeUpdate();
   }
 
   @Transactional
   public TodoDTO updateTodo(UpdateTodoDTO updateTodoDTO) {
-    Todo todo = findEntityById(updateTodoDTO.id()).orElseThrow(TodoNotFoundException::new);
+    Map<String, Object> assignments = new LinkedHashMap<>();
+
+    if (updateTodoDTO.title() != null) assignments.put("title", updateTodoDTO.title());
+
+    if (updateTodoDTO.description() != null)
+      assignments.put("description", updateTodoDTO.description());
+
+    return updateColumns(
+        updateTodoDTO.groupId(), updateTodoDTO.id(), updateTodoDTO.version(), assignments);
+  }
+
+  /**
+   * 일괄 처리에서 수정, 이동한 todo를 UPDATE 한 번으로 쓰고 version을 하나씩 올린다.
+   *
+   * <p>todo마다 새 값을 CASE로 고르고, 요청 처음에 읽은 version을 조건으로 둔다. 그 사이에 다른 요청이 바꾸거나 지운 todo가
+   * 있으면 OptimisticLockingFailureException을 던진다.
+   */
+  @Transactional
+  public Map<Long, TodoDTO> updateTodos(long groupId, List<TodoChangeDTO> changes) {
+    StringBuilder query = new StringBuilder("UPDATE Todo t SET ");
+    for (String attribute : List.of("title", "description", "todoStatus", "order")) {
+      query.append("t.").append(attribute).append(" = CASE t.id");
+      for (int i = 0; i < changes.size(); i++)
+        query.append(" WHEN :id").append(i).append(" THEN :").append(attribute).append(i);
+
+      // 조건에 걸린 row는 모두 WHEN에 걸린다. ELSE는 새 값의 타입을 속성에서 추론하도록 둔다.
+      query.append(" ELSE t.").append(attribute).append(" END, ");
+    }
+    query
+        .append("t.version = t.version + 1, t.updatedAt = :updatedAt ")
+        .append("WHERE t.group.id = :groupId AND (");
+    for (int i = 0; i < changes.size(); i++)
+      query
+          .append(i > 0 ? " OR " : "")
+          .append("(t.id = :id")
+          .append(i)
+          .append(" AND t.version = :version")
+          .append(i)
+          .append(")");
+    query.append(")");
+
+    Query update =
+        em.createQuery(query.toString())
+            .setParameter("updatedAt", ZonedDateTime.now())
+            .setParameter("groupId", groupId);
+
+    for (int i = 0; i < changes.size(); i++) {
+      TodoChangeDTO change = changes.get(i);
+      update
+          .setParameter("id" + i, change.id())
+          .setParameter("title" + i, change.title())
+          .setParameter("description" + i, change.description())
+          .setParameter("todoStatus" + i, change.todoStatus())
+          .setParameter("order" + i, change.order())
+          .setParameter("version" + i, change.version());
+    }
+
+    if (update.executeUpdate() != changes.size())
+      throw new OptimisticLockingFailureException("Todo was changed by another request.");
+
+    // reload와 같이 영속성 컨텍스트의 todo를 떼어 내고 group_id 조건으로 다시 읽는다.
+    List<Long> todoIds = changes.stream().map(TodoChangeDTO::id).toList();
+    todoIds.forEach(todoId -> em.detach(em.getReference(Todo.class, todoId)));
+
+    return findByGroupIdAndIds(groupId, todoIds);
+  }
 
-    if (updateTodoDTO.title() != null) todo.setTitle(updateTodoDTO.title());
+  /**
+   * 그룹의 Todo를 최대 limit개 지우고, 그 Todo에 달린 star와 함께 지운 row 수를 반환한다. 지울 Todo가 없으면 column lock
+   * row를 지운다.
+   */
+  @Transactional
+  public int deleteByGroupId(long groupId, int limit) {
+    List<Long> ids =
+        em.createQuery(
+                """
+                                    SELECT t.id
+                                    FROM Todo t
+                                    WHERE t.group.id = :groupId
+                                    """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(limit)
+            .getResultList();
+
+    // todo를 모두 지운 뒤에 column lock row를 지운다.
+    if (ids.isEmpty()) {
+      return em.createQuery(
+              """
+                                    DELETE FROM TodoColumnLock l
+                                    WHERE l.groupId = :groupId
+                                    """)
+          .setParameter("groupId", groupId)
+          .executeUpdate();
+    }
+
+    int stars =
+        em.createQuery(
+                """
+                                    DELETE FROM UserTodoStar uts
+                                    WHERE uts.group.id = :groupId
+                                      AND uts.todo.id IN :ids
+                                    """)
+            .setParameter("groupId", groupId)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    int todos =
+        em.createQuery(
+                """
+                                    DELETE FROM Todo t
+                                    WHERE t.group.id = :groupId
+                                      AND t.id IN :ids
+                                    """)
+            .setParameter("groupId", groupId)
+            .setParameter("ids", ids)
+            .executeUpdate();
+
+    return stars + todos;
+  }
 
-    if (updateTodoDTO.description() != null) todo.setDescription(updateTodoDTO.description());
+  /** 그룹의 보관된 todo를 최대 limit개 지우고, 그 todo에 달린 보관된 star와 함께 지운 row 수를 반환한다. */
+  @Transactional
+  public int deleteArchivedByGroupId(long groupId, int limit) {
+    List<Long> ids =
+        em.createQuery(
+                """
+                                    SELECT a.id
+                                    FROM ArchivedTodo a
+                                    WHERE a.groupId = :groupId
+                                    """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(limit)
+            .getResultList();
+
+    if (ids.isEmpty()) return 0;
 
-    return TodoDTO.of(todo);
+    int stars =
+        em.createQuery(
+                """
+                                    DELETE FROM ArchivedTodoStar s
+                                    WHERE s.groupId = :groupId
+                                      AND s.todoId IN :ids
+                                    """)
+            .setParameter("groupId", groupId)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    int todos =
+        em.createQuery(
+                """
+                                    DELETE FROM ArchivedTodo a WHERE a.id IN :ids
+                                    """)
+            .setParameter("ids", ids)
+            .executeUpdate();
+
+    return stars + todos;
+  }
+
+  /** 보관할 DONE todo가 있는 그룹을 최대 limit개 반환한다. */
+  @Transactional(readOnly = true)
+  public List<Long> findGroupsToArchive(ZonedDateTime completedBefore, int limit) {
+    return em.createQuery(
+            """
+                                SELECT DISTINCT t.group.id
+                                FROM Todo t
+                                WHERE t.todoStatus = TodoStatus.DONE
+                                  AND t.updatedAt < :completedBefore
+                                """,
+            Long.class)
+        .setParameter("completedBefore", completedBefore)
+        .setMaxResults(limit)
+        .getResultList();
   }
 
+  /**
+   * completedBefore 전에 마지막으로 바뀐 DONE todo를 최대 limit개 archived_todo로 옮기고 옮긴 수를 반환한다. 옮긴 todo의
+   * star는 archived_todo_star로 함께 옮긴다.
+   */
   @Transactional
-  public void deleteByGroupId(long groupId) {
+  public int archiveDoneTodos(
+      long groupId, ZonedDateTime completedBefore, ZonedDateTime archivedAt, int limit) {
+    // 재정렬(rebalanceOrders)과 같은 group row lock으로 같은 그룹의 재정렬, 보관이 겹치지 않도록 한다.
+    if (em.find(Group.class, groupId, LockModeType.PESSIMISTIC_WRITE) == null) return 0;
+
+    // 옮길 todo row를 잠가, 옮기는 도중에 moveTodo로 DONE에서 빠져나가는 todo가 없도록 한다.
+    List<Long> ids =
+        em.createQuery(
+                """
+                                    SELECT t.id
+                                    FROM Todo t
+                                    WHERE t.group.id = :groupId
+                                      AND t.todoStatus = TodoStatus.DONE
+                                      AND t.updatedAt < :completedBefore
+                                    ORDER BY t.id ASC
+                                    """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setParameter("completedBefore", completedBefore)
+            .setMaxResults(limit)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .getResultList();
+
+    if (ids.isEmpty()) return 0;
+
     em.createQuery(
             """
-                                DELETE FROM UserTodoStar uts
-                                WHERE uts.todo.id IN (
-                                  SELECT t.id FROM Todo t WHERE t.group.id = :groupId
+                                INSERT INTO ArchivedTodo (
+                                  id, groupId, authorId, assigneeId, title, description, order,
+                                  dueDate, isImportant, createdAt, completedAt, archivedAt
                                 )
+                                SELECT
+                                  t.id, t.group.id, t.author.id, t.assignee.id, t.title,
+                                  t.description, t.order, t.dueDate, t.isImportant, t.createdAt,
+                                  t.updatedAt, :archivedAt
+                                FROM Todo t
+                                WHERE t.group.id = :groupId
+                                  AND t.id IN :ids
                                 """)
+        .setParameter("archivedAt", archivedAt)
         .setParameter("groupId", groupId)
+        .setParameter("ids", ids)
         .executeUpdate();
     em.createQuery(
             """
-                                DELETE FROM Todo t WHERE t.group.id = :groupId
+                                INSERT INTO ArchivedTodoStar (
+                                  id, userId, todoId, groupId, createdAt
+                                )
+                                SELECT uts.id, uts.user.id, uts.todo.id, uts.group.id, uts.createdAt
+                                FROM UserTodoStar uts
+                                WHERE uts.group.id = :groupId
+                                  AND uts.todo.id IN :ids
                                 """)
         .setParameter("groupId", groupId)
+        .setParameter("ids", ids)
         .executeUpdate();
+    em.createQuery(
+            """
+                                DELETE FROM UserTodoStar uts
+                                WHERE uts.group.id = :groupId
+                                  AND uts.todo.id IN :ids
+                                """)
+        .setParameter("groupId", groupId)
+        .setParameter("ids", ids)
+        .executeUpdate();
+    int archived =
+        em.createQuery(
+                """
+                                    DELETE FROM Todo t
+                                    WHERE t.group.id = :groupId
+                                      AND t.id IN :ids
+                                    """)
+            .setParameter("groupId", groupId)
+            .setParameter("ids", ids)
+            .executeUpdate();
+    em.createQuery(
+            """
+                                UPDATE Group g
+                                SET g.archivedTodoCount = g.archivedTodoCount + :archived
+                                WHERE g.id = :groupId
+                                """)
+        .setParameter("archived", (long) archived)
+        .setParameter("groupId", groupId)
+        .executeUpdate();
+
+    return archived;
   }
 
+  /** 보관된 todo를 id 내림차순으로 cursor(마지막으로 받은 id) 다음부터 최대 limit개 반환한다. */
   @Transactional(readOnly = true)
-  public Optional<TodoDTO> findById(long todoId) {
-    return Optional.ofNullable(em.find(Todo.class, todoId)).map(TodoDTO::of);
+  public List<TodoDTO> findArchivedByGroupId(long groupId, Long cursor, int limit) {
+    String query =
+        """
+                                SELECT a
+                                FROM ArchivedTodo a
+                                WHERE a.groupId = :groupId
+                                """
+            + (cursor != null ? "AND a.id < :cursor " : "")
+            + "ORDER BY a.id DESC";
+
+    TypedQuery<ArchivedTodo> select =
+        em.createQuery(query, ArchivedTodo.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(limit);
+
+    if (cursor != null) {
+      select.setParameter("cursor", cursor);
+    }
+
+    return select.getResultList().stream().map(TodoDTO::of).toList();
   }
 
+  /**
+   * userId가 star한 todo를 최근에 star한 순서로 cursor 다음부터 최대 limit개 반환한다. 지금 속한 그룹의 todo만 반환한다.
+   *
+   * <p>(user_id, created_at, id) index를 거꾸로 읽는 keyset 조회다.
+   */
   @Transactional(readOnly = true)
-  private Optional<Todo> findEntityById(long todoId) {
-    try {
-      Todo todo =
-          em.createQuery("SELECT t FROM Todo t WHERE t.id = :todoId", Todo.class)
-              .setParameter("todoId", todoId)
-              .getSingleResult();
+  public List<StarredTodoDTO> findStarredByUserId(long userId, StarCursorDTO cursor, int limit) {
+    String query =
+        """
+                                SELECT uts
+                                FROM UserTodoStar uts
+                                JOIN FETCH uts.todo t
+                                JOIN UserGroup ug
+                                  ON ug.group.id = uts.group.id
+                                  AND ug.user.id = :userId
+                                JOIN ug.group g
+                                WHERE uts.user.id = :userId
+                                  AND g.deletedAt IS NULL
+                                """
+            + (cursor != null
+                ? """
+                                  AND (
+                                    uts.createdAt < :starredAt
+                                    OR (uts.createdAt = :starredAt AND uts.id < :starId)
+                                  )
+                                """
+                : "")
+            + "ORDER BY uts.createdAt DESC, uts.id DESC";
 
-      return Optional.of(todo);
+    TypedQuery<UserTodoStar> select =
+        em.createQuery(query, UserTodoStar.class)
+            .setParameter("userId", userId)
+            .setMaxResults(limit);
 
-    } catch (NoResultException e) {
-      return Optional.empty();
+    if (cursor != null) {
+      select.setParameter("starredAt", cursor.starredAt()).setParameter("starId", cursor.starId());
     }
+
+    return select.getResultList().stream().map(StarredTodoDTO::of).toList();
   }
 
+  /** todoIds 중 userId가 지금 속한 그룹의 todo만 반환한다. */
   @Transactional(readOnly = true)
-  public Optional<TodoDTO> findById(long groupId, long todoId) {
+  public List<TodoDTO> findByUserIdAndIds(long userId, Collection<Long> todoIds) {
+    if (todoIds.isEmpty()) return List.of();
+
+    return em
+        .createQuery(
+            """
+                                SELECT t
+                                FROM Todo t
+                                JOIN UserGroup ug
+                                  ON ug.group.id = t.group.id
+                                  AND ug.user.id = :userId
+                                JOIN ug.group g
+                                WHERE t.id IN :todoIds
+                                  AND g.deletedAt IS NULL
+                                ORDER BY t.id DESC
+                                """,
+            Todo.class)
+        .setParameter("userId", userId)
+        .setParameter("todoIds", todoIds)
+        .getResultList()
+        .stream()
+        .map(TodoDTO::of)
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  private Optional<Todo> findEntityById(long groupId, long todoId) {
     try {
       Todo todo =
           em.createQuery(
-                  "SELECT t FROM Todo t JOIN Group g ON t.group.id = :groupId WHERE t.id = :todoId",
-                  Todo.class)
-              .setParameter("todoId", todoId)
+                  "SELECT t FROM Todo t WHERE t.group.id = :groupId AND t.id = :todoId", Todo.class)
               .setParameter("groupId", groupId)
+              .setParameter("todoId", todoId)
               .getSingleResult();
 
-      return Optional.of(TodoDTO.of(todo));
+      return Optional.of(todo);
 
     } catch (NoResultException e) {
       return Optional.empty();
     }
   }
 
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public TodoDTO moveTodo(long targetId, TodoStatus todoStatus, String order) {
-    Todo todo = findEntityById(targetId).orElseThrow(TodoNotFoundException::new);
+  @Transactional(readOnly = true)
+  public Optional<TodoDTO> findById(long groupId, long todoId) {
+    return findEntityById(groupId, todoId).map(TodoDTO::of);
+  }
 
-    todo.setOrder(order);
-    todo.setTodoStatus(todoStatus);
+  @Transactional
+  public TodoDTO moveTodo(MoveTodoDTO dto) {
+    // 재정렬, 보관 중인 todo는 그 transaction이 row lock을 잡고 있으므로 UPDATE가 끝날 때까지 기다린다.
+    Map<String, Object> assignments = new LinkedHashMap<>();
+    assignments.put("order", dto.order());
+    assignments.put("todoStatus", dto.todoStatus());
 
-    return TodoDTO.of(todo);
+    return updateColumns(dto.groupId(), dto.todoId(), dto.version(), assignments);
   }
 
-  @Transactional
-  public void starTodo(long userId, long todoId) {
-    User user = em.getReference(User.class, userId);
-    Todo todo = em.getReference(Todo.class, todoId);
+  /**
+   * assignments(속성 이름, 새 값)를 호출한 쪽의 transaction 안에서 UPDATE 한 번으로 반영하고 version을 올린다.
+   *
+   * <p>version이 주어지면 UPDATE 조건에 포함한다. 바뀐 row가 없을 때만 todo를 조회해 없는 todo와 version 불일치를 구분한다.
+   */
+  private TodoDTO updateColumns(
+      long groupId, long todoId, Long version, Map<String, Object> assignments) {
+    StringBuilder query = new StringBuilder("UPDATE Todo t SET ");
+    assignments
+        .keySet()
+        .forEach(name -> query.append("t.").append(name).append(" = :").append(name).append(", "));
+    query
+        .append("t.version = t.version + 1, t.updatedAt = :updatedAt ")
+        .append("WHERE t.id = :todoId AND t.group.id = :groupId")
+        .append(version != null ? " AND t.version = :version" : "");
+
+    Query update =
+        em.createQuery(query.toString())
+            .setParameter("updatedAt", ZonedDateTime.now())
+            .setParameter("todoId", todoId)
+            .setParameter("groupId", groupId);
+
+    assignments.forEach(update::setParameter);
+
+    if (version != null) {
+      update.setParameter("version", version);
+    }
 
-    UserTodoStar userTodoStar = new UserTodoStar();
-    userTodoStar.setUser(user);
-    userTodoStar.setTodo(todo);
+    if (update.executeUpdate() == 0) {
+      findEntityById(groupId, todoId).orElseThrow(TodoNotFoundException::new);
+      throw new TodoVersionMismatchException();
+    }
 
-    em.persist(userTodoStar);
+    return TodoDTO.of(reload(groupId, todoId));
+  }
+
+  /**
+   * bulk UPDATE는 영속성 컨텍스트를 거치지 않는다. 호출한 쪽이 들고 있는 다른 entity는 그대로 두고, 이 todo만 떼어 낸 뒤 group_id
+   * 조건을 붙여 다시 읽는다. 분할된 todo 테이블에서도 그 그룹의 partition만 읽는다.
+   *
+   * <p>getReference는 영속성 컨텍스트에 있는 entity를 돌려주고, 없으면 SELECT 없이 proxy를 만든다.
+   */
+  private Todo reload(long groupId, long todoId) {
+    em.detach(em.getReference(Todo.class, todoId));
+
+    return findEntityById(groupId, todoId).orElseThrow(TodoNotFoundException::new);
   }
 
   @Transactional
-  public void unstarTodo(long userId, long todoId) {
+  public TodoDTO moveTodoToPosition(MoveTodoToPositionDTO dto) {
+    // 이웃의 order를 읽고 새 order를 쓰는 사이에 같은 column으로 옮기는 다른 이동이 끼어들지 않도록 column lock을 잡는다.
+    lockColumn(dto.groupId(), dto.todoStatus());
+
+    String left;
+    String right;
+
+    if (dto.beforeTodoId() != null) {
+      left = findNeighbourOrder(dto, dto.beforeTodoId());
+      right = findAdjacentOrder(dto, left, true);
+    } else if (dto.afterTodoId() != null) {
+      right = findNeighbourOrder(dto, dto.afterTodoId());
+      left = findAdjacentOrder(dto, right, false);
+    } else {
+      left =
+          em.createQuery(
+                  """
+                                SELECT MAX(t.order)
+                                FROM Todo t
+                                WHERE t.group.id = :groupId
+                                  AND t.todoStatus = :todoStatus
+                                  AND t.id <> :todoId
+                                """,
+                  String.class)
+              .setParameter("groupId", dto.groupId())
+              .setParameter("todoStatus", dto.todoStatus())
+              .setParameter("todoId", dto.todoId())
+              .getSingleResult();
+      // lock 없이 붙는 append는 같은 마지막 order 뒤에 generate(left, null)을 쓰므로, 그보다 앞의 key를 써서 겹치지 않는다.
+      right = OrderGenerator.generate(left, null);
+    }
+
+    // 다른 수정과 같은 조건부 UPDATE 한 번으로 옮긴다. 없는 todo와 version 불일치는 바뀐 row 수로 구분한다.
+    Map<String, Object> assignments = new LinkedHashMap<>();
+    assignments.put("order", OrderGenerator.generate(left, right));
+    assignments.put("todoStatus", dto.todoStatus());
+
+    return updateColumns(dto.groupId(), dto.todoId(), dto.version(), assignments);
+  }
+
+  /**
+   * column의 lock row를 잠근다. row가 없으면 먼저 만든다.
+   *
+   * <p>transaction이 끝날 때까지 같은 column의 이동, 재정렬만 기다린다. lock 없이 붙는 append는 기다리지 않는다.
+   */
+  private void lockColumn(long groupId, TodoStatus todoStatus) {
     em.createQuery(
-            "DELETE FROM UserTodoStar uts WHERE uts.user.id = :userId AND uts.todo.id = :todoId")
-        .setParameter("userId", userId)
-        .setParameter("todoId", todoId)
+            """
+                                INSERT INTO TodoColumnLock (groupId, todoStatus)
+                                VALUES (:groupId, :todoStatus)
+                                ON CONFLICT DO NOTHING
+                                """)
+        .setParameter("groupId", groupId)
+        .setParameter("todoStatus", todoStatus)
         .executeUpdate();
+
+    em.createQuery(
+            """
+                                SELECT l
+                                FROM TodoColumnLock l
+                                WHERE l.groupId = :groupId AND l.todoStatus = :todoStatus
+                                """,
+            TodoColumnLock.class)
+        .setParameter("groupId", groupId)
+        .setParameter("todoStatus", todoStatus)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .getSingleResult();
   }
 
-  @Transactional(readOnly = true)
-  public boolean starExistsById(long userId, long todoId) {
-    return !em.createQuery(
+  private String findNeighbourOrder(MoveTodoToPositionDTO dto, long neighbourId) {
+    if (neighbourId == dto.todoId()) throw new DestinationNotFoundException();
+
+    return em.createQuery(
             """
-                                SELECT 1L
-                                FROM UserTodoStar uts
-                                WHERE uts.user.id = :userId AND uts.todo.id = :todoId
+                                SELECT t.order
+                                FROM Todo t
+                                WHERE t.id = :neighbourId
+                                  AND t.group.id = :groupId
+                                  AND t.todoStatus = :todoStatus
                                 """,
-            Long.class)
-        .setParameter("userId", userId)
-        .setParameter("todoId", todoId)
-        .setMaxResults(1) // 1개만 찾으면 조회를 멈추도록 설정
+            String.class)
+        .setParameter("neighbourId", neighbourId)
+        .setParameter("groupId", dto.groupId())
+        .setParameter("todoStatus", dto.todoStatus())
         .getResultList()
-        .isEmpty();
+        .stream()
+        .findFirst()
+        .orElseThrow(DestinationNotFoundException::new);
   }
 
+  /** 이동하는 todo를 제외하고 order 바로 다음(next) 또는 바로 이전의 order. 없으면 null */
+  private String findAdjacentOrder(MoveTodoToPositionDTO dto, String order, boolean next) {
+    String query =
+        next
+            ? """
+                                SELECT MIN(t.order)
+                                FROM Todo t
+                                WHERE t.group.id = :groupId
+                                  AND t.todoStatus = :todoStatus
+                                  AND t.id <> :todoId
+                                  AND t.order > :order
+                                """
+            : """
+                                SELECT MAX(t.order)
+                                FROM Todo t
+                                WHERE t.group.id = :groupId
+                                  AND t.todoStatus = :todoStatus
+                                  AND t.id <> :todoId
+                                  AND t.order < :order
+                                """;
+
+    return em.createQuery(query, String.class)
+        .setParameter("groupId", dto.groupId())
+        .setParameter("todoStatus", dto.todoStatus())
+        .setParameter("todoId", dto.todoId())
+        .setParameter("order", order)
+        .getSingleResult();
+  }
+
+  /** 긴 key를 써서 재정렬 대상으로 표시된 column을 표시된 순서로 최대 limit개 반환한다. */
   @Transactional(readOnly = true)
-  public boolean starExistsById(long todoId) {
-    return !em.createQuery(
+  public List<TodoColumnDTO> findColumnsToRebalance(int limit) {
+    return em.createQuery(
             """
-                                SELECT 1L
-                                FROM UserTodoStar uts
-                                WHERE uts.todo.id = :todoId
+                                SELECT new rest.felix.back.todo.dto.TodoColumnDTO(
+                                  r.groupId,
+                                  r.todoStatus
+                                )
+                                FROM TodoColumnRebalance r
+                                ORDER BY r.id ASC
                                 """,
-            Long.class)
-        .setParameter("todoId", todoId)
-        .setMaxResults(1)
-        .getResultList()
-        .isEmpty();
+            TodoColumnDTO.class)
+        .setMaxResults(limit)
+        .getResultList();
   }
 
-  public TodoDTO updateTodoMetadata(UpdateTodoMetadataDTO dto) {
-    Todo todo = findEntityById(dto.todoId()).orElseThrow(TodoNotFoundException::new);
+  /** column을 재정렬 대상으로 표시한다. 이미 표시되어 있으면 아무것도 하지 않는다. */
+  @Transactional
+  public void markColumnToRebalance(long groupId, TodoStatus todoStatus) {
+    em.createQuery(
+            """
+                                INSERT INTO TodoColumnRebalance (groupId, todoStatus, createdAt)
+                                VALUES (:groupId, :todoStatus, :now)
+                                ON CONFLICT DO NOTHING
+                                """)
+        .setParameter("groupId", groupId)
+        .setParameter("todoStatus", todoStatus)
+        .setParameter("now", ZonedDateTime.now())
+        .executeUpdate();
+  }
+
+  /**
+   * 표시된 column의 key 길이가 기준을 넘으면 짧고 고르게 다시 매기고 true를 반환한다.
+   *
+   * <p>표시는 기준을 넘었는지와 상관없이 지운다. 이후에 긴 key가 다시 쓰이면 그때 다시 표시된다.
+   */
+  @Transactional
+  public boolean rebalanceOrders(
+      long groupId, TodoStatus todoStatus, int maxLength, double averageLength) {
+    em.createQuery(
+            """
+                                DELETE FROM TodoColumnRebalance r
+                                WHERE r.groupId = :groupId
+                                  AND r.todoStatus = :todoStatus
+                                """)
+        .setParameter("groupId", groupId)
+        .setParameter("todoStatus", todoStatus)
+        .executeUpdate();
+
+    // 같은 그룹의 재정렬, 보관이 겹치지 않도록 group row lock을 잡는다.
+    // 같은 column으로 옮기는 moveTodoToPosition과는 column lock으로 겹치지 않는다.
+    // column의 todo row도 잠가, 재정렬 중인 todo의 moveTodo는 재정렬이 끝난 뒤에 반영된다.
+    if (em.find(Group.class, groupId, LockModeType.PESSIMISTIC_WRITE) == null) return false;
+    lockColumn(groupId, todoStatus);
+
+    // (group_id, todo_status, order) index로 이 column만 확인한다.
+    List<Long> exceeded =
+        em.createQuery(
+                """
+                                    SELECT COUNT(t)
+                                    FROM Todo t
+                                    WHERE t.group.id = :groupId AND t.todoStatus = :todoStatus
+                                    GROUP BY t.group.id, t.todoStatus
+                                    HAVING MAX(LENGTH(t.order)) > :maxLength
+                                      OR AVG(LENGTH(t.order)) > :averageLength
+                                    """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setParameter("todoStatus", todoStatus)
+            .setParameter("maxLength", maxLength)
+            .setParameter("averageLength", averageLength)
+            .getResultList();
+
+    if (exceeded.isEmpty()) return false;
+
+    List<Long> ids =
+        em.createQuery(
+                """
+                                SELECT t.id
+                                FROM Todo t
+                                WHERE t.group.id = :groupId AND t.todoStatus = :todoStatus
+                                ORDER BY t.order ASC
+                                """,
+                Long.class)
+            .setParameter("groupId", groupId)
+            .setParameter("todoStatus", todoStatus)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .getResultList();
+
+    // 쓰기는 모두 group_id 조건을 붙인 bulk UPDATE라 분할된 todo 테이블에서도 그 그룹의 partition만 건드린다.
+    // 새 key가 아직 바뀌지 않은 다른 todo의 key와 겹치지 않도록 id 기반 임시 key로 먼저 옮긴다.
+    em.createQuery(
+            """
+                                UPDATE Todo t
+                                SET t.order = CONCAT(:prefix, CAST(t.id AS String))
+                                WHERE t.group.id = :groupId AND t.todoStatus = :todoStatus
+                                """)
+        .setParameter("prefix", TEMPORARY_ORDER_PREFIX)
+        .setParameter("groupId", groupId)
+        .setParameter("todoStatus", todoStatus)
+        .executeUpdate();
+
+    ZonedDateTime now = ZonedDateTime.now();
+    List<String> orders = OrderGenerator.generateEvenlySpaced(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      em.createQuery(
+              """
+                                UPDATE Todo t
+                                SET t.order = :order, t.version = t.version + 1, t.updatedAt = :now
+                                WHERE t.group.id = :groupId AND t.id = :todoId
+                                """)
+          .setParameter("order", orders.get(i))
+          .setParameter("now", now)
+          .setParameter("groupId", groupId)
+          .setParameter("todoId", ids.get(i))
+          .executeUpdate();
+    }
+
+    return true;
+  }
+
+  /**
+   * star를 한 번의 INSERT ... ON CONFLICT DO NOTHING으로 추가한다. 새로 추가했을 때만 todo의 starCount를 늘리고 true를
+   * 반환한다.
+   */
+  @Transactional
+  public boolean starTodo(long userId, long groupId, long todoId) {
+    ZonedDateTime now = ZonedDateTime.now();
 
-    if (dto.isImportant().isPresent()) todo.setImportant(dto.isImportant().getValue());
+    int inserted =
+        em.createQuery(
+                """
+                                    INSERT INTO UserTodoStar (
+                                      user, group, todo, createdAt, updatedAt
+                                    )
+                                    VALUES (:user, :group, :todo, :now, :now)
+                                    ON CONFLICT DO NOTHING
+                                    """)
+            .setParameter("user", em.getReference(User.class, userId))
+            .setParameter("group", em.getReference(Group.class, groupId))
+            .setParameter("todo", em.getReference(Todo.class, todoId))
+            .setParameter("now", now)
+            .executeUpdate();
+
+    if (inserted == 0) return false;
+
+    addStarCount(List.of(groupId), List.of(todoId), 1);
+    return true;
+  }
+
+  /** star를 DELETE 한 번으로 지운다. 지웠을 때만 todo의 starCount를 줄이고 true를 반환한다. */
+  @Transactional
+  public boolean unstarTodo(long userId, long groupId, long todoId) {
+    int deleted =
+        em.createQuery(
+                """
+                                    DELETE FROM UserTodoStar uts
+                                    WHERE uts.group.id = :groupId
+                                      AND uts.user.id = :userId
+                                      AND uts.todo.id = :todoId
+                                    """)
+            .setParameter("groupId", groupId)
+            .setParameter("userId", userId)
+            .setParameter("todoId", todoId)
+            .executeUpdate();
+
+    if (deleted == 0) return false;
+
+    addStarCount(List.of(groupId), List.of(todoId), -deleted);
+    return true;
+  }
+
+  /**
+   * buffer에 쌓인 star, unstar 요청을 하나의 트랜잭션에서 반영한다.
+   *
+   * <p>요청마다 문장을 보내지 않도록 이미 있는 star를 한 번에 조회한 뒤, 없는 star는 JDBC batch로 넣고 있는 star는 DELETE 한
+   * 번으로 지운다. starCount는 바뀐 수가 같은 todo끼리 묶어 UPDATE한다.
+   */
+  @Transactional
+  public void applyStarIntents(List<StarIntentDTO> intents) {
+    if (intents.isEmpty()) return;
 
-    if (dto.dueDate().isPresent()) todo.setDueDate(dto.dueDate().getValue());
+    Set<Long> userIds = intents.stream().map(StarIntentDTO::userId).collect(Collectors.toSet());
+    Set<Long> groupIds = intents.stream().map(StarIntentDTO::groupId).collect(Collectors.toSet());
+    Set<Long> todoIds = intents.stream().map(StarIntentDTO::todoId).collect(Collectors.toSet());
+
+    // 요청하지 않은 (user, todo) 쌍도 섞여 나올 수 있지만 아래에서 요청한 쌍만 찾아 쓴다.
+    Map<StarKey, Long> starIds =
+        em.createQuery(
+                """
+                                    SELECT uts.user.id, uts.todo.id, uts.id
+                                    FROM UserTodoStar uts
+                                    WHERE uts.group.id IN :groupIds
+                                      AND uts.user.id IN :userIds
+                                      AND uts.todo.id IN :todoIds
+                                    """,
+                Object[].class)
+            .setParameter("groupIds", groupIds)
+            .setParameter("userIds", userIds)
+            .setParameter("todoIds", todoIds)
+            .getResultList()
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    row -> new StarKey((Long) row[0], (Long) row[1]), row -> (Long) row[2]));
 
-    if (dto.assigneeId().isPresent()) {
-      User assignee =
-          dto.assigneeId().getValue() != null
-              ? em.getReference(User.class, dto.assigneeId().getValue())
-              : null;
-      todo.setAssignee(assignee);
+    List<Long> starIdsToDelete = new ArrayList<>();
+    Map<Long, Long> starCountDeltas = new HashMap<>();
+
+    for (StarIntentDTO intent : intents) {
+      Long starId = starIds.get(new StarKey(intent.userId(), intent.todoId()));
+
+      if (intent.starred() && starId == null) {
+        UserTodoStar star = new UserTodoStar();
+        star.setUser(em.getReference(User.class, intent.userId()));
+        star.setGroup(em.getReference(Group.class, intent.groupId()));
+        star.setTodo(em.getReference(Todo.class, intent.todoId()));
+        em.persist(star);
+        starCountDeltas.merge(intent.todoId(), 1L, Long::sum);
+      } else if (!intent.starred() && starId != null) {
+        starIdsToDelete.add(starId);
+        starCountDeltas.merge(intent.todoId(), -1L, Long::sum);
+      }
     }
 
-    return TodoDTO.of(todo);
+    em.flush();
+
+    if (!starIdsToDelete.isEmpty()) {
+      em.createQuery(
+              """
+                                  DELETE FROM UserTodoStar uts
+                                  WHERE uts.group.id IN :groupIds
+                                    AND uts.id IN :ids
+                                  """)
+          .setParameter("groupIds", groupIds)
+          .setParameter("ids", starIdsToDelete)
+          .executeUpdate();
+    }
+
+    starCountDeltas.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .collect(
+            Collectors.groupingBy(
+                Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+        .forEach((delta, ids) -> addStarCount(groupIds, ids, delta));
+  }
+
+  private record StarKey(long userId, long todoId) {}
+
+  // version은 올리지 않는다. star는 todo 내용을 바꾸지 않으므로 ETag가 바뀌지 않아야 한다.
+  private void addStarCount(Collection<Long> groupIds, Collection<Long> todoIds, long delta) {
+    em.createQuery(
+            """
+                                UPDATE Todo t
+                                SET t.starCount = t.starCount + :delta
+                                WHERE t.group.id IN :groupIds
+                                  AND t.id IN :todoIds
+                                """)
+        .setParameter("delta", delta)
+        .setParameter("groupIds", groupIds)
+        .setParameter("todoIds", todoIds)
+        .executeUpdate();
+  }
+
+  @Transactional
+  public TodoDTO updateTodoMetadata(UpdateTodoMetadataDTO dto) {
+    Map<String, Object> assignments = new LinkedHashMap<>();
+
+    dto.isImportant().ifPresent(isImportant -> assignments.put("isImportant", isImportant));
+
+    dto.dueDate().ifPresent(dueDate -> assignments.put("dueDate", dueDate));
+
+    dto.assigneeId()
+        .ifPresent(
+            assigneeId ->
+                assignments.put(
+                    "assignee",
+                    assigneeId != null ? em.getReference(User.class, assigneeId) : null));
+
+    return updateColumns(dto.groupId(), dto.todoId(), dto.version(), assignments);
   }
 }
@@ -1,13 +1,49 @@
 package rest.felix.back.todo.service;
 
-import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class OrderGenerator {
 
-  private static final String CHARSET = "0123456789abcdefghijklmnopqrstuvwxyz";
+  private static final char[] CHARSET = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
   private static final int MAX_LENGTH = 256;
-  private static final SecureRandom random = new SecureRandom();
+  private static final int MID_INDEX = CHARSET.length / 2;
+  private static final char MIN_CHAR = CHARSET[0];
+  private static final char MID_CHAR = CHARSET[MID_INDEX];
+  // key가 최소 문자로 끝나면 그 앞에 들어갈 key를 만들 수 없으므로 자리에는 '0'을 쓰지 않는다.
+  private static final char MIN_DIGIT = '1';
+  private static final char MAX_DIGIT = 'z';
+
+  // ASCII 범위의 문자별 조회 테이블. CHARSET 밖의 문자는 INDEX가 -1이다.
+  private static final int TABLE_SIZE = 128;
+  private static final byte[] INDEX = new byte[TABLE_SIZE];
+  private static final char[] NEXT_DIGIT = new char[TABLE_SIZE];
+  private static final char[] PREV_DIGIT = new char[TABLE_SIZE];
+
+  static {
+    Arrays.fill(INDEX, (byte) -1);
+    for (int i = 0; i < CHARSET.length; i++) {
+      INDEX[CHARSET[i]] = (byte) i;
+    }
+
+    for (char c = 0; c < TABLE_SIZE; c++) {
+      for (int i = 1; i < CHARSET.length; i++) {
+        if (CHARSET[i] > c) {
+          NEXT_DIGIT[c] = CHARSET[i];
+          break;
+        }
+      }
+      for (int i = CHARSET.length - 1; i > 0; i--) {
+        if (CHARSET[i] < c) {
+          PREV_DIGIT[c] = CHARSET[i];
+          break;
+        }
+      }
+    }
+  }
 
   /**
    * lexicographical order를 유지하는 문자열 생성 함수
@@ -29,53 +65,248 @@ public class OrderGenerator {
     return generateBetween(Objects.requireNonNull(left), Objects.requireNonNull(right));
   }
 
+  /**
+   * left 뒤에 이어지는 count개의 key를 오름차순으로 생성 (일괄 추가용)
+   *
+   * <p>generate(left, null)을 count번 이어 부른 것과 같은 결과를 한 번에 만든다.
+   *
+   * @param left 왼쪽 경계 문자열 (선택적)
+   */
+  public static List<String> generateAfter(String left, int count) {
+    List<String> keys = new ArrayList<>(count);
+    String last = left;
+
+    for (int i = 0; i < count; i++) {
+      last = generate(last, null);
+      keys.add(last);
+    }
+
+    return keys;
+  }
+
+  /**
+   * 순서대로 정렬된 count개의 key를 같은 길이로 고르게 나누어 생성 (재정렬용)
+   *
+   * <p>generateAfter와 같은 head 규칙을 따르므로 이후의 append, prepend, 사이 삽입과 그대로 섞어 쓸 수 있다.
+   */
+  public static List<String> generateEvenlySpaced(int count) {
+    int radix = CHARSET.length - 1; // '0'을 제외한 digit 개수
+    int digitCount = 1;
+    long capacity = radix;
+
+    // 이웃한 key 사이에 최소 한 칸 이상의 빈 값이 남도록 자리수를 정한다.
+    while (capacity < 2L * (count + 1)) {
+      digitCount++;
+      capacity *= radix;
+    }
+
+    char head = CHARSET[MID_INDEX + digitCount];
+    List<String> keys = new ArrayList<>(count);
+    char[] key = new char[digitCount + 1];
+    key[0] = head;
+
+    for (int i = 1; i <= count; i++) {
+      long value = capacity * i / (count + 1);
+
+      for (int j = digitCount; j > 0; j--) {
+        key[j] = CHARSET[(int) (value % radix) + 1];
+        value /= radix;
+      }
+
+      keys.add(new String(key));
+    }
+
+    return keys;
+  }
+
+  /** CHARSET 내 위치. CHARSET 밖의 문자는 -1 */
+  private static int indexOf(char c) {
+    return c < TABLE_SIZE ? INDEX[c] : -1;
+  }
+
+  /** c보다 큰 가장 작은 digit. 없으면 0 */
+  private static char nextDigit(char c) {
+    return c < TABLE_SIZE ? NEXT_DIGIT[c] : 0;
+  }
+
+  /** c보다 작은 가장 큰 digit. 없으면 0 */
+  private static char prevDigit(char c) {
+    return c < TABLE_SIZE ? PREV_DIGIT[c] : MAX_DIGIT;
+  }
+
   /** 중간값에 해당하는 문자 생성 (약간의 임의성 포함) */
   private static char generateMiddleChar() {
-    int midIndex = CHARSET.length() / 2;
-    int randomOffset = random.nextInt(5) - 2; // -2 ~ 2
+    int randomOffset = ThreadLocalRandom.current().nextInt(5) - 2; // -2 ~ 2
     int targetIndex =
         Math.max(
             1, // '0'을 반환하지 않도록 최소값을 1로 설정
-            Math.min(CHARSET.length() - 1, midIndex + randomOffset));
-    return CHARSET.charAt(targetIndex);
+            Math.min(CHARSET.length - 1, MID_INDEX + randomOffset));
+    return CHARSET[targetIndex];
   }
 
-  /** 주어진 문자열 뒤에 올 문자열 생성 */
+  /**
+   * 주어진 문자열 뒤에 올 문자열 생성
+   *
+   * <p>첫 글자(head)가 뒤따르는 자리수를 나타낸다. ('i' = 0자리, 'j' = 1자리, ... 'z' = 17자리) 마지막 자리부터 올림을
+   * 하고, 모든 자리가 가득 찼을 때만 head를 올려 한 자리 늘리므로 n번 append해도 길이는 O(log n)에 머문다.
+   */
   private static String generateAfter(String str) {
-    if (str.length() >= MAX_LENGTH) {
-      throw new IllegalStateException("String too long");
+    char head = str.charAt(0);
+
+    if (head < MID_CHAR) {
+      return String.valueOf(MID_CHAR);
+    }
+
+    int headIndex = indexOf(head);
+    if (headIndex < 0) {
+      return appendMiddleChar(str);
+    }
+
+    int digitCount = headIndex - MID_INDEX;
+    int length = str.length();
+
+    if (length - 1 < digitCount) {
+      // str이 prefix가 되므로 부족한 자리를 최소 digit으로 채우기만 해도 str보다 크다.
+      char[] result = new char[digitCount + 1];
+      str.getChars(0, length, result, 0);
+      Arrays.fill(result, length, result.length, MIN_DIGIT);
+      return new String(result);
     }
-    return str + generateMiddleChar();
+
+    // 자리수보다 긴 key는 규칙에 맞는 길이로 잘라서 올림한다. 잘린 prefix를 올린 값은 원래 key보다 크다.
+    String incremented = increment(str, headIndex, digitCount);
+    return incremented != null ? incremented : appendMiddleChar(str);
   }
 
-  /** 주어진 문자열 앞에 올 문자열 생성 */
+  /**
+   * 주어진 문자열 앞에 올 문자열 생성
+   *
+   * <p>append와 대칭으로 'h' = 1자리, 'g' = 2자리, ... '1' = 17자리를 사용하고, 마지막 자리부터 내림한다.
+   */
   private static String generateBefore(String str) {
-    if (str.length() >= MAX_LENGTH) {
+    char head = str.charAt(0);
+
+    if (head > MID_CHAR || (head == MID_CHAR && str.length() > 1)) {
+      return String.valueOf(MID_CHAR);
+    }
+
+    if (head == MID_CHAR) {
+      return new String(new char[] {CHARSET[MID_INDEX - 1], MAX_DIGIT});
+    }
+
+    int headIndex = indexOf(head);
+    if (headIndex <= 0) {
+      return generateBeforeByHalving(str);
+    }
+
+    int digitCount = MID_INDEX - headIndex;
+    int length = str.length();
+
+    if (length - 1 > digitCount) {
+      // 규칙에 맞는 길이의 prefix는 그 자체로 str보다 작다. 최소 digit으로 끝나지 않을 때만 그대로 쓴다.
+      if (str.charAt(digitCount) >= MIN_DIGIT) {
+        return str.substring(0, digitCount + 1);
+      }
+      length = digitCount + 1;
+    }
+
+    String decremented = decrement(str, length, headIndex, digitCount);
+    return decremented != null ? decremented : generateBeforeByHalving(str.substring(0, length));
+  }
+
+  /** str의 digitCount + 1 글자에서 head 뒤의 자리들을 올림한다. head까지 넘치면 null */
+  private static String increment(String str, int headIndex, int digitCount) {
+    char[] result = new char[digitCount + 1];
+    str.getChars(0, result.length, result, 0);
+
+    for (int i = result.length - 1; i > 0; i--) {
+      char next = nextDigit(result[i]);
+      if (next != 0) {
+        result[i] = next;
+        return new String(result);
+      }
+      result[i] = MIN_DIGIT;
+    }
+
+    if (headIndex + 1 >= CHARSET.length) {
+      return null;
+    }
+
+    char[] grown = new char[digitCount + 2];
+    grown[0] = CHARSET[headIndex + 1];
+    Arrays.fill(grown, 1, grown.length, MIN_DIGIT);
+    return new String(grown);
+  }
+
+  /**
+   * str의 length 글자에서 head 뒤의 자리들을 내림하고 부족한 자리는 최대 digit으로 채운다. head까지 넘치면 null
+   */
+  private static String decrement(String str, int length, int headIndex, int digitCount) {
+    char[] result = new char[digitCount + 1];
+    str.getChars(0, length, result, 0);
+
+    for (int i = length - 1; i > 0; i--) {
+      char prev = prevDigit(result[i]);
+      if (prev != 0) {
+        result[i] = prev;
+        Arrays.fill(result, length, result.length, MAX_DIGIT);
+        return new String(result);
+      }
+      result[i] = MAX_DIGIT;
+    }
+
+    if (headIndex - 1 <= 0) {
+      return null;
+    }
+
+    char[] grown = new char[digitCount + 2];
+    grown[0] = CHARSET[headIndex - 1];
+    Arrays.fill(grown, 1, grown.length, MAX_DIGIT);
+    return new String(grown);
+  }
+
+  /** 규칙을 따르지 않는 key 뒤에 올 문자열 생성 */
+  private static String appendMiddleChar(String str) {
+    int length = str.length();
+    if (length >= MAX_LENGTH) {
       throw new IllegalStateException("String too long");
     }
 
-    char minChar = CHARSET.charAt(0);
-    StringBuilder prefix = new StringBuilder();
-    int i = 0;
+    char[] result = new char[length + 1];
+    str.getChars(0, length, result, 0);
+    result[length] = generateMiddleChar();
+    return new String(result);
+  }
 
-    while (i < str.length() && str.charAt(i) == minChar) {
-      prefix.append(minChar);
+  /** 규칙을 따르지 않는 key 앞에 올 문자열 생성 */
+  private static String generateBeforeByHalving(String str) {
+    int length = str.length();
+    if (length >= MAX_LENGTH) {
+      throw new IllegalStateException("String too long");
+    }
+
+    int i = 0;
+    while (i < length && str.charAt(i) == MIN_CHAR) {
       i++;
     }
 
-    if (i == str.length()) {
+    if (i == length) {
       throw new IllegalStateException("Cannot generate a key before an all-minimum-character key.");
     }
 
-    char charAtIndex = str.charAt(i);
-    int charIndex = CHARSET.indexOf(charAtIndex);
-
-    int midIndex = charIndex / 2;
+    int midIndex = indexOf(str.charAt(i)) / 2;
 
+    // 앞의 '0'들을 그대로 두고 첫 번째 '0'이 아닌 문자를 절반으로 줄인다.
     if (midIndex == 0) {
-      return prefix.toString() + minChar + generateMiddleChar();
+      char[] result = new char[i + 2];
+      Arrays.fill(result, 0, i + 1, MIN_CHAR);
+      result[i + 1] = generateMiddleChar();
+      return new String(result);
     } else {
-      return prefix.toString() + CHARSET.charAt(midIndex);
+      char[] result = new char[i + 1];
+      Arrays.fill(result, 0, i, MIN_CHAR);
+      result[i] = CHARSET[midIndex];
+      return new String(result);
     }
   }
 
@@ -85,29 +316,40 @@ public class OrderGenerator {
       throw new IllegalArgumentException("Left must be less than right");
     }
 
-    StringBuilder result = new StringBuilder();
+    int leftLength = left.length();
+    int rightLength = right.length();
+
+    // 결과 길이는 left, right 길이의 합 + 2를 넘지 않는다.
+    char[] result = new char[leftLength + rightLength + 2];
+    int size = 0;
+
+    int leftStart = 0; // 오른쪽 경계를 무시한 뒤 비교를 이어갈 left의 시작 위치
+    boolean rightBounded = true;
     int i = 0;
 
     while (true) {
-      char leftChar = i < left.length() ? left.charAt(i) : CHARSET.charAt(0);
-      char rightChar = i < right.length() ? right.charAt(i) : CHARSET.charAt(CHARSET.length() - 1);
+      int leftPosition = leftStart + i;
+      char leftChar = leftPosition < leftLength ? left.charAt(leftPosition) : MIN_CHAR;
+      char rightChar =
+          rightBounded && i < rightLength ? right.charAt(i) : CHARSET[CHARSET.length - 1];
 
-      int leftIndex = CHARSET.indexOf(leftChar);
-      int rightIndex = CHARSET.indexOf(rightChar);
+      int leftIndex = indexOf(leftChar);
+      int rightIndex = indexOf(rightChar);
 
       if (leftIndex == rightIndex) {
-        result.append(leftChar);
+        result[size++] = leftChar;
         i++;
         continue;
       }
 
       if (rightIndex - leftIndex > 1) {
         int midIndex = (leftIndex + rightIndex) / 2;
-        return result.toString() + CHARSET.charAt(midIndex);
+        result[size++] = CHARSET[midIndex];
+        return new String(result, 0, size);
       } else {
-        result.append(leftChar);
-        left = left.substring(i + 1);
-        right = ""; // 오른쪽 경계는 무시하고 왼쪽 기준 다음으로 생성
+        result[size++] = leftChar;
+        leftStart = Math.min(leftPosition + 1, leftLength);
+        rightBounded = false; // 오른쪽 경계는 무시하고 왼쪽 기준 다음으로 생성
         i = 0; // 인덱스 초기화
       }
     }
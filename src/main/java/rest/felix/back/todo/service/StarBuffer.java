@@ -0,0 +1,178 @@
+package rest.felix.back.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import rest.felix.back.common.config.StarBufferConfig;
+import rest.felix.back.todo.dto.StarIntentDTO;
+import rest.felix.back.todo.dto.TodoWithStarredStatusDTO;
+import rest.felix.back.todo.repository.TodoRepository;
+
+/**
+ * star, unstar 요청을 (user, todo)마다 마지막 요청만 남겨 메모리에 모았다가 주기적으로 user_todo_star에 반영한다.
+ *
+ * <p>todo.star-buffer.enabled일 때만 요청을 받는다. 반영 전의 요청은 보드 조회에 덧씌워 자기가 누른 star가 바로 보이도록 하고,
+ * 종료할 때 남은 요청을 모두 반영한다.
+ */
+@Slf4j
+@Component
+public class StarBuffer {
+
+  private final TodoRepository todoRepository;
+  private final StarBufferConfig config;
+  private final Counter bufferedCounter;
+  private final Counter flushedCounter;
+
+  private final Map<Key, Boolean> pending = new ConcurrentHashMap<>();
+
+  public StarBuffer(
+      TodoRepository todoRepository, StarBufferConfig config, MeterRegistry meterRegistry) {
+    this.todoRepository = todoRepository;
+    this.config = config;
+    this.bufferedCounter = meterRegistry.counter("todo.star.buffer.buffered");
+    this.flushedCounter = meterRegistry.counter("todo.star.buffer.flushed");
+    meterRegistry.gaugeMapSize("todo.star.buffer.pending", Tags.empty(), pending);
+  }
+
+  private record Key(long userId, long groupId, long todoId) {}
+
+  /**
+   * buffer가 켜져 있으면 요청을 쌓고 true를 반환한다. 꺼져 있으면 false를 반환하며 호출한 쪽이 바로 반영한다.
+   *
+   * <p>transaction 안에서 부르면 commit된 뒤에 쌓으므로, 되돌려진 요청은 반영되지 않는다.
+   */
+  public boolean offer(long userId, long groupId, long todoId, boolean starred) {
+    if (!config.isEnabled()) return false;
+
+    Key key = new Key(userId, groupId, todoId);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      put(key, starred);
+      return true;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            put(key, starred);
+          }
+        });
+    return true;
+  }
+
+  private void put(Key key, boolean starred) {
+    pending.put(key, starred);
+    bufferedCounter.increment();
+  }
+
+  /** 아직 반영되지 않은 userId의 요청을 반환한다. */
+  public List<StarIntentDTO> findPendingByUserId(long userId) {
+    if (pending.isEmpty()) return List.of();
+
+    List<StarIntentDTO> intents = new ArrayList<>();
+    pending.forEach(
+        (key, starred) -> {
+          if (key.userId() == userId)
+            intents.add(new StarIntentDTO(key.userId(), key.groupId(), key.todoId(), starred));
+        });
+    return intents;
+  }
+
+  /** 아직 반영되지 않은 userId의 요청을 보드 조회 결과에 덧씌운다. */
+  public List<TodoWithStarredStatusDTO> merge(
+      long userId, long groupId, List<TodoWithStarredStatusDTO> todos) {
+    if (pending.isEmpty()) return todos;
+
+    return todos.stream()
+        .map(
+            todo -> {
+              Boolean starred = pending.get(new Key(userId, groupId, todo.id()));
+              return starred != null ? todo.withStarred(starred) : todo;
+            })
+        .toList();
+  }
+
+  @Scheduled(
+      initialDelayString = "${todo.star-buffer.interval-ms:200}",
+      fixedDelayString = "${todo.star-buffer.interval-ms:200}")
+  public void flushScheduled() {
+    if (!config.isEnabled()) return;
+
+    flush();
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /** 쌓인 요청을 chunk마다 하나의 트랜잭션으로 반영하고, 반영한 요청 수를 반환한다. */
+  public int flush() {
+    List<StarIntentDTO> intents = new ArrayList<>(pending.size());
+    pending.forEach(
+        (key, starred) ->
+            intents.add(new StarIntentDTO(key.userId(), key.groupId(), key.todoId(), starred)));
+
+    int flushed = 0;
+    for (int from = 0; from < intents.size(); from += config.getChunkSize()) {
+      List<StarIntentDTO> chunk =
+          intents.subList(from, Math.min(from + config.getChunkSize(), intents.size()));
+
+      try {
+        todoRepository.applyStarIntents(chunk);
+        flushed += chunk.size();
+      } catch (DataIntegrityViolationException e) {
+        // 삭제된 todo를 가리키거나 그 사이에 바로 반영된 star와 겹치는 요청이 섞여 있으면 하나씩 다시 반영하고,
+        // 실패한 요청은 버린다.
+        flushed += flushOneByOne(chunk);
+        continue;
+      } catch (DataAccessException e) {
+        // 남겨 둔 요청은 다음 주기에 다시 반영한다.
+        log.warn("Failed to flush star intents. size={}", chunk.size(), e);
+        continue;
+      }
+
+      chunk.forEach(this::removeIfUnchanged);
+    }
+
+    flushedCounter.increment(flushed);
+    return flushed;
+  }
+
+  private int flushOneByOne(List<StarIntentDTO> chunk) {
+    int flushed = 0;
+
+    for (StarIntentDTO intent : chunk) {
+      try {
+        todoRepository.applyStarIntents(List.of(intent));
+        flushed++;
+      } catch (DataIntegrityViolationException e) {
+        log.warn("Dropped star intent. intent={}", intent, e);
+      } catch (DataAccessException e) {
+        log.warn("Failed to flush star intent. intent={}", intent, e);
+        continue;
+      }
+
+      removeIfUnchanged(intent);
+    }
+
+    return flushed;
+  }
+
+  // 반영하는 동안 같은 (user, todo)에 새 요청이 들어왔으면 지우지 않고 다음 주기에 반영한다.
+  private void removeIfUnchanged(StarIntentDTO intent) {
+    pending.remove(new Key(intent.userId(), intent.groupId(), intent.todoId()), intent.starred());
+  }
+}
@@ -0,0 +1,53 @@
+package rest.felix.back.todo.service;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rest.felix.back.common.config.TodoArchiveConfig;
+import rest.felix.back.todo.repository.TodoRepository;
+
+/** ageDays보다 오래 DONE으로 남은 todo를 archived_todo로 옮겨 todo 테이블을 진행 중인 작업 크기로 유지한다. */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class TodoArchiver {
+
+  private final TodoRepository todoRepository;
+  private final TodoArchiveConfig config;
+
+  @Scheduled(
+      initialDelayString = "${todo.archive.interval-ms:3600000}",
+      fixedDelayString = "${todo.archive.interval-ms:3600000}")
+  public void archiveScheduled() {
+    if (!config.isEnabled()) return;
+
+    archive();
+  }
+
+  /** 그룹마다 chunk 단위의 트랜잭션으로 todo를 옮기고, 옮긴 todo 수를 반환한다. */
+  public int archive() {
+    ZonedDateTime now = ZonedDateTime.now();
+    ZonedDateTime completedBefore = now.minusDays(config.getAgeDays());
+    int archived = 0;
+
+    for (long groupId :
+        todoRepository.findGroupsToArchive(completedBefore, config.getBatchLimit())) {
+      try {
+        int chunk;
+        do {
+          chunk =
+              todoRepository.archiveDoneTodos(groupId, completedBefore, now, config.getChunkSize());
+          archived += chunk;
+        } while (chunk > 0);
+      } catch (DataAccessException e) {
+        // 실패한 그룹은 다음 주기에 다시 시도한다.
+        log.warn("Failed to archive done todos. groupId={}", groupId, e);
+      }
+    }
+
+    return archived;
+  }
+}
@@ -0,0 +1,58 @@
+package rest.felix.back.todo.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rest.felix.back.common.config.TodoOrderRebalanceConfig;
+import rest.felix.back.todo.dto.TodoColumnDTO;
+import rest.felix.back.todo.repository.TodoRepository;
+
+/** generateBetween으로 길어진 order key를 column(group, status) 단위로 짧고 고르게 다시 매긴다. */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class TodoOrderRebalancer {
+
+  private final TodoRepository todoRepository;
+  private final TodoOrderRebalanceConfig config;
+
+  @Scheduled(
+      initialDelayString = "${todo.order.rebalance.interval-ms:300000}",
+      fixedDelayString = "${todo.order.rebalance.interval-ms:300000}")
+  public void rebalanceScheduled() {
+    if (!config.isEnabled()) return;
+
+    rebalance();
+  }
+
+  /**
+   * 긴 key가 쓰여 표시된 column을 확인해 기준을 넘은 column만 column마다 별도의 트랜잭션으로 재정렬하고, 재정렬한 column 수를
+   * 반환한다.
+   */
+  public int rebalance() {
+    int rebalanced = 0;
+
+    for (TodoColumnDTO column : todoRepository.findColumnsToRebalance(config.getBatchLimit())) {
+      try {
+        if (todoRepository.rebalanceOrders(
+            column.groupId(),
+            column.todoStatus(),
+            config.getMaxLength(),
+            config.getAverageLength())) {
+          rebalanced++;
+        }
+      } catch (DataAccessException e) {
+        // 실패한 column은 다음 주기에 다시 시도한다.
+        log.warn(
+            "Failed to rebalance todo orders. groupId={}, todoStatus={}",
+            column.groupId(),
+            column.todoStatus(),
+            e);
+      }
+    }
+
+    return rebalanced;
+  }
+}
@@ -1,30 +1,53 @@
 package rest.felix.back.todo.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.common.config.TodoOrderRebalanceConfig;
 import rest.felix.back.common.exception.throwable.notFound.ResourceNotFoundException;
 import rest.felix.back.group.dto.UserGroupDTO;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.repository.UserGroupRepository;
+import rest.felix.back.group.service.GroupActivityRecorder;
 import rest.felix.back.todo.dto.*;
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.todo.exception.DuplicateTodoOrderException;
 import rest.felix.back.todo.exception.TodoNotFoundException;
+import rest.felix.back.todo.exception.TodoVersionMismatchException;
 import rest.felix.back.todo.repository.TodoRepository;
 import rest.felix.back.user.exception.UserAccessDeniedException;
+import rest.felix.back.user.exception.UserNotFoundException;
 import rest.felix.back.user.repository.UserRepository;
 
 @Service
 @AllArgsConstructor
 public class TodoService {
 
+  private static final int MAX_ARCHIVED_PAGE_SIZE = 100;
+  private static final int MAX_STARRED_PAGE_SIZE = 100;
+
   private final TodoRepository todoRepository;
   private final UserGroupRepository userGroupRepository;
   private final UserRepository userRepository;
+  private final StarBuffer starBuffer;
+  private final GroupActivityRecorder groupActivityRecorder;
+  private final TodoOrderRebalanceConfig todoOrderRebalanceConfig;
 
   @Transactional(readOnly = true)
   public List<TodoDTO> getTodosInGroup(long groupId) {
@@ -32,6 +55,71 @@ public class TodoService {
     return todoRepository.findByGroupId(groupId);
   }
 
+  /** 보드 뒤에 최근에 보관된 DONE todo를 MAX_ARCHIVED_PAGE_SIZE개까지 붙인다. 그보다 오래된 todo는 보관함 페이지로 읽는다. */
+  @Transactional(readOnly = true)
+  public List<TodoDTO> getTodosWithArchivedInGroup(long groupId) {
+    List<TodoDTO> todos = todoRepository.findByGroupId(groupId);
+    List<TodoDTO> archivedTodos =
+        todoRepository.findArchivedByGroupId(groupId, null, MAX_ARCHIVED_PAGE_SIZE);
+
+    List<TodoDTO> allTodos = new ArrayList<>(todos.size() + archivedTodos.size());
+    allTodos.addAll(todos);
+    allTodos.addAll(archivedTodos);
+
+    return allTodos;
+  }
+
+  @Transactional(readOnly = true)
+  public TodoPageDTO getArchivedTodosInGroup(long groupId, Long cursor, int size) {
+    int limit = Math.clamp(size, 1, MAX_ARCHIVED_PAGE_SIZE);
+
+    List<TodoDTO> todos = todoRepository.findArchivedByGroupId(groupId, cursor, limit);
+    Long nextCursor = todos.size() == limit ? todos.get(todos.size() - 1).id() : null;
+
+    return new TodoPageDTO(todos, nextCursor);
+  }
+
+  /**
+   * userId가 속한 모든 그룹에서 star한 todo를 최근에 star한 순서로 반환한다.
+   *
+   * <p>star buffer에서 아직 반영되지 않은 요청도 덧씌운다. unstar한 todo는 빼고, star한 todo는 가장 최근이므로 첫 페이지 앞에
+   * 붙인다.
+   */
+  @Transactional(readOnly = true)
+  public StarredTodoPageDTO getStarredTodos(long userId, String cursor, int size) {
+    int limit = Math.clamp(size, 1, MAX_STARRED_PAGE_SIZE);
+    StarCursorDTO starCursor = cursor != null ? StarCursorDTO.parse(cursor) : null;
+
+    List<StarredTodoDTO> starredTodos =
+        todoRepository.findStarredByUserId(userId, starCursor, limit);
+    // cursor는 덧씌우기 전의 마지막 star로 정해야 다음 페이지가 밀리지 않는다.
+    String nextCursor =
+        starredTodos.size() == limit
+            ? StarCursorDTO.of(starredTodos.get(starredTodos.size() - 1)).encode()
+            : null;
+
+    List<TodoDTO> todos = starredTodos.stream().map(StarredTodoDTO::todo).toList();
+
+    List<StarIntentDTO> pendingIntents = starBuffer.findPendingByUserId(userId);
+    if (pendingIntents.isEmpty()) return new StarredTodoPageDTO(todos, nextCursor);
+
+    Set<Long> pendingTodoIds =
+        pendingIntents.stream().map(StarIntentDTO::todoId).collect(Collectors.toSet());
+    List<TodoDTO> mergedTodos = new ArrayList<>();
+
+    if (starCursor == null) {
+      List<Long> starredTodoIds =
+          pendingIntents.stream()
+              .filter(StarIntentDTO::starred)
+              .map(StarIntentDTO::todoId)
+              .toList();
+      mergedTodos.addAll(todoRepository.findByUserIdAndIds(userId, starredTodoIds));
+    }
+    todos.stream().filter(todo -> !pendingTodoIds.contains(todo.id())).forEach(mergedTodos::add);
+
+    return new StarredTodoPageDTO(mergedTodos, nextCursor);
+  }
+
   @Transactional(readOnly = true)
   public TodoDTO getTodoInGroup(long groupId, long todoId) {
 
@@ -43,24 +131,54 @@ public class TodoService {
   @Transactional
   public TodoDTO createTodo(CreateTodoDTO createTodoDTO) {
 
+    groupActivityRecorder.touch(createTodoDTO.groupId());
+
     return todoRepository.createTodo(createTodoDTO);
   }
 
   @Transactional
-  public void deleteTodo(long todoId) {
+  public List<TodoDTO> createTodos(long groupId, List<CreateTodoDTO> createTodoDTOs) {
+    Set<Long> assigneeIds =
+        createTodoDTOs.stream()
+            .map(CreateTodoDTO::assigneeId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+    // 담당자들이 모두 그룹에 속해 있는지 한 번의 조회로 확인한다.
+    if (userGroupRepository.findUserIdsInGroup(groupId, assigneeIds).size() != assigneeIds.size())
+      throw new UserNotFoundException();
 
-    todoRepository.deleteById(todoId);
+    groupActivityRecorder.touch(groupId);
+
+    // 동시에 붙은 다른 append와 order가 겹치면 요청 전체를 거절한다.
+    try {
+      return todoRepository.createTodos(groupId, createTodoDTOs);
+    } catch (DataIntegrityViolationException e) {
+      throw new DuplicateTodoOrderException();
+    }
+  }
+
+  @Transactional
+  public void deleteTodo(long groupId, long todoId) {
+
+    groupActivityRecorder.touch(groupId);
+
+    todoRepository.deleteById(groupId, todoId);
   }
 
   @Transactional
   public TodoDTO updateTodo(UpdateTodoDTO updateTodoDTO) {
 
+    groupActivityRecorder.touch(updateTodoDTO.groupId());
+
     return todoRepository.updateTodo(updateTodoDTO);
   }
 
   @Transactional
   public TodoDTO updateTodoMetadata(UpdateTodoMetadataDTO dto) {
 
+    groupActivityRecorder.touch(dto.groupId());
+
     return todoRepository.updateTodoMetadata(dto);
   }
 
@@ -106,27 +224,259 @@ public class TodoService {
 
   @Transactional
   public TodoDTO moveTodo(MoveTodoDTO moveTodoDTO) {
+    groupActivityRecorder.touch(moveTodoDTO.groupId());
+
+    try {
+      TodoDTO todo = todoRepository.moveTodo(moveTodoDTO);
+      markColumnIfOrderIsLong(todo);
+
+      return todo;
+    } catch (DataIntegrityViolationException e) {
+      throw new DuplicateTodoOrderException();
+    }
+  }
+
+  @Transactional
+  public TodoDTO moveTodoToPosition(MoveTodoToPositionDTO moveTodoToPositionDTO) {
+    groupActivityRecorder.touch(moveTodoToPositionDTO.groupId());
+
     try {
-      return todoRepository.moveTodo(
-          moveTodoDTO.todoId(), moveTodoDTO.todoStatus(), moveTodoDTO.order());
+      TodoDTO todo = todoRepository.moveTodoToPosition(moveTodoToPositionDTO);
+      markColumnIfOrderIsLong(todo);
+
+      return todo;
     } catch (DataIntegrityViolationException e) {
       throw new DuplicateTodoOrderException();
     }
   }
 
+  /** 이미 star한 todo면 아무것도 하지 않는다. star buffer가 켜져 있으면 buffer에 쌓고 나중에 반영한다. */
+  @Transactional
+  public void starTodo(long userId, long groupId, long todoId) {
+
+    if (starBuffer.offer(userId, groupId, todoId, true)) return;
+
+    todoRepository.starTodo(userId, groupId, todoId);
+  }
+
+  /** star하지 않은 todo면 아무것도 하지 않는다. star buffer가 켜져 있으면 buffer에 쌓고 나중에 반영한다. */
   @Transactional
-  public void starTodo(long userId, long todoId) {
+  public void unstarTodo(long userId, long groupId, long todoId) {
 
-    if (todoRepository.starExistsById(userId, todoId)) return;
+    if (starBuffer.offer(userId, groupId, todoId, false)) return;
 
-    todoRepository.starTodo(userId, todoId);
+    todoRepository.unstarTodo(userId, groupId, todoId);
   }
 
+  /**
+   * 여러 작업을 하나의 transaction에서 적용한다.
+   *
+   * <p>그룹 권한은 처음에 한 번만 확인하고, 작업 대상 Todo도 한 번에 조회한다. 작업을 순서대로 메모리에서 따라가며 작업별 권한과
+   * version을 확인한 뒤, 종류별로 모아 삭제, 수정과 이동, 추가, star 순서로 한 번씩 쓴다. 하나라도 실패하면 전체를 되돌린다.
+   *
+   * <p>같은 Todo를 여러 번 바꿔도 UPDATE는 한 번이므로 version은 한 번만 오른다. 수정, 이동의 결과는 요청이 끝난 뒤의 Todo다.
+   */
   @Transactional
-  public void unstarTodo(long userId, long todoId) {
+  public List<TodoOperationResultDTO> applyOperations(TodoOperationsDTO dto) {
+    long userId = dto.userId();
+    long groupId = dto.groupId();
+    List<TodoOperationRequestDTO> operations = dto.operations();
+
+    GroupRole role =
+        userGroupRepository
+            .findByUserIdAndGroupId(userId, groupId)
+            .map(UserGroupDTO::groupRole)
+            .orElseThrow(UserAccessDeniedException::new);
+
+    Set<Long> todoIds =
+        operations.stream()
+            .map(TodoOperationRequestDTO::todoId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    Map<Long, TodoDTO> todos = new HashMap<>(todoRepository.findByGroupIdAndIds(groupId, todoIds));
+    Map<Long, Long> readVersions =
+        todos.values().stream().collect(Collectors.toMap(TodoDTO::id, TodoDTO::version));
+
+    // 수정, 이동한 Todo는 마지막으로 바꾼 순서대로 쓰도록 다시 바꾸면 뒤로 옮긴다.
+    Set<Long> changedIds = new LinkedHashSet<>();
+    Set<Long> movedIds = new HashSet<>();
+    Set<Long> deletedIds = new HashSet<>();
+    List<CreateTodoDTO> creates = new ArrayList<>();
+    Map<Long, Boolean> stars = new LinkedHashMap<>();
+    TodoDTO[] changedTodos = new TodoDTO[operations.size()];
+
+    // star는 개인 표시이므로 그룹 활동으로 보지 않는다.
+    boolean changesGroup =
+        operations.stream()
+            .map(TodoOperationRequestDTO::type)
+            .anyMatch(type -> type != TodoOperationType.STAR && type != TodoOperationType.UNSTAR);
+    if (changesGroup) groupActivityRecorder.touch(groupId);
+
+    // 삭제된 Todo를 뒤의 작업이 다시 가리키면 찾을 수 없도록, 바뀐 Todo는 뒤의 작업이 권한과 version을 판단하도록 todos를 갱신한다.
+    for (int index = 0; index < operations.size(); index++) {
+      TodoOperationRequestDTO operation = operations.get(index);
+      TodoDTO todo =
+          operation.type().requiresTodoId()
+              ? Optional.ofNullable(todos.get(operation.todoId()))
+                  .orElseThrow(TodoNotFoundException::new)
+              : null;
+
+      switch (operation.type()) {
+        case CREATE -> {
+          assertRole(role, GroupRole.MEMBER);
+          if (operation.assigneeId() != null)
+            userGroupRepository
+                .findByUserIdAndGroupId(operation.assigneeId(), groupId)
+                .orElseThrow(UserNotFoundException::new);
+
+          creates.add(
+              new CreateTodoDTO(
+                  operation.title(),
+                  operation.description(),
+                  operation.dueDate(),
+                  userId,
+                  groupId,
+                  operation.assigneeId()));
+        }
+        case UPDATE -> {
+          assertAuthorOrManager(userId, role, todo);
+          assertVersion(todo, operation.version());
+          changedTodos[index] =
+              changed(
+                  todo,
+                  operation.title() != null ? operation.title() : todo.title(),
+                  operation.description() != null ? operation.description() : todo.description(),
+                  todo.status(),
+                  todo.order(),
+                  readVersions.get(todo.id()) + 1);
+        }
+        case MOVE -> {
+          assertRole(role, GroupRole.MEMBER);
+          assertVersion(todo, operation.version());
+          changedTodos[index] =
+              changed(
+                  todo,
+                  todo.title(),
+                  todo.description(),
+                  operation.todoStatus(),
+                  operation.order(),
+                  readVersions.get(todo.id()) + 1);
+          movedIds.add(todo.id());
+        }
+        case DELETE -> {
+          assertAuthorOrManager(userId, role, todo);
+          todos.remove(todo.id());
+          changedIds.remove(todo.id());
+          stars.remove(todo.id());
+          deletedIds.add(todo.id());
+        }
+        // 다른 작업과 함께 되돌려져야 하므로 buffer를 거치지 않는다.
+        case STAR, UNSTAR -> stars.put(todo.id(), operation.type() == TodoOperationType.STAR);
+      }
+
+      if (changedTodos[index] != null) {
+        todos.put(todo.id(), changedTodos[index]);
+        changedIds.remove(todo.id());
+        changedIds.add(todo.id());
+      }
+    }
+
+    Map<Long, TodoDTO> writtenTodos;
+    List<TodoDTO> createdTodos;
+
+    try {
+      // 지운 Todo의 order를 옮기는 Todo가 받을 수 있도록 먼저 지운다.
+      if (!deletedIds.isEmpty()) todoRepository.deleteByIds(groupId, deletedIds);
 
-    if (!todoRepository.starExistsById(userId, todoId)) return;
+      writtenTodos =
+          changedIds.isEmpty()
+              ? Map.of()
+              : todoRepository.updateTodos(
+                  groupId,
+                  changedIds.stream()
+                      .map(id -> TodoChangeDTO.of(todos.get(id), readVersions.get(id)))
+                      .toList());
+      movedIds.stream()
+          .map(writtenTodos::get)
+          .filter(Objects::nonNull)
+          .forEach(this::markColumnIfOrderIsLong);
 
-    todoRepository.unstarTodo(userId, todoId);
+      createdTodos = creates.isEmpty() ? List.of() : todoRepository.createTodos(groupId, creates);
+
+      todoRepository.applyStarIntents(
+          stars.entrySet().stream()
+              .map(star -> new StarIntentDTO(userId, groupId, star.getKey(), star.getValue()))
+              .toList());
+    } catch (DataIntegrityViolationException e) {
+      throw new DuplicateTodoOrderException();
+    }
+
+    List<TodoOperationResultDTO> results = new ArrayList<>(operations.size());
+    Iterator<TodoDTO> createdTodoIterator = createdTodos.iterator();
+
+    for (int index = 0; index < operations.size(); index++) {
+      TodoOperationRequestDTO operation = operations.get(index);
+
+      // 뒤에서 삭제한 Todo는 쓰지 않았으므로 그 작업 직후의 Todo를 돌려준다.
+      TodoDTO result =
+          switch (operation.type()) {
+            case CREATE -> createdTodoIterator.next();
+            case UPDATE, MOVE -> writtenTodos.getOrDefault(operation.todoId(), changedTodos[index]);
+            case DELETE, STAR, UNSTAR -> null;
+          };
+
+      long resultTodoId = result != null ? result.id() : operation.todoId();
+      results.add(new TodoOperationResultDTO(index, operation.type(), resultTodoId, result));
+    }
+
+    return results;
+  }
+
+  /**
+   * 재정렬 기준을 넘길 수 있는 긴 key를 썼으면 column을 재정렬 대상으로 표시한다. 기준보다 짧은 key만 쓰인 column은 평균, 최대
+   * 길이가 기준을 넘을 수 없으므로 표시하지 않는다.
+   */
+  private void markColumnIfOrderIsLong(TodoDTO todo) {
+    double threshold =
+        Math.min(
+            todoOrderRebalanceConfig.getMaxLength(), todoOrderRebalanceConfig.getAverageLength());
+
+    if (todo.order().length() > threshold)
+      todoRepository.markColumnToRebalance(todo.groupId(), todo.status());
+  }
+
+  private static void assertRole(GroupRole role, GroupRole required) {
+    if (!role.gte(required)) throw new UserAccessDeniedException();
+  }
+
+  /** If-Match로 받은 version이 앞의 작업까지 반영한 version과 다르면 412로 거절한다. */
+  private static void assertVersion(TodoDTO todo, Long version) {
+    if (version != null && version != todo.version()) throw new TodoVersionMismatchException();
+  }
+
+  private static TodoDTO changed(
+      TodoDTO todo,
+      String title,
+      String description,
+      TodoStatus status,
+      String order,
+      long version) {
+    return new TodoDTO(
+        todo.id(),
+        title,
+        description,
+        order,
+        status,
+        todo.isImportant(),
+        todo.dueDate(),
+        todo.authorId(),
+        todo.groupId(),
+        todo.assigneeId(),
+        version);
+  }
+
+  private static void assertAuthorOrManager(long userId, GroupRole role, TodoDTO todo) {
+    if (!(role.gte(GroupRole.MANAGER) || (role.eq(GroupRole.MEMBER) && todo.authorId() == userId)))
+      throw new UserAccessDeniedException();
   }
 }
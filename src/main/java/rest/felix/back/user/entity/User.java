@@ -18,7 +18,8 @@ import rest.felix.back.group.entity.UserGroup;
 public class User {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+  @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
   @Setter(AccessLevel.NONE)
   private Long id;
 
@@ -1,6 +1,7 @@
 package rest.felix.back.user.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -9,7 +10,9 @@ import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import rest.felix.back.group.dto.MemberCursorDTO;
 import rest.felix.back.group.dto.MemberDTO;
+import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.user.dto.SignupDTO;
 import rest.felix.back.user.dto.UserDTO;
 import rest.felix.back.user.entity.User;
@@ -51,47 +54,98 @@ public class UserRepository {
         .map(UserDTO::of);
   }
 
+  /**
+   * 그룹마다 역할이 높은 순, 같은 역할이면 먼저 가입한 순으로 최대 limit명의 멤버를 반환한다.
+   *
+   * <p>ROW_NUMBER() OVER (PARTITION BY group_id)로 그룹마다 잘라서, 큰 그룹의 멤버를 모두 읽어 오지 않는다.
+   */
   @Transactional(readOnly = true)
-  public Map<Long, List<MemberDTO>> findMembersByGroupIds(List<Long> groupIds) {
+  public Map<Long, List<MemberDTO>> findMemberPreviewsByGroupIds(List<Long> groupIds, int limit) {
     return em
         .createQuery(
             """
                                 SELECT new rest.felix.back.group.dto.MemberDTO(
-                                    u.id,
-                                    u.nickname,
-                                    g.id,
-                                    ug.groupRole
+                                    m.userId,
+                                    m.nickname,
+                                    m.groupId,
+                                    m.groupRole
                                 )
-                                FROM User u
-                                JOIN UserGroup ug ON u.id = ug.user.id
-                                JOIN Group g ON g.id = ug.group.id
-                                WHERE g.id IN :groupIds
+                                FROM (
+                                  SELECT
+                                    u.id AS userId,
+                                    u.nickname AS nickname,
+                                    ug.group.id AS groupId,
+                                    ug.groupRole AS groupRole,
+                                    ROW_NUMBER() OVER (
+                                      PARTITION BY ug.group.id
+                                      ORDER BY ug.roleRank, ug.id
+                                    ) AS rowNumber
+                                  FROM UserGroup ug
+                                  JOIN ug.user u
+                                  WHERE ug.group.id IN :groupIds
+                                ) m
+                                WHERE m.rowNumber <= :limit
+                                ORDER BY m.groupId, m.rowNumber
                                 """,
             MemberDTO.class)
         .setParameter("groupIds", groupIds)
+        .setParameter("limit", limit)
         .getResultList()
         .stream()
         .collect(Collectors.groupingBy(MemberDTO::groupId));
   }
 
+  /**
+   * 그룹 멤버를 역할이 높은 순, 같은 역할이면 user id 순으로 cursor 다음부터 최대 limit명 반환한다. role이 주어지면 그 역할의
+   * 멤버만 반환한다.
+   *
+   * <p>user_group의 (group_id, role_rank, user_id) index 순서 그대로 읽는 keyset 조회다.
+   */
   @Transactional(readOnly = true)
-  public List<MemberDTO> findMembersByGroupId(Long groupId) {
-    return em.createQuery(
-            """
+  public List<MemberDTO> findMembersByGroupId(
+      long groupId, GroupRole role, MemberCursorDTO cursor, int limit) {
+    String query =
+        """
                                 SELECT new rest.felix.back.group.dto.MemberDTO(
                                     u.id,
                                     u.nickname,
-                                    g.id,
+                                    ug.group.id,
                                     ug.groupRole
                                 )
-                                FROM User u
-                                JOIN UserGroup ug ON u.id = ug.user.id
-                                JOIN Group g ON g.id = ug.group.id
-                                WHERE g.id = :groupId
-                                """,
-            MemberDTO.class)
-        .setParameter("groupId", groupId)
-        .getResultList();
+                                FROM UserGroup ug
+                                JOIN ug.user u
+                                WHERE ug.group.id = :groupId
+                                """
+            + (role != null ? "AND ug.roleRank = :roleRank " : "")
+            + (cursor != null
+                ? """
+                                  AND (
+                                    ug.roleRank > :cursorRoleRank
+                                    OR (
+                                      ug.roleRank = :cursorRoleRank
+                                      AND ug.user.id > :cursorUserId
+                                    )
+                                  )
+                                """
+                : "")
+            + "ORDER BY ug.roleRank ASC, ug.user.id ASC";
+
+    TypedQuery<MemberDTO> select =
+        em.createQuery(query, MemberDTO.class)
+            .setParameter("groupId", groupId)
+            .setMaxResults(limit);
+
+    if (role != null) {
+      select.setParameter("roleRank", role.rank());
+    }
+
+    if (cursor != null) {
+      select
+          .setParameter("cursorRoleRank", cursor.role().rank())
+          .setParameter("cursorUserId", cursor.userId());
+    }
+
+    return select.getResultList();
   }
 
   @Transactional
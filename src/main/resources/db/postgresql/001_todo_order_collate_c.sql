@@ -0,0 +1,17 @@
+-- todo."order"를 "C" collation으로 바꾼다.
+-- order key는 ASCII만 쓰므로 byte 비교와 OrderGenerator(String.compareTo)의 순서가 같고,
+-- ORDER BY와 unique index 비교에서 locale 비교 비용이 사라진다. 이미 바뀌었다면 아무것도 하지 않는다.
+DO $$
+BEGIN
+  IF EXISTS (
+    SELECT 1
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'todo'
+      AND column_name = 'order'
+      AND collation_name IS DISTINCT FROM 'C'
+  ) THEN
+    ALTER TABLE "todo" ALTER COLUMN "order" TYPE varchar(255) COLLATE "C";
+  END IF;
+END
+$$;
@@ -0,0 +1,33 @@
+-- IDENTITY id 컬럼을 hibernate pooled sequence(allocationSize 50)로 옮긴다.
+-- pooled optimizer는 nextval 값을 50개 블록의 마지막 id로 쓰므로, sequence의 last_value를 MAX(id)로 맞추면
+-- 다음 블록은 MAX(id) + 1부터 시작한다. 이미 옮겼다면 sequence가 MAX(id)보다 앞서 있으므로 아무것도 바꾸지 않는다.
+DO $$
+DECLARE
+  target record;
+  max_id bigint;
+  last_id bigint;
+BEGIN
+  FOR target IN
+    SELECT *
+    FROM (
+      VALUES
+        ('user', 'user_seq'),
+        ('group', 'group_seq'),
+        ('user_group', 'user_group_seq'),
+        ('group_invitation', 'group_invitation_seq'),
+        ('todo', 'todo_seq'),
+        ('user_todo_star', 'user_todo_star_seq')
+    ) AS t(table_name, sequence_name)
+  LOOP
+    EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', target.sequence_name);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target.table_name);
+
+    EXECUTE format('SELECT MAX(id) FROM %I', target.table_name) INTO max_id;
+    EXECUTE format('SELECT last_value FROM %I', target.sequence_name) INTO last_id;
+
+    IF max_id IS NOT NULL AND max_id >= last_id THEN
+      PERFORM setval(quote_ident(target.sequence_name), max_id);
+    END IF;
+  END LOOP;
+END
+$$;
@@ -0,0 +1,12 @@
+-- 그룹 삭제를 chunk로 나누어 지울 때 하위 row를 group_id(star는 todo_id)로 찾는다.
+-- 기존 unique 제약은 이 컬럼으로 시작하지 않으므로 따로 index를 둔다.
+-- 삭제 대기 그룹은 적으므로 deleted_at은 partial index로 둔다. 이미 있으면 아무것도 하지 않는다.
+DO $$
+BEGIN
+  CREATE INDEX IF NOT EXISTS user_group_group_id_idx ON "user_group" ("group_id");
+  CREATE INDEX IF NOT EXISTS group_invitation_group_id_idx ON "group_invitation" ("group_id");
+  CREATE INDEX IF NOT EXISTS user_todo_star_todo_id_idx ON "user_todo_star" ("todo_id");
+  CREATE INDEX IF NOT EXISTS group_deleted_at_idx ON "group" ("deleted_at")
+    WHERE "deleted_at" IS NOT NULL;
+END
+$$;
@@ -0,0 +1,8 @@
+-- TodoArchiver가 오래된 DONE todo를 찾을 때 쓰는 index. DONE row만 담도록 partial index로 둔다.
+-- 이미 있으면 아무것도 하지 않는다.
+DO $$
+BEGIN
+  CREATE INDEX IF NOT EXISTS todo_done_updated_at_idx ON "todo" ("updated_at")
+    WHERE "todo_status" = 'DONE';
+END
+$$;
@@ -0,0 +1,23 @@
+-- user_todo_star.group_id를 todo의 group_id로 채운 뒤 NOT NULL로 바꾼다.
+-- hibernate update는 기존 row가 있는 테이블에 NOT NULL 컬럼을 추가할 수 없으므로 nullable로 추가된 컬럼을 여기서 채운다.
+-- 이미 바뀌었다면 아무것도 하지 않는다.
+DO $$
+BEGIN
+  IF EXISTS (
+    SELECT 1
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'user_todo_star'
+      AND column_name = 'group_id'
+      AND is_nullable = 'YES'
+  ) THEN
+    UPDATE "user_todo_star" s
+    SET "group_id" = t."group_id"
+    FROM "todo" t
+    WHERE s."todo_id" = t."id"
+      AND s."group_id" IS NULL;
+
+    ALTER TABLE "user_todo_star" ALTER COLUMN "group_id" SET NOT NULL;
+  END IF;
+END
+$$;
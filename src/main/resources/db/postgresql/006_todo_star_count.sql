@@ -0,0 +1,24 @@
+-- todo.star_count를 user_todo_star의 row 수로 채운다.
+-- 컬럼은 hibernate update가 default 0으로 추가하므로, star가 있는데 0인 row만 채운다.
+-- 채운 뒤 컬럼에 comment를 남겨, 다음 시작부터는 user_todo_star 전체를 GROUP BY 하지 않는다.
+DO $$
+BEGIN
+  IF col_description(
+    to_regclass('"todo"'),
+    (SELECT a.attnum FROM pg_attribute a
+     WHERE a.attrelid = to_regclass('"todo"') AND a.attname = 'star_count')
+  ) IS DISTINCT FROM 'backfilled' THEN
+    UPDATE "todo" t
+    SET "star_count" = s.star_count
+    FROM (
+      SELECT "todo_id", COUNT(*) AS star_count
+      FROM "user_todo_star"
+      GROUP BY "todo_id"
+    ) s
+    WHERE t."id" = s."todo_id"
+      AND t."star_count" = 0;
+
+    COMMENT ON COLUMN "todo"."star_count" IS 'backfilled';
+  END IF;
+END
+$$;
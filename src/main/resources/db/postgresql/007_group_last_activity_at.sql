@@ -0,0 +1,24 @@
+-- group.last_activity_at을 마지막으로 바뀐 todo 시각(todo가 없으면 그룹 생성 시각)으로 채운 뒤 NOT NULL로 바꾼다.
+-- hibernate update는 기존 row가 있는 테이블에 NOT NULL 컬럼을 추가할 수 없으므로 nullable로 추가된 컬럼을 여기서 채운다.
+-- 이미 바뀌었다면 아무것도 하지 않는다.
+DO $$
+BEGIN
+  IF EXISTS (
+    SELECT 1
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'group'
+      AND column_name = 'last_activity_at'
+      AND is_nullable = 'YES'
+  ) THEN
+    UPDATE "group" g
+    SET "last_activity_at" = COALESCE(
+      (SELECT MAX(t."updated_at") FROM "todo" t WHERE t."group_id" = g."id"),
+      g."created_at"
+    )
+    WHERE g."last_activity_at" IS NULL;
+
+    ALTER TABLE "group" ALTER COLUMN "last_activity_at" SET NOT NULL;
+  END IF;
+END
+$$;
@@ -0,0 +1,29 @@
+-- todo의 (group_id, "order", todo_status) unique 제약을 (group_id, todo_status, "order")로 다시 만든다.
+-- createTodo가 lock 없이 읽는 column별 MAX("order")가 index 끝 한 칸이 되도록 column 순서만 바꾼다.
+-- hibernate update는 이미 있는 unique 제약의 column 순서를 고치지 않는다. 이미 바뀌었다면 아무것도 하지 않는다.
+DO $$
+DECLARE
+  con record;
+BEGIN
+  FOR con IN
+    SELECT conname
+    FROM pg_constraint
+    WHERE conrelid = to_regclass('todo')
+      AND contype = 'u'
+      AND pg_get_constraintdef(oid) = 'UNIQUE (group_id, "order", todo_status)'
+  LOOP
+    EXECUTE format('ALTER TABLE "todo" DROP CONSTRAINT %I', con.conname);
+  END LOOP;
+
+  IF NOT EXISTS (
+    SELECT 1
+    FROM pg_constraint
+    WHERE conrelid = to_regclass('todo')
+      AND contype = 'u'
+      AND pg_get_constraintdef(oid) LIKE 'UNIQUE (group_id, todo_status, "order"%'
+  ) THEN
+    ALTER TABLE "todo"
+      ADD CONSTRAINT "todo_group_id_todo_status_order_key" UNIQUE ("group_id", "todo_status", "order");
+  END IF;
+END
+$$;
@@ -0,0 +1,28 @@
+-- user_group.role_rank를 group_role로 채운 뒤 NOT NULL로 바꾼다.
+-- hibernate update는 기존 row가 있는 테이블에 NOT NULL 컬럼을 추가할 수 없으므로 nullable로 추가된 컬럼을 여기서 채운다.
+-- group_role로 정렬하던 예전 index는 (group_id, role_rank, user_id) index로 바뀌었으므로 지운다. 이미 바뀌었다면 아무것도 하지 않는다.
+DO $$
+BEGIN
+  IF EXISTS (
+    SELECT 1
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'user_group'
+      AND column_name = 'role_rank'
+      AND is_nullable = 'YES'
+  ) THEN
+    UPDATE "user_group"
+    SET "role_rank" = CASE "group_role"
+      WHEN 'OWNER' THEN 0
+      WHEN 'MANAGER' THEN 1
+      WHEN 'MEMBER' THEN 2
+      ELSE 3
+    END
+    WHERE "role_rank" IS NULL;
+
+    ALTER TABLE "user_group" ALTER COLUMN "role_rank" SET NOT NULL;
+  END IF;
+
+  DROP INDEX IF EXISTS user_group_group_id_group_role_user_id_idx;
+END
+$$;
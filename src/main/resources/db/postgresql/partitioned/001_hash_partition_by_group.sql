@@ -0,0 +1,120 @@
+-- partitioned profile에서만 실행한다. todo, user_todo_star를 group_id 기준 hash partition 테이블로 옮긴다.
+-- 모든 조회가 group_id를 조건으로 가지므로 한 그룹의 board 조회는 partition 하나만 읽는다.
+-- partition 테이블의 PK, unique 제약은 partition key를 포함해야 하므로 group_id를 덧붙이고, 다른 테이블에서 들어오는
+-- FK도 (..., group_id)로 바꾼다. 제약과 index 이름은 그대로 두어 hibernate update가 다시 만들지 않게 한다.
+-- 이미 partition 테이블이면 아무것도 하지 않는다.
+DO $$
+DECLARE
+  partition_count constant int := 16;
+  target record;
+  con record;
+  idx record;
+  own_names text[];
+  own_defs text[];
+  ref_tables text[];
+  ref_names text[];
+  ref_defs text[];
+  index_defs text[];
+  def text;
+  i int;
+BEGIN
+  FOR target IN
+    SELECT *
+    FROM (
+      VALUES
+        ('todo', 'todo_unpartitioned'),
+        ('user_todo_star', 'user_todo_star_unpartitioned')
+    ) AS t(table_name, old_name)
+  LOOP
+    CONTINUE WHEN NOT EXISTS (
+      SELECT 1
+      FROM pg_class
+      WHERE oid = to_regclass(quote_ident(target.table_name))
+        AND relkind = 'r'
+    );
+
+    EXECUTE format('LOCK TABLE %I IN ACCESS EXCLUSIVE MODE', target.table_name);
+
+    own_names := '{}';
+    own_defs := '{}';
+    ref_tables := '{}';
+    ref_names := '{}';
+    ref_defs := '{}';
+    index_defs := '{}';
+
+    -- 이 테이블을 가리키는 다른 테이블의 FK
+    FOR con IN
+      SELECT conrelid::regclass::text AS table_name, conname, pg_get_constraintdef(oid) AS def
+      FROM pg_constraint
+      WHERE confrelid = to_regclass(quote_ident(target.table_name))
+        AND conrelid <> confrelid
+        AND contype = 'f'
+    LOOP
+      ref_tables := ref_tables || con.table_name;
+      ref_names := ref_names || con.conname::text;
+      ref_defs := ref_defs || regexp_replace(
+        con.def,
+        '^FOREIGN KEY \((\w+)\) REFERENCES (\S+)\((\w+)\)',
+        'FOREIGN KEY (\1, group_id) REFERENCES \2(\3, group_id)');
+      EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', con.table_name, con.conname);
+    END LOOP;
+
+    -- 이 테이블의 PK, unique, FK. PK와 unique에는 group_id를 덧붙인다.
+    FOR con IN
+      SELECT conname, contype, pg_get_constraintdef(oid) AS def
+      FROM pg_constraint
+      WHERE conrelid = to_regclass(quote_ident(target.table_name))
+        AND contype IN ('p', 'u', 'f')
+    LOOP
+      def := con.def;
+      IF con.contype IN ('p', 'u') AND def !~ '\mgroup_id\M' THEN
+        def := regexp_replace(def, '\)$', ', group_id)');
+      END IF;
+
+      own_names := own_names || con.conname::text;
+      own_defs := own_defs || def;
+      EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', target.table_name, con.conname);
+    END LOOP;
+
+    -- 제약에 속하지 않은 index (003, 004 스크립트의 index 등)
+    FOR idx IN
+      SELECT indexname, indexdef
+      FROM pg_indexes
+      WHERE schemaname = current_schema()
+        AND tablename = target.table_name
+    LOOP
+      index_defs := index_defs || replace(
+        idx.indexdef,
+        format(' ON %I.%I ', current_schema(), target.table_name),
+        format(' ON %I ', target.table_name));
+    END LOOP;
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', target.table_name, target.old_name);
+    EXECUTE format(
+      'CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS) PARTITION BY HASH (group_id)',
+      target.table_name, target.old_name);
+
+    FOR i IN 0 .. partition_count - 1 LOOP
+      EXECUTE format(
+        'CREATE TABLE %I PARTITION OF %I FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+        target.table_name || '_p' || i, target.table_name, partition_count, i);
+    END LOOP;
+
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I', target.table_name, target.old_name);
+    EXECUTE format('DROP TABLE %I', target.old_name);
+
+    FOR i IN 1 .. coalesce(array_length(own_names, 1), 0) LOOP
+      EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I %s', target.table_name, own_names[i], own_defs[i]);
+    END LOOP;
+
+    FOR i IN 1 .. coalesce(array_length(index_defs, 1), 0) LOOP
+      EXECUTE index_defs[i];
+    END LOOP;
+
+    FOR i IN 1 .. coalesce(array_length(ref_names, 1), 0) LOOP
+      EXECUTE format('ALTER TABLE %s ADD CONSTRAINT %I %s', ref_tables[i], ref_names[i], ref_defs[i]);
+    END LOOP;
+  END LOOP;
+END
+$$;
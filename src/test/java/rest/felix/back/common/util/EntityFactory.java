@@ -48,6 +48,19 @@ public class EntityFactory {
     return group;
   }
 
+  public Group insertGroup(String name, String description, ZonedDateTime lastActivityAt) {
+
+    Group group = new Group();
+
+    group.setName(name);
+    group.setDescription(description);
+    group.setLastActivityAt(lastActivityAt);
+
+    entityManager.persist(group);
+
+    return group;
+  }
+
   public Trio<User, Group, UserGroup> insertUserGroup() {
     User user =
         insertUser(
@@ -134,11 +147,12 @@ public class EntityFactory {
 
   public UserTodoStar insertUserTodoStar(Long userId, Long todoId) {
     User user = entityManager.getReference(User.class, userId);
-    Todo todo = entityManager.getReference(Todo.class, todoId);
+    Todo todo = entityManager.find(Todo.class, todoId);
 
     UserTodoStar userTodoStar = new UserTodoStar();
 
     userTodoStar.setUser(user);
+    userTodoStar.setGroup(todo.getGroup());
     userTodoStar.setTodo(todo);
 
     entityManager.persist(userTodoStar);
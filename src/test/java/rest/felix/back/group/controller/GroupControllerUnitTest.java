@@ -26,6 +26,7 @@ import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.exception.*;
 import rest.felix.back.group.repository.GroupRepository;
 import rest.felix.back.group.repository.UserGroupRepository;
+import rest.felix.back.group.service.GroupPurger;
 import rest.felix.back.todo.dto.TodoWithStarredStatusResponseDTO;
 import rest.felix.back.todo.entity.Todo;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
@@ -42,6 +43,7 @@ public class GroupControllerUnitTest {
   @Autowired private GroupRepository groupRepository;
   @Autowired private UserGroupRepository userGroupRepository;
   @Autowired private TodoRepository todoRepository;
+  @Autowired private GroupPurger groupPurger;
   @Autowired private EntityFactory entityFactory;
   @Autowired private GroupConfig groupConfig;
 
@@ -169,18 +171,20 @@ public class GroupControllerUnitTest {
       AuthUserDTO authUserDTO = AuthUserDTO.of(mainUser);
 
       // When
-      ResponseEntity<List<DetailedGroupResponseDTO>> responseEntity =
-          groupController.getMyDetailedGroups(authUserDTO);
+      ResponseEntity<DetailedGroupPageResponseDTO> responseEntity =
+          groupController.getMyDetailedGroups(authUserDTO, null, 50);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
 
-      List<DetailedGroupResponseDTO> body = responseEntity.getBody();
+      DetailedGroupPageResponseDTO body = responseEntity.getBody();
       Assertions.assertNotNull(body);
-      Assertions.assertEquals(2, body.size());
+      Assertions.assertEquals(2, body.groups().size());
 
       List<DetailedGroupResponseDTO> data =
-          body.stream().sorted(Comparator.comparing(DetailedGroupResponseDTO::name)).toList();
+          body.groups().stream()
+              .sorted(Comparator.comparing(DetailedGroupResponseDTO::name))
+              .toList();
 
       DetailedGroupResponseDTO group1DTO = data.get(0);
       Assertions.assertEquals(group1.getId(), group1DTO.id());
@@ -235,17 +239,17 @@ public class GroupControllerUnitTest {
       AuthUserDTO authUserDTO = AuthUserDTO.of(mainUser);
 
       // When
-      ResponseEntity<List<DetailedGroupResponseDTO>> responseEntity =
-          groupController.getMyDetailedGroups(authUserDTO);
+      ResponseEntity<DetailedGroupPageResponseDTO> responseEntity =
+          groupController.getMyDetailedGroups(authUserDTO, null, 50);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
 
-      List<DetailedGroupResponseDTO> body = responseEntity.getBody();
+      DetailedGroupPageResponseDTO body = responseEntity.getBody();
       Assertions.assertNotNull(body);
-      Assertions.assertEquals(1, body.size());
+      Assertions.assertEquals(1, body.groups().size());
 
-      DetailedGroupResponseDTO group1DTO = body.get(0);
+      DetailedGroupResponseDTO group1DTO = body.groups().get(0);
       Assertions.assertEquals(group1.getId(), group1DTO.id());
       Assertions.assertEquals("Group 1", group1DTO.name());
       Assertions.assertEquals("Description 1", group1DTO.description());
@@ -269,15 +273,15 @@ public class GroupControllerUnitTest {
       AuthUserDTO authUserDTO = AuthUserDTO.of(mainUser);
 
       // When
-      ResponseEntity<List<DetailedGroupResponseDTO>> responseEntity =
-          groupController.getMyDetailedGroups(authUserDTO);
+      ResponseEntity<DetailedGroupPageResponseDTO> responseEntity =
+          groupController.getMyDetailedGroups(authUserDTO, null, 50);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
 
-      List<DetailedGroupResponseDTO> body = responseEntity.getBody();
+      DetailedGroupPageResponseDTO body = responseEntity.getBody();
       Assertions.assertNotNull(body);
-      Assertions.assertEquals(0, body.size());
+      Assertions.assertEquals(0, body.groups().size());
     }
   }
 
@@ -625,6 +629,8 @@ public class GroupControllerUnitTest {
 
       Assertions.assertEquals(true, groupRepository.findById(group.getId()).isEmpty());
 
+      Assertions.assertEquals(1, groupPurger.purge());
+
       Assertions.assertEquals(true, todoRepository.findByGroupId(group.getId()).isEmpty());
 
       Assertions.assertEquals(true, userGroupRepository.findByGroupId(group.getId()).isEmpty());
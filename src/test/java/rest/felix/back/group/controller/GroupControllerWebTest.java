@@ -35,6 +35,8 @@ import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.repository.GroupRepository;
 import rest.felix.back.group.repository.UserGroupRepository;
+import rest.felix.back.group.service.GroupInvitationPurger;
+import rest.felix.back.group.service.GroupPurger;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.todo.repository.TodoRepository;
 import rest.felix.back.user.dto.AuthUserDTO;
@@ -46,6 +48,8 @@ import rest.felix.back.user.entity.User;
 public class GroupControllerWebTest {
 
   @Autowired private TodoRepository todoRepository;
+  @Autowired private GroupPurger groupPurger;
+  @Autowired private GroupInvitationPurger groupInvitationPurger;
   @Autowired private GroupRepository groupRepository;
   @Autowired private UserGroupRepository userGroupRepository;
   @Autowired private MockMvc mvc;
@@ -274,11 +278,11 @@ public class GroupControllerWebTest {
 
       // Then
 
-      String group1Key = String.format("$[?(@.id == %d)]", group1.getId());
-      String group2Key = String.format("$[?(@.id == %d)]", group2.getId());
+      String group1Key = String.format("$.groups[?(@.id == %d)]", group1.getId());
+      String group2Key = String.format("$.groups[?(@.id == %d)]", group2.getId());
       result
           .andExpect(status().isOk())
-          .andExpect(jsonPath("$.length()").value(2))
+          .andExpect(jsonPath("$.groups.length()").value(2))
           .andExpect(jsonPath(group1Key + ".name").value("Group 1"))
           .andExpect(jsonPath(group1Key + ".description").value("Description 1"))
           .andExpect(jsonPath(group1Key + ".todoCount").value(2))
@@ -325,13 +329,13 @@ public class GroupControllerWebTest {
       // Then
       result
           .andExpect(status().isOk())
-          .andExpect(jsonPath("$.length()").value(1))
-          .andExpect(jsonPath("$[0].name").value("Group 1"))
-          .andExpect(jsonPath("$[0].description").value("Description 1"))
-          .andExpect(jsonPath("$[0].todoCount").value(1))
-          .andExpect(jsonPath("$[0].completedTodoCount").value(0))
-          .andExpect(jsonPath("$[0].memberCount").value(2))
-          .andExpect(jsonPath("$[0].myRole").value("OWNER"));
+          .andExpect(jsonPath("$.groups.length()").value(1))
+          .andExpect(jsonPath("$.groups[0].name").value("Group 1"))
+          .andExpect(jsonPath("$.groups[0].description").value("Description 1"))
+          .andExpect(jsonPath("$.groups[0].todoCount").value(1))
+          .andExpect(jsonPath("$.groups[0].completedTodoCount").value(0))
+          .andExpect(jsonPath("$.groups[0].memberCount").value(2))
+          .andExpect(jsonPath("$.groups[0].myRole").value("OWNER"));
     }
 
     @Test
@@ -348,7 +352,7 @@ public class GroupControllerWebTest {
       ResultActions result = mvc.perform(get(path).cookie(cookie));
 
       // Then
-      result.andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(0));
+      result.andExpect(status().isOk()).andExpect(jsonPath("$.groups.length()").value(0));
     }
 
     @Test
@@ -495,6 +499,7 @@ public class GroupControllerWebTest {
                   equalTo("Member1 Todo 1"),
                   equalTo("Member2 Todo 1"),
                   equalTo("Owner Todo 2"))));
+      result.andExpect(jsonPath("$.todos[*].version", everyItem(equalTo(0))));
     }
 
     @Test
@@ -704,6 +709,8 @@ public class GroupControllerWebTest {
 
       Assertions.assertEquals(true, groupRepository.findById(group.getId()).isEmpty());
 
+      Assertions.assertEquals(1, groupPurger.purge());
+
       Assertions.assertEquals(true, todoRepository.findByGroupId(group.getId()).isEmpty());
 
       Assertions.assertEquals(true, userGroupRepository.findByGroupId(group.getId()).isEmpty());
@@ -1168,6 +1175,31 @@ public class GroupControllerWebTest {
               objectMapper.readValue(responseString, GroupInvitationInfoDTOResponse.class);
       Assertions.assertEquals(true, responseDTO.isExpired());
     }
+
+    @Test
+    @DisplayName("성공 - 정리 작업이 돌아도 유예 기간 안의 만료된 초대")
+    public void HappyPath_ExpiredInvitationAfterPurge() throws Exception {
+      // Given
+      User issuer = entityFactory.insertUser("issuer", "hashedPassword", "issuerNick");
+      User user = entityFactory.insertUser("user", "hashedPassword", "userNick");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
+
+      String token = "recentlyExpiredToken";
+      entityFactory.insertGroupInvitation(
+          issuer.getId(), group.getId(), token, ZonedDateTime.now().minusDays(1));
+      groupInvitationPurger.purge();
+
+      Cookie cookie = userCookie(user);
+      String path = String.format("/api/v1/group/invitation/%s", token);
+
+      // When
+      ResultActions result = mvc.perform(get(path).cookie(cookie));
+
+      // Then
+      result.andExpect(status().isOk());
+      result.andExpect(jsonPath("$.isExpired", equalTo(true)));
+    }
   }
 
 
@@ -0,0 +1,85 @@
+package rest.felix.back.group.service;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.repository.GroupRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GroupActivityRecorderTest {
+
+  @Autowired private GroupActivityRecorder groupActivityRecorder;
+  @Autowired private GroupRepository groupRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private EntityFactory entityFactory;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    th.cleanUp();
+  }
+
+  private ZonedDateTime findLastActivityAt(Group group) {
+    return groupRepository.findById(group.getId()).orElseThrow().lastActivityAt();
+  }
+
+  @Nested
+  @DisplayName("그룹 활동 갱신 (touch)")
+  class Touch {
+
+    @Test
+    @DisplayName("성공: transaction 안에서 부르면 commit된 뒤에 갱신한다")
+    void success_whenTransactionCommits() {
+      // Given
+      ZonedDateTime threshold = ZonedDateTime.now().minusHours(1);
+      Group group =
+          entityFactory.insertGroup("group", "description", ZonedDateTime.now().minusDays(1));
+      TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+      // When
+      ZonedDateTime lastActivityAtBeforeCommit =
+          transaction.execute(
+              status -> {
+                groupActivityRecorder.touch(group.getId());
+                return findLastActivityAt(group);
+              });
+
+      // Then
+      Assertions.assertTrue(lastActivityAtBeforeCommit.isBefore(threshold));
+      Assertions.assertTrue(findLastActivityAt(group).isAfter(threshold));
+    }
+
+    @Test
+    @DisplayName("성공: transaction이 되돌려지면 갱신하지 않고 다음 요청이 갱신한다")
+    void success_whenTransactionRollsBack() {
+      // Given
+      ZonedDateTime threshold = ZonedDateTime.now().minusHours(1);
+      Group group =
+          entityFactory.insertGroup("group", "description", ZonedDateTime.now().minusDays(1));
+      TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+      // When
+      transaction.executeWithoutResult(
+          status -> {
+            groupActivityRecorder.touch(group.getId());
+            status.setRollbackOnly();
+          });
+
+      // Then
+      Assertions.assertTrue(findLastActivityAt(group).isBefore(threshold));
+
+      // 되돌려진 요청은 1초 간격을 차지하지 않으므로 바로 다음 요청이 갱신한다.
+      groupActivityRecorder.touch(group.getId());
+      Assertions.assertTrue(findLastActivityAt(group).isAfter(threshold));
+    }
+  }
+}
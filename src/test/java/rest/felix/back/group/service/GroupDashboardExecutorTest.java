@@ -0,0 +1,173 @@
+package rest.felix.back.group.service;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.dto.DetailedGroupDTO;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest(
+    properties = {
+      "group.dashboard.query-timeout-ms=500",
+      "group.dashboard.query-parallelism=1"
+    })
+@ActiveProfiles("test")
+class GroupDashboardExecutorTest {
+
+  @Autowired private GroupDashboardExecutor dashboardExecutor;
+  @Autowired private GroupService groupService;
+  @Autowired private EntityFactory entityFactory;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    th.cleanUp();
+  }
+
+  @Nested
+  @DisplayName("대시보드 조회 (supplyQuery)")
+  class SupplyQuery {
+
+    @Test
+    @DisplayName("실패: queryTimeoutMs 안에 끝나지 않은 조회는 QueryTimeoutException을 던진다")
+    void fail_whenQueryTimesOut() {
+      // Given
+      CompletableFuture<Integer> future =
+          dashboardExecutor
+              .open()
+              .supplyQuery(
+                  () -> {
+                    try {
+                      Thread.sleep(2_000);
+                    } catch (InterruptedException e) {
+                      Thread.currentThread().interrupt();
+                    }
+                    return 1;
+                  });
+
+      // When
+      Runnable lambda = () -> GroupDashboardExecutor.join(future);
+
+      // Then
+      Assertions.assertThrows(QueryTimeoutException.class, lambda::run);
+    }
+
+    @Test
+    @DisplayName("성공: 한 대시보드의 조회는 queryParallelism개까지만 동시에 실행한다")
+    void success_whenQueriesExceedParallelism() throws Exception {
+      // Given
+      GroupDashboardExecutor.DashboardQueries queries = dashboardExecutor.open();
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      AtomicBoolean secondStarted = new AtomicBoolean(false);
+
+      CompletableFuture<Integer> first =
+          queries.supplyQuery(
+              () -> {
+                started.countDown();
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                return 1;
+              });
+      started.await();
+
+      // When
+      CompletableFuture<Integer> second =
+          queries.supplyQuery(
+              () -> {
+                secondStarted.set(true);
+                return 2;
+              });
+
+      // Then
+      Thread.sleep(100);
+      Assertions.assertFalse(secondStarted.get());
+
+      release.countDown();
+      Assertions.assertEquals(1, GroupDashboardExecutor.join(first));
+      Assertions.assertEquals(2, GroupDashboardExecutor.join(second));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 대시보드의 조회는 서로 기다리지 않는다")
+    void success_whenOtherDashboardIsRunning() throws Exception {
+      // Given
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+
+      CompletableFuture<Integer> running =
+          dashboardExecutor
+              .open()
+              .supplyQuery(
+                  () -> {
+                    started.countDown();
+                    try {
+                      release.await();
+                    } catch (InterruptedException e) {
+                      Thread.currentThread().interrupt();
+                    }
+                    return 1;
+                  });
+      started.await();
+
+      // When
+      int result = GroupDashboardExecutor.join(dashboardExecutor.open().supplyQuery(() -> 2));
+
+      // Then
+      Assertions.assertEquals(2, result);
+
+      release.countDown();
+      Assertions.assertEquals(1, GroupDashboardExecutor.join(running));
+    }
+  }
+
+  @Nested
+  @DisplayName("대시보드 조회 (findDetailedGroupsByUserId)")
+  class FindDetailedGroups {
+
+    @Test
+    @DisplayName("성공: 동시에 요청한 대시보드를 모두 반환한다")
+    void success_whenDashboardsAreRequestedConcurrently() throws Exception {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Callable<List<DetailedGroupDTO>> dashboard =
+          () -> groupService.findDetailedGroupsByUserId(user.getId(), null, 10).groups();
+
+      // When
+      List<List<DetailedGroupDTO>> results;
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        List<Future<List<DetailedGroupDTO>>> futures =
+            List.of(executor.submit(dashboard), executor.submit(dashboard));
+
+        results = List.of(futures.get(0).get(), futures.get(1).get());
+      }
+
+      // Then
+      for (List<DetailedGroupDTO> groups : results) {
+        Assertions.assertEquals(1, groups.size());
+        Assertions.assertEquals(group.getId(), groups.get(0).id());
+        Assertions.assertEquals(1L, groups.get(0).memberCount());
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package rest.felix.back.group.service;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rest.felix.back.common.config.GroupInvitationPreviewConfig;
+import rest.felix.back.group.dto.GroupInvitationInfoDTO;
+import rest.felix.back.group.dto.MemberDTO;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+
+class GroupInvitationPreviewCacheTest {
+
+  private static final long TTL_MS = 60_000;
+
+  private static GroupInvitationInfoDTO info(ZonedDateTime expiresAt) {
+    MemberDTO issuer = new MemberDTO(1L, "issuerNick", 1L, GroupRole.OWNER);
+    return new GroupInvitationInfoDTO(
+        1L, "group name", "group description", 0, 0, 1, issuer, List.of(issuer), expiresAt);
+  }
+
+  @Nested
+  @DisplayName("초대 미리보기 캐시 (get, put)")
+  class GetAndPut {
+
+    @Test
+    @DisplayName("성공: ttl 안에서는 캐시한 미리보기를 반환하고, ttl이 지나면 비운다")
+    void success_whenWithinTtl() {
+      // Given
+      GroupInvitationPreviewCache cache =
+          new GroupInvitationPreviewCache(new GroupInvitationPreviewConfig(TTL_MS, 10));
+      ZonedDateTime now = ZonedDateTime.now();
+      GroupInvitationInfoDTO info = info(now.plusDays(1));
+
+      // When
+      cache.put("token", info, now);
+
+      // Then
+      Assertions.assertEquals(info, cache.get("token", now.plusSeconds(59)).orElseThrow());
+      Assertions.assertTrue(cache.get("token", now.plusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("성공: 초대가 ttl보다 먼저 만료되면 만료 시각까지만 캐시한다")
+    void success_whenInvitationExpiresBeforeTtl() {
+      // Given
+      GroupInvitationPreviewCache cache =
+          new GroupInvitationPreviewCache(new GroupInvitationPreviewConfig(TTL_MS, 10));
+      ZonedDateTime now = ZonedDateTime.now();
+
+      // When
+      cache.put("token", info(now.plusSeconds(10)), now);
+      cache.put("expired", info(now.minusSeconds(1)), now);
+
+      // Then
+      Assertions.assertTrue(cache.get("token", now.plusSeconds(9)).isPresent());
+      Assertions.assertTrue(cache.get("token", now.plusSeconds(10)).isEmpty());
+      Assertions.assertTrue(cache.get("expired", now).isEmpty());
+    }
+
+    @Test
+    @DisplayName("성공: 가득 차 있으면 지난 항목만 비우고, 남은 자리가 없으면 캐시하지 않는다")
+    void success_whenFull() {
+      // Given
+      GroupInvitationPreviewCache cache =
+          new GroupInvitationPreviewCache(new GroupInvitationPreviewConfig(TTL_MS, 2));
+      ZonedDateTime now = ZonedDateTime.now();
+
+      cache.put("first", info(now.plusSeconds(1)), now);
+      cache.put("second", info(now.plusDays(1)), now);
+
+      // When
+      ZonedDateTime later = now.plusSeconds(2);
+      cache.put("third", info(now.plusDays(1)), later);
+      cache.put("fourth", info(now.plusDays(1)), later);
+
+      // Then
+      Assertions.assertTrue(cache.get("second", later).isPresent());
+      Assertions.assertTrue(cache.get("third", later).isPresent());
+      Assertions.assertTrue(cache.get("fourth", later).isEmpty());
+    }
+  }
+}
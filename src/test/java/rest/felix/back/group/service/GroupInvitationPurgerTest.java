@@ -0,0 +1,87 @@
+package rest.felix.back.group.service;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.repository.GroupInvitationRepository;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GroupInvitationPurgerTest {
+
+  @Autowired private GroupInvitationPurger groupInvitationPurger;
+  @Autowired private GroupInvitationRepository groupInvitationRepository;
+  @Autowired private EntityFactory entityFactory;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    th.cleanUp();
+  }
+
+  @Nested
+  @DisplayName("만료된 초대 정리 (purge)")
+  class Purge {
+
+    @Test
+    @DisplayName("성공: 유예 기간이 지난 만료된 초대만 지우고 최근에 만료된 초대와 유효한 초대는 남긴다")
+    void success_whenSomeInvitationsAreExpired() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      ZonedDateTime now = ZonedDateTime.now();
+
+      entityFactory.insertGroupInvitation(
+          user.getId(), group.getId(), "expired1", now.minusDays(9));
+      entityFactory.insertGroupInvitation(
+          user.getId(), group.getId(), "expired2", now.minusDays(8));
+      entityFactory.insertGroupInvitation(
+          user.getId(), group.getId(), "recentlyExpired", now.minusMinutes(1));
+      entityFactory.insertGroupInvitation(user.getId(), group.getId(), "valid", now.plusDays(1));
+
+      // When
+      int purged = groupInvitationPurger.purge();
+
+      // Then
+      Assertions.assertEquals(2, purged);
+      Assertions.assertTrue(groupInvitationRepository.findByToken("expired1").isEmpty());
+      Assertions.assertTrue(groupInvitationRepository.findByToken("expired2").isEmpty());
+      Assertions.assertTrue(groupInvitationRepository.findByToken("recentlyExpired").isPresent());
+      Assertions.assertTrue(groupInvitationRepository.findByToken("valid").isPresent());
+    }
+  }
+
+  @Nested
+  @DisplayName("만료된 초대 chunk 삭제 (deleteExpired)")
+  class DeleteExpired {
+
+    @Test
+    @DisplayName("성공: 먼저 만료된 초대부터 limit개까지만 지운다")
+    void success_whenExpiredInvitationsExceedLimit() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      ZonedDateTime now = ZonedDateTime.now();
+
+      entityFactory.insertGroupInvitation(user.getId(), group.getId(), "older", now.minusDays(2));
+      entityFactory.insertGroupInvitation(user.getId(), group.getId(), "newer", now.minusDays(1));
+
+      // When
+      int deleted = groupInvitationRepository.deleteExpired(now, 1);
+
+      // Then
+      Assertions.assertEquals(1, deleted);
+      Assertions.assertTrue(groupInvitationRepository.findByToken("older").isEmpty());
+      Assertions.assertTrue(groupInvitationRepository.findByToken("newer").isPresent());
+    }
+  }
+}
@@ -15,10 +15,13 @@ import rest.felix.back.group.dto.GroupInvitationDTO;
 import rest.felix.back.group.entity.Group;
 import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.group.exception.AlreadyGroupMemberException;
 import rest.felix.back.group.exception.ExpiredInvitationException;
 import rest.felix.back.group.exception.NoInvitationException;
 import rest.felix.back.group.exception.TooManyInvitationsException;
 import rest.felix.back.group.repository.GroupInvitationRepository;
+import rest.felix.back.group.repository.GroupRepository;
+import rest.felix.back.group.repository.UserGroupRepository;
 import rest.felix.back.user.entity.User;
 
 @SpringBootTest
@@ -27,6 +30,8 @@ class GroupInvitationServiceTest {
 
   @Autowired private GroupInvitationService groupInvitationService;
   @Autowired private GroupInvitationRepository groupInvitationRepository;
+  @Autowired private GroupRepository groupRepository;
+  @Autowired private UserGroupRepository userGroupRepository;
   @Autowired private EntityFactory entityFactory;
   @Autowired private TestHelper th;
   @Autowired private GroupConfig groupConfig;
@@ -220,42 +225,44 @@ class GroupInvitationServiceTest {
   }
 
   @Nested
-  @DisplayName("유효한 초대 찾기 테스트")
-  class FindValidInvitation {
+  @DisplayName("초대 수락 테스트")
+  class AcceptInvitation {
     @Test
     @DisplayName("성공")
     void HappyPath() {
       // Given
       User issuer = entityFactory.insertUser("issuer", "password", "issuerNick");
+      User user = entityFactory.insertUser("user", "password", "userNick");
       Group group = entityFactory.insertGroup("group", "description");
       entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
 
       String token = UUID.randomUUID().toString();
-      ZonedDateTime expiresAt = ZonedDateTime.now().plusDays(1);
-      entityFactory.insertGroupInvitation(issuer.getId(), group.getId(), token, expiresAt);
+      entityFactory.insertGroupInvitation(
+          issuer.getId(), group.getId(), token, ZonedDateTime.now().plusDays(1));
 
       // When
-      GroupInvitationDTO foundInvitation =
-          groupInvitationService.findValidInvitation(token, ZonedDateTime.now());
+      groupInvitationService.acceptInvitation(user.getId(), token, ZonedDateTime.now());
 
       // Then
-      Assertions.assertNotNull(foundInvitation);
-      Assertions.assertEquals(issuer.getId(), foundInvitation.issuerId());
-      Assertions.assertEquals(group.getId(), foundInvitation.groupId());
-      Assertions.assertEquals(token, foundInvitation.token());
-      // Assertions.assertEquals(
-      // expiresAt.toEpochSecond(), foundInvitation.expiresAt().toEpochSecond());
+      Assertions.assertEquals(
+          GroupRole.MEMBER,
+          userGroupRepository
+              .findByUserIdAndGroupId(user.getId(), group.getId())
+              .orElseThrow()
+              .groupRole());
     }
 
     @Test
     @DisplayName("실패 - 없는 초대")
     void Failure_NoInvitation() {
       // Given
-      String invalidToken = "nonExistentToken";
+      User user = entityFactory.insertUser("user", "password", "userNick");
 
       // When
       Runnable lambda =
-          () -> groupInvitationService.findValidInvitation(invalidToken, ZonedDateTime.now());
+          () ->
+              groupInvitationService.acceptInvitation(
+                  user.getId(), "nonExistentToken", ZonedDateTime.now());
 
       // Then
       Assertions.assertThrows(NoInvitationException.class, lambda::run);
@@ -266,19 +273,74 @@ class GroupInvitationServiceTest {
     void Failure_ExpiredInvitation() {
       // Given
       User issuer = entityFactory.insertUser("issuer", "password", "issuerNick");
+      User user = entityFactory.insertUser("user", "password", "userNick");
       Group group = entityFactory.insertGroup("group", "description");
       entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
 
       String token = UUID.randomUUID().toString();
-      ZonedDateTime expiresAt = ZonedDateTime.now().minusDays(1); // Expired
-      entityFactory.insertGroupInvitation(issuer.getId(), group.getId(), token, expiresAt);
+      entityFactory.insertGroupInvitation(
+          issuer.getId(), group.getId(), token, ZonedDateTime.now().minusDays(1));
 
       // When
       Runnable lambda =
-          () -> groupInvitationService.findValidInvitation(token, ZonedDateTime.now());
+          () -> groupInvitationService.acceptInvitation(user.getId(), token, ZonedDateTime.now());
 
       // Then
       Assertions.assertThrows(ExpiredInvitationException.class, lambda::run);
+      Assertions.assertTrue(
+          userGroupRepository.findByUserIdAndGroupId(user.getId(), group.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("실패 - 삭제된 그룹의 초대")
+    void Failure_DeletedGroup() {
+      // Given
+      User issuer = entityFactory.insertUser("issuer", "password", "issuerNick");
+      User user = entityFactory.insertUser("user", "password", "userNick");
+      Group group = entityFactory.insertGroup("group", "description");
+      entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
+
+      String token = UUID.randomUUID().toString();
+      entityFactory.insertGroupInvitation(
+          issuer.getId(), group.getId(), token, ZonedDateTime.now().plusDays(1));
+      groupRepository.markDeleted(group.getId(), ZonedDateTime.now());
+
+      // When
+      Runnable lambda =
+          () -> groupInvitationService.acceptInvitation(user.getId(), token, ZonedDateTime.now());
+
+      // Then
+      Assertions.assertThrows(NoInvitationException.class, lambda::run);
+      Assertions.assertTrue(
+          userGroupRepository.findByUserIdAndGroupId(user.getId(), group.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("실패 - 이미 그룹 멤버")
+    void Failure_AlreadyGroupMember() {
+      // Given
+      User issuer = entityFactory.insertUser("issuer", "password", "issuerNick");
+      User user = entityFactory.insertUser("user", "password", "userNick");
+      Group group = entityFactory.insertGroup("group", "description");
+      entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.VIEWER);
+
+      String token = UUID.randomUUID().toString();
+      entityFactory.insertGroupInvitation(
+          issuer.getId(), group.getId(), token, ZonedDateTime.now().plusDays(1));
+
+      // When
+      Runnable lambda =
+          () -> groupInvitationService.acceptInvitation(user.getId(), token, ZonedDateTime.now());
+
+      // Then
+      Assertions.assertThrows(AlreadyGroupMemberException.class, lambda::run);
+      Assertions.assertEquals(
+          GroupRole.VIEWER,
+          userGroupRepository
+              .findByUserIdAndGroupId(user.getId(), group.getId())
+              .orElseThrow()
+              .groupRole());
     }
   }
 }
@@ -0,0 +1,156 @@
+package rest.felix.back.group.service;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.repository.GroupInvitationRepository;
+import rest.felix.back.group.repository.GroupRepository;
+import rest.felix.back.group.repository.UserGroupRepository;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GroupPurgerTest {
+
+  @Autowired private GroupPurger groupPurger;
+  @Autowired private GroupService groupService;
+  @Autowired private GroupRepository groupRepository;
+  @Autowired private UserGroupRepository userGroupRepository;
+  @Autowired private GroupInvitationRepository groupInvitationRepository;
+  @Autowired private TodoRepository todoRepository;
+  @Autowired private EntityFactory entityFactory;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    th.cleanUp();
+  }
+
+  private Todo insertTodo(User user, Group group, String order) {
+    return entityFactory.insertTodo(
+        user.getId(),
+        null,
+        group.getId(),
+        "title",
+        "description",
+        TodoStatus.TO_DO,
+        order,
+        null,
+        false);
+  }
+
+  @Nested
+  @DisplayName("삭제된 그룹 정리 (purge)")
+  class Purge {
+
+    @Test
+    @DisplayName("성공: 삭제된 그룹의 todo, star, 초대, 멤버십과 그룹을 모두 지운다")
+    void success_whenGroupIsDeleted() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo todo = insertTodo(user, group, "i");
+      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
+      entityFactory.insertGroupInvitation(
+          user.getId(), group.getId(), "token", ZonedDateTime.now().plusDays(1));
+
+      groupService.deleteGroupById(group.getId());
+
+      // When
+      int purged = groupPurger.purge();
+
+      // Then
+      Assertions.assertEquals(1, purged);
+      Assertions.assertTrue(groupRepository.findDeletedGroupIds(10).isEmpty());
+      Assertions.assertTrue(todoRepository.findByGroupId(group.getId()).isEmpty());
+      Assertions.assertTrue(userGroupRepository.findByGroupId(group.getId()).isEmpty());
+      Assertions.assertEquals(0, groupInvitationRepository.deleteByGroupId(group.getId(), 10));
+    }
+
+    @Test
+    @DisplayName("성공: 삭제되지 않은 그룹은 그대로 둔다")
+    void success_whenGroupIsNotDeleted() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      insertTodo(user, group, "i");
+
+      // When
+      int purged = groupPurger.purge();
+
+      // Then
+      Assertions.assertEquals(0, purged);
+      Assertions.assertTrue(groupRepository.findById(group.getId()).isPresent());
+      Assertions.assertEquals(1, todoRepository.findByGroupId(group.getId()).size());
+    }
+  }
+
+  @Nested
+  @DisplayName("삭제된 그룹 chunk 정리 (purgeDeletedGroup)")
+  class PurgeDeletedGroup {
+
+    @Test
+    @DisplayName("성공: limit개씩 나누어 지우고, 중간에 멈춘 그룹도 다음 purge에서 이어서 지운다")
+    void success_whenPurgingInChunks() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      insertTodo(user, group, "i");
+      insertTodo(user, group, "j");
+      insertTodo(user, group, "k");
+
+      groupService.deleteGroupById(group.getId());
+
+      // When
+      int firstChunk = groupService.purgeDeletedGroup(group.getId(), 2);
+
+      // Then
+      Assertions.assertEquals(2, firstChunk);
+      Assertions.assertEquals(1, todoRepository.findByGroupId(group.getId()).size());
+      Assertions.assertTrue(groupRepository.findDeletedGroupIds(10).contains(group.getId()));
+
+      // When
+      int purged = groupPurger.purge();
+
+      // Then
+      Assertions.assertEquals(1, purged);
+      Assertions.assertTrue(todoRepository.findByGroupId(group.getId()).isEmpty());
+      Assertions.assertTrue(userGroupRepository.findByGroupId(group.getId()).isEmpty());
+      Assertions.assertTrue(groupRepository.findDeletedGroupIds(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("성공: 삭제되지 않은 그룹이면 아무것도 지우지 않는다")
+    void success_whenGroupIsNotDeleted() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      insertTodo(user, group, "i");
+
+      // When
+      int deleted = groupService.purgeDeletedGroup(group.getId(), 10);
+
+      // Then
+      Assertions.assertEquals(0, deleted);
+      Assertions.assertTrue(groupRepository.findById(group.getId()).isPresent());
+      Assertions.assertEquals(1, userGroupRepository.findByGroupId(group.getId()).size());
+    }
+  }
+}
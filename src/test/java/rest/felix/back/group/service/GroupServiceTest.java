@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.exception.throwable.badrequest.InvalidCursorException;
 import rest.felix.back.common.exception.throwable.notFound.ResourceNotFoundException;
 import rest.felix.back.common.util.EntityFactory;
 import rest.felix.back.common.util.TestHelper;
@@ -21,6 +22,7 @@ import rest.felix.back.group.entity.Group;
 import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.group.exception.GroupNotFoundException;
+import rest.felix.back.group.exception.NoInvitationException;
 import rest.felix.back.group.repository.GroupRepository;
 import rest.felix.back.group.repository.UserGroupRepository;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
@@ -274,7 +276,7 @@ class GroupServiceTest {
 
       // When
       List<DetailedGroupDTO> detailedGroups =
-          groupService.findDetailedGroupsByUserId(mainUser.getId());
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), null, 50).groups();
 
       // Then
       Assertions.assertEquals(2, detailedGroups.size());
@@ -334,7 +336,7 @@ class GroupServiceTest {
 
       // When
       List<DetailedGroupDTO> detailedGroups =
-          groupService.findDetailedGroupsByUserId(mainUser.getId());
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), null, 50).groups();
 
       // Then
       Assertions.assertEquals(1, detailedGroups.size());
@@ -363,7 +365,7 @@ class GroupServiceTest {
 
       // When
       List<DetailedGroupDTO> detailedGroups =
-          groupService.findDetailedGroupsByUserId(mainUser.getId());
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), null, 50).groups();
 
       // Then
       Assertions.assertEquals(1, detailedGroups.size());
@@ -382,6 +384,80 @@ class GroupServiceTest {
       Assertions.assertEquals(List.of("mainUserNick"), group1MemberNicknames);
     }
 
+    @Test
+    @DisplayName("Happy Path - Member preview is capped")
+    void HappyPath_MemberPreviewCapped() {
+      // Given
+      User mainUser = entityFactory.insertUser("mainUser", "password", "mainUserNick");
+      Group group = entityFactory.insertGroup("Group 1", "Description 1");
+
+      for (int i = 0; i < 6; i++) {
+        User member = entityFactory.insertUser("member" + i, "password", "memberNick" + i);
+        entityFactory.insertUserGroup(member.getId(), group.getId(), GroupRole.MEMBER);
+      }
+      entityFactory.insertUserGroup(mainUser.getId(), group.getId(), GroupRole.OWNER);
+
+      // When
+      List<DetailedGroupDTO> detailedGroups =
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), null, 50).groups();
+
+      // Then
+      DetailedGroupDTO groupDTO = detailedGroups.get(0);
+      Assertions.assertEquals(7, groupDTO.memberCount());
+      Assertions.assertEquals(5, groupDTO.members().size());
+      Assertions.assertEquals(mainUser.getId(), groupDTO.members().get(0).id());
+      Assertions.assertEquals(GroupRole.OWNER, groupDTO.members().get(0).role());
+    }
+
+    @Test
+    @DisplayName("Happy Path - Paged by recent activity")
+    void HappyPath_PagedByActivity() {
+      // Given
+      User mainUser = entityFactory.insertUser("mainUser", "password", "mainUserNick");
+      Group group1 = entityFactory.insertGroup("Group 1", "Description 1");
+      Group group2 = entityFactory.insertGroup("Group 2", "Description 2");
+      Group group3 = entityFactory.insertGroup("Group 3", "Description 3");
+
+      entityFactory.insertUserGroup(mainUser.getId(), group1.getId(), GroupRole.OWNER);
+      entityFactory.insertUserGroup(mainUser.getId(), group2.getId(), GroupRole.OWNER);
+      entityFactory.insertUserGroup(mainUser.getId(), group3.getId(), GroupRole.OWNER);
+
+      ZonedDateTime now = ZonedDateTime.now();
+      groupRepository.touchLastActivityAt(group1.getId(), now.plusMinutes(2), now.plusMinutes(2));
+      groupRepository.touchLastActivityAt(group3.getId(), now.plusMinutes(1), now.plusMinutes(1));
+
+      // When
+      DetailedGroupPageDTO firstPage =
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), null, 2);
+      DetailedGroupPageDTO secondPage =
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), firstPage.nextCursor(), 2);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(group1.getId(), group3.getId()),
+          firstPage.groups().stream().map(DetailedGroupDTO::id).toList());
+      Assertions.assertNotNull(firstPage.nextCursor());
+
+      Assertions.assertEquals(
+          List.of(group2.getId()), secondPage.groups().stream().map(DetailedGroupDTO::id).toList());
+      Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Happy Path - Activity touched within interval is skipped")
+    void HappyPath_TouchCoalesced() {
+      // Given
+      Group group = entityFactory.insertGroup("Group 1", "Description 1");
+      ZonedDateTime now = ZonedDateTime.now();
+
+      // When
+      boolean touched =
+          groupRepository.touchLastActivityAt(group.getId(), now, now.minusSeconds(1));
+
+      // Then
+      Assertions.assertFalse(touched);
+    }
+
     @Test
     @DisplayName("Happy Path - No such user")
     void HappyPath_NoUser() {
@@ -391,7 +467,8 @@ class GroupServiceTest {
       th.delete(mainUser);
 
       // When
-      List<DetailedGroupDTO> detailedGroups = groupService.findDetailedGroupsByUserId(userId);
+      List<DetailedGroupDTO> detailedGroups =
+          groupService.findDetailedGroupsByUserId(userId, null, 50).groups();
 
       // Then
       Assertions.assertEquals(0, detailedGroups.size());
@@ -406,7 +483,7 @@ class GroupServiceTest {
 
       // When
       List<DetailedGroupDTO> detailedGroups =
-          groupService.findDetailedGroupsByUserId(mainUser.getId());
+          groupService.findDetailedGroupsByUserId(mainUser.getId(), null, 50).groups();
 
       // Then
       Assertions.assertEquals(0, detailedGroups.size());
@@ -565,6 +642,25 @@ class GroupServiceTest {
       Assertions.assertEquals(true, groupRepository.findById(group.getId()).isEmpty());
     }
 
+    @Test
+    void HappyPath_HideMembership() {
+      // Given
+
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      // When
+
+      groupService.deleteGroupById(group.getId());
+
+      // Then
+
+      Assertions.assertEquals(
+          true, groupService.findUserRole(user.getId(), group.getId()).isEmpty());
+      Assertions.assertEquals(true, groupService.findGroupsByUserId(user.getId()).isEmpty());
+    }
+
     @Test
     void HappyPath_NotCheckGroupExistence() {
       // Given
@@ -735,11 +831,10 @@ class GroupServiceTest {
 
       String token = "testToken";
       ZonedDateTime expiresAt = ZonedDateTime.now().plusDays(1);
-      GroupInvitationDTO groupInvitationDTO =
-          new GroupInvitationDTO(issuer.getId(), group.getId(), token, expiresAt);
+      entityFactory.insertGroupInvitation(issuer.getId(), group.getId(), token, expiresAt);
 
       // When
-      GroupInvitationInfoDTO info = groupService.findGroupInvitationInfo(groupInvitationDTO);
+      GroupInvitationInfoDTO info = groupService.findGroupInvitationPreview(token);
 
       // Then
       Assertions.assertNotNull(info);
@@ -763,26 +858,34 @@ class GroupServiceTest {
     }
 
     @Test
-    @DisplayName("실패 - 없는 그룹")
-    void Failure_NoSuchGroup() {
+    @DisplayName("실패 - 삭제된 그룹")
+    void Failure_DeletedGroup() {
       // Given
       User issuer = entityFactory.insertUser("issuer", "password", "issuerNick");
       Group group = entityFactory.insertGroup("group name", "group description");
-      UserGroup userGroup =
-          entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
-      th.delete(userGroup);
-      th.delete(group);
+      entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
 
       String token = "testToken";
       ZonedDateTime expiresAt = ZonedDateTime.now().plusDays(1);
-      GroupInvitationDTO groupInvitationDTO =
-          new GroupInvitationDTO(issuer.getId(), group.getId(), token, expiresAt);
+      entityFactory.insertGroupInvitation(issuer.getId(), group.getId(), token, expiresAt);
+
+      groupService.deleteGroupById(group.getId());
 
       // When
-      Runnable lambda = () -> groupService.findGroupInvitationInfo(groupInvitationDTO);
+      Runnable lambda = () -> groupService.findGroupInvitationPreview(token);
 
       // Then
-      Assertions.assertThrows(GroupNotFoundException.class, lambda::run);
+      Assertions.assertThrows(NoInvitationException.class, lambda::run);
+    }
+
+    @Test
+    @DisplayName("실패 - 없는 초대")
+    void Failure_NoInvitation() {
+      // When
+      Runnable lambda = () -> groupService.findGroupInvitationPreview("nonExistentToken");
+
+      // Then
+      Assertions.assertThrows(NoInvitationException.class, lambda::run);
     }
 
     @Test
@@ -797,22 +900,93 @@ class GroupServiceTest {
           entityFactory.insertUserGroup(issuer.getId(), group.getId(), GroupRole.OWNER);
       entityFactory.insertUserGroup(member1.getId(), group.getId(), GroupRole.MEMBER);
 
-      th.delete(userGroup);
-      th.delete(issuer);
-
       String token = "testToken";
       ZonedDateTime expiresAt = ZonedDateTime.now().plusDays(1);
-      GroupInvitationDTO groupInvitationDTO =
-          new GroupInvitationDTO(issuer.getId(), group.getId(), token, expiresAt);
+      entityFactory.insertGroupInvitation(issuer.getId(), group.getId(), token, expiresAt);
+
+      th.delete(userGroup);
 
       // When
-      Runnable lambda = () -> groupService.findGroupInvitationInfo(groupInvitationDTO);
+      Runnable lambda = () -> groupService.findGroupInvitationPreview(token);
 
       // Then
       Assertions.assertThrows(ResourceNotFoundException.class, lambda::run);
     }
   }
 
+  @Nested
+  @DisplayName("그룹 멤버 페이지 조회 테스트")
+  class FindMembers {
+
+    @Test
+    @DisplayName("성공 - 역할이 높은 순, user id 순으로 페이지를 이어서 조회")
+    void HappyPath() {
+      // Given
+      Group group = entityFactory.insertGroup("group name", "group description");
+      User owner = entityFactory.insertUser("owner", "password", "ownerNick");
+      User manager = entityFactory.insertUser("manager", "password", "managerNick");
+      User member1 = entityFactory.insertUser("member1", "password", "memberNick1");
+      User member2 = entityFactory.insertUser("member2", "password", "memberNick2");
+      User viewer = entityFactory.insertUser("viewer", "password", "viewerNick");
+
+      entityFactory.insertUserGroup(viewer.getId(), group.getId(), GroupRole.VIEWER);
+      entityFactory.insertUserGroup(member2.getId(), group.getId(), GroupRole.MEMBER);
+      entityFactory.insertUserGroup(owner.getId(), group.getId(), GroupRole.OWNER);
+      entityFactory.insertUserGroup(member1.getId(), group.getId(), GroupRole.MEMBER);
+      entityFactory.insertUserGroup(manager.getId(), group.getId(), GroupRole.MANAGER);
+
+      // When
+      MemberPageDTO firstPage = groupService.findMembers(group.getId(), null, null, 3);
+      MemberPageDTO secondPage =
+          groupService.findMembers(group.getId(), null, firstPage.nextCursor(), 3);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(owner.getId(), manager.getId(), member1.getId()),
+          firstPage.members().stream().map(MemberDTO::id).toList());
+      Assertions.assertNotNull(firstPage.nextCursor());
+
+      Assertions.assertEquals(
+          List.of(member2.getId(), viewer.getId()),
+          secondPage.members().stream().map(MemberDTO::id).toList());
+      Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("성공 - 역할로 필터링")
+    void HappyPath_RoleFilter() {
+      // Given
+      Group group = entityFactory.insertGroup("group name", "group description");
+      User owner = entityFactory.insertUser("owner", "password", "ownerNick");
+      User member = entityFactory.insertUser("member", "password", "memberNick");
+
+      entityFactory.insertUserGroup(owner.getId(), group.getId(), GroupRole.OWNER);
+      entityFactory.insertUserGroup(member.getId(), group.getId(), GroupRole.MEMBER);
+
+      // When
+      MemberPageDTO page = groupService.findMembers(group.getId(), GroupRole.OWNER, null, 50);
+
+      // Then
+      Assertions.assertEquals(1, page.members().size());
+      Assertions.assertEquals(owner.getId(), page.members().get(0).id());
+      Assertions.assertEquals(GroupRole.OWNER, page.members().get(0).role());
+      Assertions.assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("실패 - 잘못된 cursor")
+    void Failure_InvalidCursor() {
+      // Given
+      Group group = entityFactory.insertGroup("group name", "group description");
+
+      // When
+      Runnable lambda = () -> groupService.findMembers(group.getId(), null, "OWNER_abc", 50);
+
+      // Then
+      Assertions.assertThrows(InvalidCursorException.class, lambda::run);
+    }
+  }
+
   @Nested
   @DisplayName("유저 그룹 등록 테스트")
   class RegisterUserToGroup {
@@ -979,6 +1153,10 @@ class GroupServiceTest {
       UserGroupDTO updatedUserGroup =
           userGroupRepository.findByUserIdAndGroupId(user.getId(), group.getId()).orElseThrow();
       Assertions.assertEquals(GroupRole.MANAGER, updatedUserGroup.groupRole());
+
+      MemberPageDTO managers = groupService.findMembers(group.getId(), GroupRole.MANAGER, null, 50);
+      Assertions.assertEquals(
+          List.of(user.getId()), managers.members().stream().map(MemberDTO::id).toList());
     }
 
     @Test
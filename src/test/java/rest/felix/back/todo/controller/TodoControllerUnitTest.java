@@ -25,6 +25,7 @@ import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.todo.dto.*;
 import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.todo.exception.TodoNotFoundException;
 import rest.felix.back.todo.repository.TodoRepository;
@@ -87,7 +88,7 @@ public class TodoControllerUnitTest {
     // When
 
     ResponseEntity<List<TodoResponseDTO>> responseEntity =
-        todoController.getTodos(authUser, group.getId());
+        todoController.getTodos(authUser, group.getId(), false);
 
     // Then
 
@@ -148,7 +149,7 @@ public class TodoControllerUnitTest {
     // When
 
     ResponseEntity<List<TodoResponseDTO>> responseEntity =
-        todoController.getTodos(authUser, group.getId());
+        todoController.getTodos(authUser, group.getId(), false);
 
     // Then
 
@@ -172,7 +173,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.getTodos(authUser, group.getId());
+    Runnable lambda = () -> todoController.getTodos(authUser, group.getId(), false);
 
     // Then
 
@@ -197,7 +198,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.getTodos(authUser, group.getId());
+    Runnable lambda = () -> todoController.getTodos(authUser, group.getId(), false);
 
     // Then
 
@@ -221,7 +222,7 @@ public class TodoControllerUnitTest {
 
     // When
 
-    Runnable lambda = () -> todoController.getTodos(authUser, group.getId());
+    Runnable lambda = () -> todoController.getTodos(authUser, group.getId(), false);
 
     // Then
 
@@ -554,7 +555,7 @@ public class TodoControllerUnitTest {
 
     Assertions.assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
 
-    Assertions.assertEquals(true, todoRepository.findById(todo.getId()).isEmpty());
+    Assertions.assertEquals(true, todoRepository.findById(group.getId(), todo.getId()).isEmpty());
   }
 
   @Test
@@ -802,7 +803,8 @@ public class TodoControllerUnitTest {
     // When
 
     ResponseEntity<TodoDTO> responseEntity =
-        todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+        todoController.updateTodo(
+            authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -815,7 +817,7 @@ public class TodoControllerUnitTest {
     Assertions.assertEquals("updated todo title", todoDTO.title());
     Assertions.assertEquals("updated todo description", todoDTO.description());
 
-    TodoDTO updatedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+    TodoDTO updatedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
 
     Assertions.assertEquals(updatedTodo.id(), updatedTodo.id());
     Assertions.assertEquals(user.getId(), updatedTodo.authorId());
@@ -860,7 +862,8 @@ public class TodoControllerUnitTest {
 
     Runnable lambda =
         () ->
-            todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+            todoController.updateTodo(
+                authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -901,7 +904,8 @@ public class TodoControllerUnitTest {
 
     Runnable lambda =
         () ->
-            todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+            todoController.updateTodo(
+                authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -939,7 +943,8 @@ public class TodoControllerUnitTest {
 
     Runnable lambda =
         () ->
-            todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+            todoController.updateTodo(
+                authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -979,7 +984,8 @@ public class TodoControllerUnitTest {
 
     Runnable lambda =
         () ->
-            todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+            todoController.updateTodo(
+                authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -1020,7 +1026,8 @@ public class TodoControllerUnitTest {
 
     Runnable lambda =
         () ->
-            todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+            todoController.updateTodo(
+                authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -1058,7 +1065,8 @@ public class TodoControllerUnitTest {
 
     Runnable lambda =
         () ->
-            todoController.updateTodo(authUser, group.getId(), todo.getId(), updateTodoRequestDTO);
+            todoController.updateTodo(
+                authUser, group.getId(), todo.getId(), updateTodoRequestDTO, null);
 
     // Then
 
@@ -1104,7 +1112,7 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoResponseDTO> responseEntity =
-          todoController.moveTodo(authUser, group.getId(), todo1.getId(), moveTodoRequestDTO);
+          todoController.moveTodo(authUser, group.getId(), todo1.getId(), moveTodoRequestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1160,14 +1168,22 @@ public class TodoControllerUnitTest {
       AuthUserDTO authUser = AuthUserDTO.of(user);
 
       todoController.moveTodo(
-          authUser, group.getId(), todo2.getId(), new MoveTodoRequestDTO(TodoStatus.TO_DO, "dd"));
+          authUser,
+          group.getId(),
+          todo2.getId(),
+          new MoveTodoRequestDTO(TodoStatus.TO_DO, "dd"),
+          null);
 
       todoController.moveTodo(
-          authUser, group.getId(), todo3.getId(), new MoveTodoRequestDTO(TodoStatus.TO_DO, "b"));
+          authUser,
+          group.getId(),
+          todo3.getId(),
+          new MoveTodoRequestDTO(TodoStatus.TO_DO, "b"),
+          null);
 
       // When
       ResponseEntity<List<TodoResponseDTO>> responseEntity =
-          todoController.getTodos(authUser, group.getId());
+          todoController.getTodos(authUser, group.getId(), false);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1208,7 +1224,9 @@ public class TodoControllerUnitTest {
 
       // When
       Runnable lambda =
-          () -> todoController.moveTodo(authUser, group.getId(), todo.getId(), moveTodoRequestDTO);
+          () ->
+              todoController.moveTodo(
+                  authUser, group.getId(), todo.getId(), moveTodoRequestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1243,7 +1261,9 @@ public class TodoControllerUnitTest {
 
       // When
       Runnable lambda =
-          () -> todoController.moveTodo(authUser, group.getId(), todo.getId(), moveTodoRequestDTO);
+          () ->
+              todoController.moveTodo(
+                  authUser, group.getId(), todo.getId(), moveTodoRequestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1272,7 +1292,9 @@ public class TodoControllerUnitTest {
 
       // When
       Runnable lambda =
-          () -> todoController.moveTodo(authUser, group.getId(), todo.getId(), moveTodoRequestDTO);
+          () ->
+              todoController.moveTodo(
+                  authUser, group.getId(), todo.getId(), moveTodoRequestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1303,7 +1325,9 @@ public class TodoControllerUnitTest {
 
       // When
       Runnable lambda =
-          () -> todoController.moveTodo(authUser, group.getId(), todo.getId(), moveTodoRequestDTO);
+          () ->
+              todoController.moveTodo(
+                  authUser, group.getId(), todo.getId(), moveTodoRequestDTO, null);
 
       // Then
       Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
@@ -1337,13 +1361,98 @@ public class TodoControllerUnitTest {
       Runnable lambda =
           () ->
               todoController.moveTodo(
-                  authUser, group1.getId(), todoInGroup2.getId(), moveTodoRequestDTO);
+                  authUser, group1.getId(), todoInGroup2.getId(), moveTodoRequestDTO, null);
 
       // Then
       Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
     }
   }
 
+  @Nested
+  @DisplayName("투두 이웃 기준 이동 테스트")
+  class MoveTodoToPosition {
+    @Test
+    @DisplayName("성공 - 맨 앞으로 이동")
+    void HappyPath() {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      Todo todo1 =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo1",
+              "desc1",
+              TodoStatus.TO_DO,
+              "i",
+              null,
+              false);
+      Todo todo2 =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo2",
+              "desc2",
+              TodoStatus.TO_DO,
+              "j1",
+              null,
+              false);
+
+      AuthUserDTO authUser = AuthUserDTO.of(user);
+      MoveTodoToPositionRequestDTO request =
+          new MoveTodoToPositionRequestDTO(TodoStatus.TO_DO, null, todo1.getId());
+
+      // When
+      ResponseEntity<TodoResponseDTO> responseEntity =
+          todoController.moveTodoToPosition(authUser, group.getId(), todo2.getId(), request, null);
+
+      // Then
+      Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+      TodoResponseDTO todoResponseDTO = responseEntity.getBody();
+      Assertions.assertNotNull(todoResponseDTO);
+      Assertions.assertEquals(todo2.getId(), todoResponseDTO.id());
+      Assertions.assertTrue(todoResponseDTO.order().compareTo(todo1.getOrder()) < 0);
+    }
+
+    @Test
+    @DisplayName("실패 - 권한 부족 - VIEWER")
+    void Failure_Viewer() {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.VIEWER);
+
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo",
+              "desc",
+              TodoStatus.TO_DO,
+              "i",
+              null,
+              false);
+
+      AuthUserDTO authUser = AuthUserDTO.of(user);
+      MoveTodoToPositionRequestDTO request =
+          new MoveTodoToPositionRequestDTO(TodoStatus.DONE, null, null);
+
+      // When
+      Runnable lambda =
+          () ->
+              todoController.moveTodoToPosition(
+                  authUser, group.getId(), todo.getId(), request, null);
+
+      // Then
+      Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
+    }
+  }
+
   @Nested
   @DisplayName("투두 메타데이터 업데이트 테스트")
   class UpdateTodoMetadata {
@@ -1395,7 +1504,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1406,7 +1516,7 @@ public class TodoControllerUnitTest {
           LocalDate.now().plusDays(1).toString(), updatedTodo.dueDate().toString());
       Assertions.assertEquals(assignee.getId(), updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(true, fetchedTodo.isImportant());
       Assertions.assertEquals(
           LocalDate.now().plusDays(1).toString(), fetchedTodo.dueDate().toString());
@@ -1443,7 +1553,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1453,7 +1564,7 @@ public class TodoControllerUnitTest {
       Assertions.assertNotNull(updatedTodo.dueDate());
       Assertions.assertNull(updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(toUpdate, fetchedTodo.isImportant());
       Assertions.assertNotNull(fetchedTodo.dueDate());
       Assertions.assertNull(fetchedTodo.assigneeId());
@@ -1489,7 +1600,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1499,7 +1611,7 @@ public class TodoControllerUnitTest {
       Assertions.assertEquals(toUpdate, updatedTodo.dueDate());
       Assertions.assertNull(updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(true, fetchedTodo.isImportant());
       Assertions.assertEquals(toUpdate, fetchedTodo.dueDate());
       Assertions.assertNull(fetchedTodo.assigneeId());
@@ -1536,7 +1648,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1547,7 +1660,7 @@ public class TodoControllerUnitTest {
       Assertions.assertNull(updatedTodo.dueDate());
       Assertions.assertEquals(assignee.getId(), updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(false, fetchedTodo.isImportant());
       Assertions.assertNull(fetchedTodo.dueDate());
       Assertions.assertEquals(assignee.getId(), fetchedTodo.assigneeId());
@@ -1588,7 +1701,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1596,7 +1710,7 @@ public class TodoControllerUnitTest {
       Assertions.assertNotNull(updatedTodo);
       Assertions.assertEquals(newAssignee.getId(), updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(newAssignee.getId(), fetchedTodo.assigneeId());
     }
 
@@ -1631,7 +1745,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1639,7 +1754,7 @@ public class TodoControllerUnitTest {
       Assertions.assertNotNull(updatedTodo);
       Assertions.assertNull(updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertNull(fetchedTodo.assigneeId());
     }
 
@@ -1674,7 +1789,8 @@ public class TodoControllerUnitTest {
 
       // When
       ResponseEntity<TodoDTO> responseEntity =
-          todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+          todoController.updateTodoMetadata(
+              authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1682,7 +1798,7 @@ public class TodoControllerUnitTest {
       Assertions.assertNotNull(updatedTodo);
       Assertions.assertNull(updatedTodo.assigneeId());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertNull(fetchedTodo.assigneeId());
     }
 
@@ -1729,7 +1845,8 @@ public class TodoControllerUnitTest {
       // When
       Runnable lambda =
           () ->
-              todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+              todoController.updateTodoMetadata(
+                  authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1766,7 +1883,8 @@ public class TodoControllerUnitTest {
       // When
       Runnable lambda =
           () ->
-              todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+              todoController.updateTodoMetadata(
+                  authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1802,7 +1920,8 @@ public class TodoControllerUnitTest {
       // When
       Runnable lambda =
           () ->
-              todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+              todoController.updateTodoMetadata(
+                  authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1844,7 +1963,8 @@ public class TodoControllerUnitTest {
       // When
       Runnable lambda =
           () ->
-              todoController.updateTodoMetadata(authUser, deletedGroupId, todo.getId(), requestDTO);
+              todoController.updateTodoMetadata(
+                  authUser, deletedGroupId, todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
@@ -1882,7 +2002,8 @@ public class TodoControllerUnitTest {
       // When
       Runnable lambda =
           () ->
-              todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+              todoController.updateTodoMetadata(
+                  authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
@@ -1920,7 +2041,8 @@ public class TodoControllerUnitTest {
       // When
       Runnable lambda =
           () ->
-              todoController.updateTodoMetadata(authUser, group.getId(), todo.getId(), requestDTO);
+              todoController.updateTodoMetadata(
+                  authUser, group.getId(), todo.getId(), requestDTO, null);
 
       // Then
       Assertions.assertThrows(UserNotFoundException.class, lambda::run);
@@ -2301,4 +2423,89 @@ public class TodoControllerUnitTest {
       Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
     }
   }
+
+  @Nested
+  @DisplayName("투두 작업 일괄 적용 테스트")
+  class ApplyOperations {
+    @Test
+    @DisplayName("성공 - 작업별 결과를 순서대로 반환")
+    void HappyPath() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo",
+              "desc",
+              TodoStatus.TO_DO,
+              "a",
+              null,
+              false);
+
+      AuthUserDTO authUser = AuthUserDTO.of(user);
+      TodoOperationsRequestDTO todoOperationsRequestDTO =
+          new TodoOperationsRequestDTO(
+              List.of(
+                  new TodoOperationRequestDTO(
+                      TodoOperationType.CREATE, null, "new", "desc", null, null, null, null, null),
+                  new TodoOperationRequestDTO(
+                      TodoOperationType.UNSTAR,
+                      todo.getId(),
+                      null,
+                      null,
+                      null,
+                      null,
+                      null,
+                      null,
+                      null)));
+
+      // When
+      ResponseEntity<List<TodoOperationResultResponseDTO>> responseEntity =
+          todoController.applyOperations(authUser, group.getId(), todoOperationsRequestDTO);
+
+      // Then
+      Assertions.assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+
+      List<TodoOperationResultResponseDTO> results = responseEntity.getBody();
+      Assertions.assertEquals(2, results.size());
+      Assertions.assertEquals(TodoOperationType.CREATE, results.get(0).type());
+      Assertions.assertEquals("new", results.get(0).todo().title());
+      Assertions.assertEquals(todo.getId(), results.get(1).todoId());
+      Assertions.assertNull(results.get(1).todo());
+    }
+
+    @Test
+    @DisplayName("실패 - 가입하지 않은 그룹")
+    void Failure_NoUserGroup() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+
+      AuthUserDTO authUser = AuthUserDTO.of(user);
+      TodoOperationsRequestDTO todoOperationsRequestDTO =
+          new TodoOperationsRequestDTO(
+              List.of(
+                  new TodoOperationRequestDTO(
+                      TodoOperationType.CREATE,
+                      null,
+                      "new",
+                      "desc",
+                      null,
+                      null,
+                      null,
+                      null,
+                      null)));
+
+      // When
+      Runnable lambda =
+          () -> todoController.applyOperations(authUser, group.getId(), todoOperationsRequestDTO);
+
+      // Then
+      Assertions.assertThrows(UserAccessDeniedException.class, lambda::run);
+    }
+  }
 }
@@ -2,6 +2,7 @@ package rest.felix.back.todo.controller;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -10,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.Cookie;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,6 +23,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -34,9 +37,11 @@ import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.todo.dto.CreateTodoRequestDTO;
 import rest.felix.back.todo.dto.MoveTodoRequestDTO;
+import rest.felix.back.todo.dto.MoveTodoToPositionRequestDTO;
 import rest.felix.back.todo.dto.TodoDTO;
 import rest.felix.back.todo.dto.UpdateTodoRequestDTO;
 import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.UserTodoStar;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
 import rest.felix.back.todo.repository.TodoRepository;
 import rest.felix.back.user.dto.AuthUserDTO;
@@ -125,6 +130,7 @@ public class TodoControllerWebTest {
       result.andExpect(jsonPath("$[0].description", equalTo("todo 2 description")));
       result.andExpect(jsonPath("$[0].status", equalTo("IN_PROGRESS")));
       result.andExpect(jsonPath("$[0].order", equalTo("a")));
+      result.andExpect(jsonPath("$[0].version", equalTo(0)));
       result.andExpect(jsonPath("$[1].title", equalTo("todo 3")));
       result.andExpect(jsonPath("$[1].description", equalTo("todo 3 description")));
       result.andExpect(jsonPath("$[1].status", equalTo("DONE")));
@@ -139,6 +145,74 @@ public class TodoControllerWebTest {
       result.andExpect(jsonPath("$[3].order", equalTo("d")));
     }
 
+    @Test
+    void HappyPath_IncludeArchived() throws Exception {
+
+      // Given
+
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+
+      Group group = entityFactory.insertGroup("group name", "group description");
+
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.OWNER);
+
+      entityFactory.insertTodo(
+          user.getId(),
+          user.getId(),
+          group.getId(),
+          "todo 1",
+          "todo 1 description",
+          TodoStatus.TO_DO,
+          "a",
+          null,
+          false);
+      entityFactory.insertTodo(
+          user.getId(),
+          user.getId(),
+          group.getId(),
+          "todo 2",
+          "todo 2 description",
+          TodoStatus.DONE,
+          "b",
+          null,
+          false);
+
+      ZonedDateTime now = ZonedDateTime.now();
+      todoRepository.archiveDoneTodos(group.getId(), now.plusMinutes(1), now, 10);
+
+      Cookie cookie = userCookie(user);
+
+      String path = String.format("/api/v1/group/%d/todo", group.getId());
+
+      // When
+
+      ResultActions boardResult =
+          mvc.perform(
+              get(path)
+                  .cookie(cookie)
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON));
+      ResultActions result =
+          mvc.perform(
+              get(path)
+                  .param("includeArchived", "true")
+                  .cookie(cookie)
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON));
+
+      // Then
+
+      boardResult.andExpect(status().isOk());
+      boardResult.andExpect(jsonPath("$", hasSize(1)));
+      boardResult.andExpect(jsonPath("$[0].title", equalTo("todo 1")));
+
+      result.andExpect(status().isOk());
+      result.andExpect(jsonPath("$", hasSize(2)));
+      result.andExpect(jsonPath("$[0].title", equalTo("todo 1")));
+      result.andExpect(jsonPath("$[1].title", equalTo("todo 2")));
+      result.andExpect(jsonPath("$[1].status", equalTo("DONE")));
+    }
+
     @Test
     void HappyPath_NoTodo() throws Exception {
 
@@ -692,6 +766,100 @@ public class TodoControllerWebTest {
     }
   }
 
+  @Nested
+  @DisplayName("투두 일괄 생성 테스트")
+  class CreateTodos {
+
+    @Test
+    @DisplayName("성공 - 요청 순서대로 생성")
+    void HappyPath() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      String path = String.format("/api/v1/group/%d/todo/bulk", group.getId());
+      String body =
+          objectMapper.writeValueAsString(
+              Map.of(
+                  "todos",
+                  List.of(
+                      new CreateTodoRequestDTO("first", "description", null, null),
+                      new CreateTodoRequestDTO("second", "description", null, user.getId()))));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              post(path)
+                  .cookie(userCookie(user))
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isCreated());
+      result.andExpect(jsonPath("$", hasSize(2)));
+      result.andExpect(jsonPath("$[0].title", equalTo("first")));
+      result.andExpect(jsonPath("$[1].title", equalTo("second")));
+      result.andExpect(jsonPath("$[1].assigneeId", equalTo(user.getId().intValue())));
+
+      List<TodoDTO> todos = todoRepository.findByGroupId(group.getId());
+      Assertions.assertEquals(
+          List.of("first", "second"), todos.stream().map(TodoDTO::title).toList());
+    }
+
+    @Test
+    @DisplayName("실패 - 빈 목록")
+    void Failure_EmptyTodos() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      String path = String.format("/api/v1/group/%d/todo/bulk", group.getId());
+      String body = objectMapper.writeValueAsString(Map.of("todos", List.of()));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              post(path)
+                  .cookie(userCookie(user))
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("실패 - VIEWER 권한")
+    void Failure_Viewer() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.VIEWER);
+
+      String path = String.format("/api/v1/group/%d/todo/bulk", group.getId());
+      String body =
+          objectMapper.writeValueAsString(
+              Map.of("todos", List.of(new CreateTodoRequestDTO("t", "d", null, null))));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              post(path)
+                  .cookie(userCookie(user))
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isForbidden());
+      Assertions.assertTrue(todoRepository.findByGroupId(group.getId()).isEmpty());
+    }
+  }
+
   @Nested
   @DisplayName("투두 삭제 테스트")
   class DeleteTodo {
@@ -734,9 +902,7 @@ public class TodoControllerWebTest {
 
       result.andExpect(status().isNoContent());
 
-      Assertions.assertEquals(true, todoRepository.findById(todo.getId()).isEmpty());
-
-      Assertions.assertEquals(false, todoRepository.starExistsById(todo.getId()));
+      Assertions.assertEquals(true, todoRepository.findById(group.getId(), todo.getId()).isEmpty());
     }
 
     @Test
@@ -761,7 +927,7 @@ public class TodoControllerWebTest {
               null,
               false);
 
-      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
+      UserTodoStar star = entityFactory.insertUserTodoStar(user.getId(), todo.getId());
 
       Cookie cookie = userCookie(user);
 
@@ -780,9 +946,9 @@ public class TodoControllerWebTest {
 
       result.andExpect(status().isNoContent());
 
-      Assertions.assertEquals(true, todoRepository.findById(todo.getId()).isEmpty());
+      Assertions.assertEquals(true, todoRepository.findById(group.getId(), todo.getId()).isEmpty());
 
-      Assertions.assertEquals(false, todoRepository.starExistsById(todo.getId()));
+      Assertions.assertNull(em.find(UserTodoStar.class, star.getId()));
     }
 
     @Test
@@ -1127,6 +1293,89 @@ public class TodoControllerWebTest {
       Assertions.assertEquals(group.getId(), updatedTodo.getGroup().getId());
     }
 
+    @Test
+    @DisplayName("성공 - If-Match가 현재 version과 같으면 수정하고 새 ETag를 반환")
+    void HappyPath_IfMatch() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("uesrname123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              null,
+              group.getId(),
+              "todo title",
+              "todo description",
+              TodoStatus.IN_PROGRESS,
+              null,
+              null,
+              false);
+
+      String path = String.format("/api/v1/group/%d/todo/%d", group.getId(), todo.getId());
+      String body =
+          objectMapper.writeValueAsString(new UpdateTodoRequestDTO("updated todo title", null));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              put(path)
+                  .cookie(userCookie(user))
+                  .header(HttpHeaders.IF_MATCH, "\"0\"")
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isOk());
+      result.andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+      result.andExpect(jsonPath("$.title", equalTo("updated todo title")));
+    }
+
+    @Test
+    @DisplayName("실패 - If-Match가 현재 version과 다름")
+    void Failure_StaleIfMatch() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("uesrname123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              null,
+              group.getId(),
+              "todo title",
+              "todo description",
+              TodoStatus.IN_PROGRESS,
+              null,
+              null,
+              false);
+
+      String path = String.format("/api/v1/group/%d/todo/%d", group.getId(), todo.getId());
+      String body =
+          objectMapper.writeValueAsString(new UpdateTodoRequestDTO("updated todo title", null));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              put(path)
+                  .cookie(userCookie(user))
+                  .header(HttpHeaders.IF_MATCH, "\"5\"")
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isPreconditionFailed());
+      result.andExpect(
+          jsonPath("$.message", equalTo("The todo has been modified by another request.")));
+
+      Assertions.assertEquals(
+          "todo title", todoRepository.findById(group.getId(), todo.getId()).orElseThrow().title());
+    }
+
     @Test
     void Failure_NoUser() throws Exception {
       // Given
@@ -1542,7 +1791,7 @@ public class TodoControllerWebTest {
       result.andExpect(jsonPath("$.dueDate", equalTo(LocalDate.now().plusDays(1).toString())));
       result.andExpect(jsonPath("$.assigneeId", equalTo(assignee.getId().intValue())));
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(true, fetchedTodo.isImportant());
       Assertions.assertEquals(LocalDate.now().plusDays(1), fetchedTodo.dueDate());
       Assertions.assertEquals(assignee.getId(), fetchedTodo.assigneeId());
@@ -1591,7 +1840,7 @@ public class TodoControllerWebTest {
       result.andExpect(jsonPath("$.dueDate").doesNotExist());
       result.andExpect(jsonPath("$.assigneeId").doesNotExist());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(toUpdate, fetchedTodo.isImportant());
     }
 
@@ -1642,7 +1891,7 @@ public class TodoControllerWebTest {
         result.andExpect(jsonPath("$.dueDate", equalTo(toUpdate.toString())));
       }
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(toUpdate, fetchedTodo.dueDate());
     }
 
@@ -1688,7 +1937,7 @@ public class TodoControllerWebTest {
       result.andExpect(status().isOk());
       result.andExpect(jsonPath("$.assigneeId", equalTo(assignee.getId().intValue())));
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(assignee.getId(), fetchedTodo.assigneeId());
     }
 
@@ -1738,7 +1987,7 @@ public class TodoControllerWebTest {
       result.andExpect(status().isOk());
       result.andExpect(jsonPath("$.assigneeId", equalTo(newAssignee.getId().intValue())));
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertEquals(newAssignee.getId(), fetchedTodo.assigneeId());
     }
 
@@ -1784,7 +2033,7 @@ public class TodoControllerWebTest {
       result.andExpect(status().isOk());
       result.andExpect(jsonPath("$.assigneeId").doesNotExist());
 
-      TodoDTO fetchedTodo = todoRepository.findById(todo.getId()).orElseThrow();
+      TodoDTO fetchedTodo = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
       Assertions.assertNull(fetchedTodo.assigneeId());
     }
 
@@ -2602,6 +2851,140 @@ public class TodoControllerWebTest {
     }
   }
 
+  @Nested
+  @DisplayName("투두 이웃 기준 이동 테스트")
+  class MoveTodoToPosition {
+
+    private ResultActions perform(
+        User user, Group group, Todo todo, MoveTodoToPositionRequestDTO request)
+        throws Exception {
+      return mvc.perform(
+          put(String.format("/api/v1/group/%d/todo/%d/position", group.getId(), todo.getId()))
+              .cookie(userCookie(user))
+              .accept(MediaType.APPLICATION_JSON)
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(request)));
+    }
+
+    @Test
+    @DisplayName("성공 - 이웃 사이로 이동")
+    void HappyPath() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      Todo todo1 =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo1",
+              "desc1",
+              TodoStatus.IN_PROGRESS,
+              "a",
+              null,
+              false);
+      Todo todo2 =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo2",
+              "desc2",
+              TodoStatus.IN_PROGRESS,
+              "b",
+              null,
+              false);
+      Todo target =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "target",
+              "desc",
+              TodoStatus.TO_DO,
+              "a",
+              null,
+              false);
+
+      MoveTodoToPositionRequestDTO request =
+          new MoveTodoToPositionRequestDTO(TodoStatus.IN_PROGRESS, todo1.getId(), todo2.getId());
+
+      // When
+      ResultActions result = perform(user, group, target, request);
+
+      // Then
+      result.andExpect(status().isOk());
+      result.andExpect(jsonPath("$.id", equalTo(target.getId().intValue())));
+      result.andExpect(jsonPath("$.status", equalTo("IN_PROGRESS")));
+      result.andExpect(jsonPath("$.order", greaterThan("a")));
+      result.andExpect(jsonPath("$.order", lessThan("b")));
+    }
+
+    @Test
+    @DisplayName("실패 - 권한 부족 - VIEWER")
+    void Failure_Viewer() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.VIEWER);
+
+      Todo target =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "target",
+              "desc",
+              TodoStatus.TO_DO,
+              "a",
+              null,
+              false);
+
+      MoveTodoToPositionRequestDTO request =
+          new MoveTodoToPositionRequestDTO(TodoStatus.DONE, null, null);
+
+      // When
+      ResultActions result = perform(user, group, target, request);
+
+      // Then
+      result.andExpect(status().isForbidden());
+      result.andExpect(jsonPath("$.message", equalTo("No permission to perform this action.")));
+    }
+
+    @Test
+    @DisplayName("실패 - 없는 이웃 Todo")
+    void Failure_NoNeighbour() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      Todo target =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "target",
+              "desc",
+              TodoStatus.TO_DO,
+              "a",
+              null,
+              false);
+
+      MoveTodoToPositionRequestDTO request =
+          new MoveTodoToPositionRequestDTO(TodoStatus.TO_DO, target.getId() + 100, null);
+
+      // When
+      ResultActions result = perform(user, group, target, request);
+
+      // Then
+      result.andExpect(status().isBadRequest());
+      result.andExpect(jsonPath("$.message", equalTo("Destination does not exist.")));
+    }
+  }
+
   @Nested
   @DisplayName("투두 Star 추가 테스트")
   class StarTodo {
@@ -3101,4 +3484,120 @@ public class TodoControllerWebTest {
       result.andExpect(jsonPath("$.message", equalTo("Resource Not Found.")));
     }
   }
+
+  @Nested
+  @DisplayName("투두 작업 일괄 적용 테스트")
+  class ApplyOperations {
+
+    @Test
+    @DisplayName("성공 - 작업별 결과를 순서대로 반환")
+    void HappyPath() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "todo",
+              "desc",
+              TodoStatus.TO_DO,
+              "a",
+              null,
+              false);
+
+      String path = String.format("/api/v1/group/%d/ops", group.getId());
+      String body =
+          objectMapper.writeValueAsString(
+              Map.of(
+                  "operations",
+                  List.of(
+                      Map.of("type", "CREATE", "title", "new todo", "description", "new desc"),
+                      Map.of(
+                          "type",
+                          "MOVE",
+                          "todoId",
+                          todo.getId(),
+                          "todoStatus",
+                          "DONE",
+                          "order",
+                          "b"),
+                      Map.of("type", "STAR", "todoId", todo.getId()))));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              post(path)
+                  .cookie(userCookie(user))
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isOk());
+      result.andExpect(jsonPath("$", hasSize(3)));
+      result.andExpect(jsonPath("$[0].type", equalTo("CREATE")));
+      result.andExpect(jsonPath("$[0].todo.title", equalTo("new todo")));
+      result.andExpect(jsonPath("$[1].todo.status", equalTo("DONE")));
+      result.andExpect(jsonPath("$[1].todo.order", equalTo("b")));
+      result.andExpect(jsonPath("$[2].index", equalTo(2)));
+      result.andExpect(jsonPath("$[2].todoId", equalTo(todo.getId().intValue())));
+    }
+
+    @Test
+    @DisplayName("실패 - 필요한 필드가 없는 작업")
+    void Failure_InvalidOperation() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      entityFactory.insertUserGroup(user.getId(), group.getId(), GroupRole.MEMBER);
+
+      String path = String.format("/api/v1/group/%d/ops", group.getId());
+      String body =
+          objectMapper.writeValueAsString(
+              Map.of("operations", List.of(Map.of("type", "MOVE", "todoStatus", "DONE"))));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              post(path)
+                  .cookie(userCookie(user))
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("실패 - 가입하지 않은 그룹")
+    void Failure_NoUserGroup() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username123", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+
+      String path = String.format("/api/v1/group/%d/ops", group.getId());
+      String body =
+          objectMapper.writeValueAsString(
+              Map.of(
+                  "operations",
+                  List.of(Map.of("type", "CREATE", "title", "title", "description", "desc"))));
+
+      // When
+      ResultActions result =
+          mvc.perform(
+              post(path)
+                  .cookie(userCookie(user))
+                  .accept(MediaType.APPLICATION_JSON)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(body));
+
+      // Then
+      result.andExpect(status().isForbidden());
+      Assertions.assertTrue(todoRepository.findByGroupId(group.getId()).isEmpty());
+    }
+  }
 }
@@ -0,0 +1,84 @@
+package rest.felix.back.todo.dto.serializer;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import rest.felix.back.group.dto.MemberResponseDTO;
+import rest.felix.back.group.entity.enumerated.GroupRole;
+import rest.felix.back.todo.dto.TodoResponseDTO;
+import rest.felix.back.todo.dto.TodoWithStarredStatusResponseDTO;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+
+class TodoResponseDTOSerializerTest {
+
+  private final ObjectMapper streamingMapper =
+      JsonMapper.builder()
+          .addModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+
+  // 어노테이션을 무시하면 기본 bean serializer로 직렬화된다.
+  private final ObjectMapper beanMapper =
+      JsonMapper.builder()
+          .addModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .disable(MapperFeature.USE_ANNOTATIONS)
+          .build();
+
+  private static Stream<Arguments> dtos() {
+    return Stream.of(
+        Arguments.of(
+            new TodoResponseDTO(
+                1L,
+                "title",
+                "description \"quoted\"",
+                "i",
+                TodoStatus.TO_DO,
+                true,
+                LocalDate.of(2025, 1, 31),
+                2L,
+                3L,
+                4L,
+                7L)),
+        Arguments.of(
+            new TodoResponseDTO(
+                1L, "title", "", "i", TodoStatus.DONE, false, null, 2L, 3L, null, 0L)),
+        Arguments.of(
+            new TodoWithStarredStatusResponseDTO(
+                1L,
+                "title",
+                "description",
+                "hz",
+                TodoStatus.IN_PROGRESS,
+                false,
+                LocalDate.of(2025, 12, 1),
+                true,
+                5L,
+                2L,
+                3L,
+                null,
+                1L)),
+        Arguments.of(new MemberResponseDTO(1L, "nickname", 3L, GroupRole.MANAGER)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("dtos")
+  @DisplayName("성공: 직접 작성한 serializer는 기본 bean serializer와 같은 JSON을 만든다")
+  void success_whenComparedToBeanSerializer(Object dto) throws Exception {
+    // When
+    String streaming = streamingMapper.writeValueAsString(dto);
+    String bean = beanMapper.writeValueAsString(dto);
+
+    // Then
+    Assertions.assertEquals(beanMapper.readTree(bean), streamingMapper.readTree(streaming));
+  }
+}
@@ -0,0 +1,208 @@
+package rest.felix.back.todo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OrderGeneratorTest {
+
+  private static final int SEQUENCE_LENGTH = 100_000;
+
+  @Nested
+  @DisplayName("뒤에 추가할 key 생성 (generate(left, null))")
+  class GenerateAfter {
+
+    @Test
+    @DisplayName("성공: 반복해서 뒤에 추가해도 순서가 유지되고 길이는 로그 수준으로 유지된다")
+    void success_whenAppendingRepeatedly() {
+      // Given
+      String last = OrderGenerator.generate(null, null);
+      int maxLength = last.length();
+
+      // When
+      for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+        String next = OrderGenerator.generate(last, null);
+
+        // Then
+        Assertions.assertTrue(next.compareTo(last) > 0, last + " < " + next);
+        last = next;
+        maxLength = Math.max(maxLength, next.length());
+      }
+
+      Assertions.assertTrue(maxLength <= 5, "max length: " + maxLength);
+    }
+
+    @Test
+    @DisplayName("성공: 규칙을 따르지 않는 key 뒤에도 더 큰 key를 생성한다")
+    void success_whenAppendingAfterLegacyKey() {
+      // Given
+      List<String> keys =
+          List.of("a", "c", "z", "i5", "todo order 3", "f47ac10b-58cc", "zzzzzzzzzzzzzzzzzz");
+
+      for (String key : keys) {
+        // When
+        String next = OrderGenerator.generate(key, null);
+
+        // Then
+        Assertions.assertTrue(next.compareTo(key) > 0, key + " < " + next);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("앞에 추가할 key 생성 (generate(null, right))")
+  class GenerateBefore {
+
+    @Test
+    @DisplayName("성공: 반복해서 앞에 추가해도 순서가 유지되고 길이는 로그 수준으로 유지된다")
+    void success_whenPrependingRepeatedly() {
+      // Given
+      String first = OrderGenerator.generate(null, null);
+      int maxLength = first.length();
+
+      // When
+      for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+        String next = OrderGenerator.generate(null, first);
+
+        // Then
+        Assertions.assertTrue(next.compareTo(first) < 0, next + " < " + first);
+        first = next;
+        maxLength = Math.max(maxLength, next.length());
+      }
+
+      Assertions.assertTrue(maxLength <= 5, "max length: " + maxLength);
+    }
+
+    @Test
+    @DisplayName("성공: 규칙을 따르지 않는 key 앞에도 더 작은 key를 생성한다")
+    void success_whenPrependingBeforeLegacyKey() {
+      // Given
+      List<String> keys = List.of("a", "c", "z", "i5", "0001", "Abc", "f47ac10b-58cc");
+
+      for (String key : keys) {
+        // When
+        String next = OrderGenerator.generate(null, key);
+
+        // Then
+        Assertions.assertTrue(next.compareTo(key) < 0, next + " < " + key);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("임의 위치에 추가할 key 생성 (generate)")
+  class GenerateMixed {
+
+    @Test
+    @DisplayName("성공: 앞, 뒤, 사이에 섞어서 추가해도 순서가 유지된다")
+    void success_whenInsertingAtRandomPositions() {
+      // Given
+      Random random = new Random(42);
+      List<String> keys = new ArrayList<>();
+      keys.add(OrderGenerator.generate(null, null));
+      keys.add(OrderGenerator.generate(keys.get(0), null));
+
+      // When
+      for (int i = 0; i < 20_000; i++) {
+        int operation = random.nextInt(3);
+
+        if (operation == 0) {
+          keys.add(OrderGenerator.generate(keys.get(keys.size() - 1), null));
+        } else if (operation == 1) {
+          keys.add(0, OrderGenerator.generate(null, keys.get(0)));
+        } else {
+          int index = random.nextInt(keys.size() - 1);
+          keys.add(index + 1, OrderGenerator.generate(keys.get(index), keys.get(index + 1)));
+        }
+      }
+
+      // Then
+      for (int i = 1; i < keys.size(); i++) {
+        Assertions.assertTrue(
+            keys.get(i - 1).compareTo(keys.get(i)) < 0, keys.get(i - 1) + " < " + keys.get(i));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("일괄 추가용 key 생성 (generateAfter)")
+  class GenerateAfterCount {
+
+    @Test
+    @DisplayName("성공: 이어서 뒤에 추가한 것과 같은 오름차순 key를 생성한다")
+    void success_whenGeneratingRunAfterKey() {
+      // Given
+      String left = "j5";
+      int count = 1_000;
+
+      // When
+      List<String> keys = OrderGenerator.generateAfter(left, count);
+
+      // Then
+      Assertions.assertEquals(count, keys.size());
+      Assertions.assertTrue(left.compareTo(keys.get(0)) < 0);
+
+      String last = left;
+      for (String key : keys) {
+        Assertions.assertEquals(OrderGenerator.generate(last, null), key);
+        last = key;
+      }
+    }
+
+    @Test
+    @DisplayName("성공: 왼쪽 경계가 없으면 첫 key부터 생성한다")
+    void success_whenLeftIsNull() {
+      // When
+      List<String> keys = OrderGenerator.generateAfter(null, 3);
+
+      // Then
+      Assertions.assertEquals(OrderGenerator.generate(null, null), keys.get(0));
+      Assertions.assertTrue(keys.get(0).compareTo(keys.get(1)) < 0);
+      Assertions.assertTrue(keys.get(1).compareTo(keys.get(2)) < 0);
+    }
+  }
+
+  @Nested
+  @DisplayName("재정렬용 key 생성 (generateEvenlySpaced)")
+  class GenerateEvenlySpaced {
+
+    @Test
+    @DisplayName("성공: 같은 길이의 key를 오름차순으로 생성하고 앞, 뒤, 사이에 추가할 수 있다")
+    void success_whenGeneratingEvenlySpacedKeys() {
+      // Given
+      int count = 1_000;
+
+      // When
+      List<String> keys = OrderGenerator.generateEvenlySpaced(count);
+
+      // Then
+      Assertions.assertEquals(count, keys.size());
+      Assertions.assertTrue(keys.stream().allMatch(key -> key.length() == keys.get(0).length()));
+      Assertions.assertTrue(keys.get(0).length() <= 3);
+
+      for (int i = 1; i < keys.size(); i++) {
+        String between = OrderGenerator.generate(keys.get(i - 1), keys.get(i));
+        Assertions.assertTrue(keys.get(i - 1).compareTo(between) < 0);
+        Assertions.assertTrue(between.compareTo(keys.get(i)) < 0);
+      }
+
+      Assertions.assertTrue(OrderGenerator.generate(null, keys.get(0)).compareTo(keys.get(0)) < 0);
+      Assertions.assertTrue(
+          OrderGenerator.generate(keys.get(count - 1), null).compareTo(keys.get(count - 1)) > 0);
+    }
+
+    @Test
+    @DisplayName("성공: 0개를 요청하면 빈 목록을 반환한다")
+    void success_whenCountIsZero() {
+      // When
+      List<String> keys = OrderGenerator.generateEvenlySpaced(0);
+
+      // Then
+      Assertions.assertTrue(keys.isEmpty());
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package rest.felix.back.todo.service;
+
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.service.GroupService;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.TodoOperationRequestDTO;
+import rest.felix.back.todo.dto.TodoOperationsDTO;
+import rest.felix.back.todo.dto.TodoWithStarredStatusDTO;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.exception.TodoNotFoundException;
+import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest(
+    properties = {"todo.star-buffer.enabled=true", "todo.star-buffer.interval-ms=3600000"})
+@ActiveProfiles("test")
+class StarBufferTest {
+
+  @Autowired private StarBuffer starBuffer;
+  @Autowired private TodoService todoService;
+  @Autowired private GroupService groupService;
+  @Autowired private TodoRepository todoRepository;
+  @Autowired private EntityFactory entityFactory;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    // 앞선 테스트가 남긴 요청을 비운 뒤 테이블을 정리한다.
+    starBuffer.flush();
+    th.cleanUp();
+  }
+
+  private Todo insertTodo(User user, Group group) {
+    return insertTodo(user, group, "i");
+  }
+
+  private Todo insertTodo(User user, Group group, String order) {
+    return entityFactory.insertTodo(
+        user.getId(),
+        null,
+        group.getId(),
+        "title",
+        "description",
+        TodoStatus.TO_DO,
+        order,
+        null,
+        false);
+  }
+
+  private TodoWithStarredStatusDTO findBoardTodo(User user, Group group) {
+    return groupService.findFullDetailedGroupById(user.getId(), group.getId()).todos().get(0);
+  }
+
+  private TodoWithStarredStatusDTO findBoardTodo(User user, Group group, Todo todo) {
+    return groupService.findFullDetailedGroupById(user.getId(), group.getId()).todos().stream()
+        .filter(boardTodo -> boardTodo.id() == todo.getId())
+        .findFirst()
+        .orElseThrow();
+  }
+
+  // 보드 조회와 달리 StarBuffer에 쌓인 요청은 합치지 않고 DB에 반영된 star만 본다.
+  private boolean isStarStored(User user, Group group, Todo todo) {
+    return todoRepository.findByGroupIdWithStars(user.getId(), group.getId()).stream()
+        .filter(storedTodo -> storedTodo.id() == todo.getId())
+        .findFirst()
+        .orElseThrow()
+        .isStarred();
+  }
+
+  @Nested
+  @DisplayName("star 요청 쌓기 (offer)")
+  class Offer {
+
+    @Test
+    @DisplayName("성공: 반영 전에도 보드 조회에 자기가 누른 star가 보인다")
+    void success_whenReadingBeforeFlush() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo = insertTodo(user, group);
+
+      // When
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertFalse(isStarStored(user, group, todo));
+
+      TodoWithStarredStatusDTO boardTodo = findBoardTodo(user, group);
+      Assertions.assertTrue(boardTodo.isStarred());
+      Assertions.assertEquals(1L, boardTodo.starCount());
+    }
+
+    @Test
+    @DisplayName("성공: 반영 전에도 star 목록에 자기가 누른 star, unstar가 보인다")
+    void success_whenReadingStarredTodosBeforeFlush() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo unstarred = insertTodo(user, group, "i");
+      Todo starred = insertTodo(user, group, "j");
+      todoRepository.starTodo(user.getId(), group.getId(), unstarred.getId());
+
+      // When
+      todoService.unstarTodo(user.getId(), group.getId(), unstarred.getId());
+      todoService.starTodo(user.getId(), group.getId(), starred.getId());
+
+      // Then
+      Assertions.assertEquals(
+          List.of(starred.getId()),
+          todoService.getStarredTodos(user.getId(), null, 10).todos().stream()
+              .map(TodoDTO::id)
+              .toList());
+    }
+
+    @Test
+    @DisplayName("성공: 일괄 처리의 star는 buffer에 쌓지 않으므로 다른 작업이 실패하면 함께 되돌린다")
+    void success_whenOperationsAreRolledBack() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo = insertTodo(user, group);
+      long missingTodoId = todo.getId() + 1;
+
+      List<TodoOperationRequestDTO> operations =
+          List.of(
+              new TodoOperationRequestDTO(
+                  TodoOperationType.STAR, todo.getId(), null, null, null, null, null, null, null),
+              new TodoOperationRequestDTO(
+                  TodoOperationType.STAR, missingTodoId, null, null, null, null, null, null, null));
+
+      // When
+      Runnable lambda =
+          () ->
+              todoService.applyOperations(
+                  new TodoOperationsDTO(user.getId(), group.getId(), operations));
+
+      // Then
+      Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
+      Assertions.assertEquals(0, starBuffer.flush());
+
+      TodoWithStarredStatusDTO boardTodo = findBoardTodo(user, group);
+      Assertions.assertFalse(boardTodo.isStarred());
+      Assertions.assertEquals(0L, boardTodo.starCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("쌓인 요청 반영 (flush)")
+  class Flush {
+
+    @Test
+    @DisplayName("성공: 쌓인 star를 user_todo_star와 starCount에 반영한다")
+    void success_whenFlushingStar() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo = insertTodo(user, group);
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // When
+      int flushed = starBuffer.flush();
+
+      // Then
+      Assertions.assertEquals(1, flushed);
+      Assertions.assertTrue(isStarStored(user, group, todo));
+
+      TodoWithStarredStatusDTO boardTodo = findBoardTodo(user, group);
+      Assertions.assertTrue(boardTodo.isStarred());
+      Assertions.assertEquals(1L, boardTodo.starCount());
+      Assertions.assertEquals(0, starBuffer.flush());
+    }
+
+    @Test
+    @DisplayName("성공: 같은 todo에 star, unstar를 반복하면 마지막 요청 하나만 반영한다")
+    void success_whenTogglingBeforeFlush() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo = insertTodo(user, group);
+
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+      todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+      todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
+
+      // When
+      int flushed = starBuffer.flush();
+
+      // Then
+      Assertions.assertEquals(1, flushed);
+      Assertions.assertFalse(isStarStored(user, group, todo));
+
+      TodoWithStarredStatusDTO boardTodo = findBoardTodo(user, group);
+      Assertions.assertFalse(boardTodo.isStarred());
+      Assertions.assertEquals(0L, boardTodo.starCount());
+    }
+
+    @Test
+    @DisplayName("성공: 여러 todo의 star, unstar를 한 번에 반영한다")
+    void success_whenFlushingStarsAndUnstars() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo unstarred = insertTodo(user, group, "i");
+      Todo starred = insertTodo(user, group, "j");
+      Todo alreadyStarred = insertTodo(user, group, "k");
+      todoRepository.starTodo(user.getId(), group.getId(), unstarred.getId());
+      todoRepository.starTodo(user.getId(), group.getId(), alreadyStarred.getId());
+
+      todoService.unstarTodo(user.getId(), group.getId(), unstarred.getId());
+      todoService.starTodo(user.getId(), group.getId(), starred.getId());
+      todoService.starTodo(user.getId(), group.getId(), alreadyStarred.getId());
+
+      // When
+      int flushed = starBuffer.flush();
+
+      // Then
+      Assertions.assertEquals(3, flushed);
+
+      TodoWithStarredStatusDTO unstarredTodo = findBoardTodo(user, group, unstarred);
+      Assertions.assertFalse(unstarredTodo.isStarred());
+      Assertions.assertEquals(0L, unstarredTodo.starCount());
+
+      TodoWithStarredStatusDTO starredTodo = findBoardTodo(user, group, starred);
+      Assertions.assertTrue(starredTodo.isStarred());
+      Assertions.assertEquals(1L, starredTodo.starCount());
+
+      TodoWithStarredStatusDTO alreadyStarredTodo = findBoardTodo(user, group, alreadyStarred);
+      Assertions.assertTrue(alreadyStarredTodo.isStarred());
+      Assertions.assertEquals(1L, alreadyStarredTodo.starCount());
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package rest.felix.back.todo.service;
+
+import jakarta.persistence.EntityManager;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.todo.dto.TodoCountDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.dto.TodoPageDTO;
+import rest.felix.back.todo.entity.ArchivedTodoStar;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.UserTodoStar;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoArchiverTest {
+
+  @Autowired private TodoArchiver todoArchiver;
+  @Autowired private TodoService todoService;
+  @Autowired private TodoRepository todoRepository;
+  @Autowired private EntityFactory entityFactory;
+  @Autowired private EntityManager em;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    th.cleanUp();
+  }
+
+  private Todo insertTodo(User user, Group group, TodoStatus todoStatus, String order) {
+    return entityFactory.insertTodo(
+        user.getId(), null, group.getId(), "title", "description", todoStatus, order, null, false);
+  }
+
+  @Nested
+  @DisplayName("DONE todo 보관 (archive)")
+  class Archive {
+
+    @Test
+    @DisplayName("성공: 최근에 DONE이 된 todo는 옮기지 않는다")
+    void success_whenDoneTodosAreRecent() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      insertTodo(user, group, TodoStatus.DONE, "i");
+
+      // When
+      int archived = todoArchiver.archive();
+
+      // Then
+      Assertions.assertEquals(0, archived);
+      Assertions.assertEquals(1, todoRepository.findByGroupId(group.getId()).size());
+      Assertions.assertTrue(
+          todoService.getArchivedTodosInGroup(group.getId(), null, 10).todos().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("DONE todo chunk 보관 (archiveDoneTodos)")
+  class ArchiveDoneTodos {
+
+    @Test
+    @DisplayName("성공: 기준보다 오래된 DONE todo만 star와 함께 limit개씩 옮기고 개수는 그대로 유지한다")
+    void success_whenDoneTodosAreOld() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo toDo = insertTodo(user, group, TodoStatus.TO_DO, "i");
+      Todo first = insertTodo(user, group, TodoStatus.DONE, "i");
+      insertTodo(user, group, TodoStatus.DONE, "j");
+      insertTodo(user, group, TodoStatus.DONE, "k");
+      UserTodoStar star = entityFactory.insertUserTodoStar(user.getId(), first.getId());
+
+      ZonedDateTime now = ZonedDateTime.now();
+      ZonedDateTime completedBefore = now.plusMinutes(1);
+
+      // When
+      int firstChunk = todoRepository.archiveDoneTodos(group.getId(), completedBefore, now, 2);
+      int secondChunk = todoRepository.archiveDoneTodos(group.getId(), completedBefore, now, 2);
+      int thirdChunk = todoRepository.archiveDoneTodos(group.getId(), completedBefore, now, 2);
+
+      // Then
+      Assertions.assertEquals(2, firstChunk);
+      Assertions.assertEquals(1, secondChunk);
+      Assertions.assertEquals(0, thirdChunk);
+
+      List<TodoDTO> todos = todoRepository.findByGroupId(group.getId());
+      Assertions.assertEquals(List.of(toDo.getId()), todos.stream().map(TodoDTO::id).toList());
+
+      List<TodoDTO> archivedTodos =
+          todoService.getArchivedTodosInGroup(group.getId(), null, 10).todos();
+      Assertions.assertEquals(3, archivedTodos.size());
+      Assertions.assertTrue(
+          archivedTodos.stream().allMatch(todo -> todo.status() == TodoStatus.DONE));
+      Assertions.assertNull(em.find(UserTodoStar.class, star.getId()));
+
+      ArchivedTodoStar archivedStar = em.find(ArchivedTodoStar.class, star.getId());
+      Assertions.assertNotNull(archivedStar);
+      Assertions.assertEquals(user.getId(), archivedStar.getUserId());
+      Assertions.assertEquals(first.getId(), archivedStar.getTodoId());
+
+      TodoCountDTO todoCount =
+          todoRepository.findTodoCountsByGroupIds(List.of(group.getId())).get(group.getId());
+      Assertions.assertEquals(4, todoCount.todoCount());
+      Assertions.assertEquals(3, todoCount.completedTodoCount());
+
+      Assertions.assertEquals(1, todoService.getTodosInGroup(group.getId()).size());
+    }
+  }
+
+  @Nested
+  @DisplayName("보관된 todo 페이지 조회 (getArchivedTodosInGroup)")
+  class GetArchivedTodosInGroup {
+
+    @Test
+    @DisplayName("성공: id 내림차순으로 size개씩 반환하고 마지막 페이지에서는 cursor가 없다")
+    void success_whenPaging() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo first = insertTodo(user, group, TodoStatus.DONE, "i");
+      Todo second = insertTodo(user, group, TodoStatus.DONE, "j");
+      Todo third = insertTodo(user, group, TodoStatus.DONE, "k");
+
+      ZonedDateTime now = ZonedDateTime.now();
+      todoRepository.archiveDoneTodos(group.getId(), now.plusMinutes(1), now, 10);
+
+      // When
+      TodoPageDTO firstPage = todoService.getArchivedTodosInGroup(group.getId(), null, 2);
+      TodoPageDTO secondPage =
+          todoService.getArchivedTodosInGroup(group.getId(), firstPage.nextCursor(), 2);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(third.getId(), second.getId()),
+          firstPage.todos().stream().map(TodoDTO::id).toList());
+      Assertions.assertEquals(second.getId(), firstPage.nextCursor());
+      Assertions.assertEquals(
+          List.of(first.getId()), secondPage.todos().stream().map(TodoDTO::id).toList());
+      Assertions.assertNull(secondPage.nextCursor());
+    }
+  }
+}
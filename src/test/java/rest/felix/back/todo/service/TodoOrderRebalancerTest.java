@@ -0,0 +1,159 @@
+package rest.felix.back.todo.service;
+
+import java.util.List;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.util.EntityFactory;
+import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.group.entity.Group;
+import rest.felix.back.todo.dto.MoveTodoDTO;
+import rest.felix.back.todo.dto.TodoDTO;
+import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.repository.TodoRepository;
+import rest.felix.back.user.entity.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoOrderRebalancerTest {
+
+  @Autowired private TodoOrderRebalancer todoOrderRebalancer;
+  @Autowired private TodoService todoService;
+  @Autowired private TodoRepository todoRepository;
+  @Autowired private EntityFactory entityFactory;
+
+  @Autowired private TestHelper th;
+
+  @BeforeEach
+  void setUp() {
+    th.cleanUp();
+  }
+
+  private Todo insertTodo(User user, Group group, TodoStatus todoStatus, String order) {
+    return entityFactory.insertTodo(
+        user.getId(), null, group.getId(), "title", "description", todoStatus, order, null, false);
+  }
+
+  @Nested
+  @DisplayName("order 재정렬 (rebalance)")
+  class Rebalance {
+
+    @Test
+    @DisplayName("성공: key가 길어진 column의 order를 순서를 유지한 채 짧은 key로 다시 매긴다")
+    void success_whenColumnHasLongKeys() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo first = insertTodo(user, group, TodoStatus.TO_DO, "i");
+      Todo second = insertTodo(user, group, TodoStatus.TO_DO, "ihhhhhhhhhhhhhhhhhhh");
+      Todo third = insertTodo(user, group, TodoStatus.TO_DO, "ihhhhhhhhhhhhhhhhhhhh");
+      Todo fourth = insertTodo(user, group, TodoStatus.TO_DO, "j1");
+      todoRepository.markColumnToRebalance(group.getId(), TodoStatus.TO_DO);
+
+      // When
+      int rebalanced = todoOrderRebalancer.rebalance();
+
+      // Then
+      Assertions.assertEquals(1, rebalanced);
+
+      List<TodoDTO> todos = todoRepository.findByGroupId(group.getId());
+      Assertions.assertEquals(
+          List.of(first.getId(), second.getId(), third.getId(), fourth.getId()),
+          todos.stream().map(TodoDTO::id).toList());
+      Assertions.assertTrue(todos.stream().allMatch(todo -> todo.order().length() <= 3));
+    }
+
+    @Test
+    @DisplayName("성공: key가 짧은 column은 그대로 둔다")
+    void success_whenColumnHasShortKeys() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      insertTodo(user, group, TodoStatus.TO_DO, "ihhhhhhhhhhhhhhhhhhh");
+      Todo shortTodo = insertTodo(user, group, TodoStatus.DONE, "ihh");
+      todoRepository.markColumnToRebalance(group.getId(), TodoStatus.TO_DO);
+      todoRepository.markColumnToRebalance(group.getId(), TodoStatus.DONE);
+
+      // When
+      int rebalanced = todoOrderRebalancer.rebalance();
+
+      // Then
+      Assertions.assertEquals(1, rebalanced);
+      Assertions.assertEquals(
+          "ihh", todoRepository.findById(group.getId(), shortTodo.getId()).orElseThrow().order());
+      Assertions.assertTrue(todoRepository.findColumnsToRebalance(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("성공: 재정렬할 column이 없으면 아무것도 바꾸지 않는다")
+    void success_whenNothingToRebalance() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo todo = insertTodo(user, group, TodoStatus.TO_DO, "i");
+      todoRepository.markColumnToRebalance(group.getId(), TodoStatus.TO_DO);
+
+      // When
+      int rebalanced = todoOrderRebalancer.rebalance();
+
+      // Then
+      Assertions.assertEquals(0, rebalanced);
+      Assertions.assertEquals(
+          "i", todoRepository.findById(group.getId(), todo.getId()).orElseThrow().order());
+    }
+
+    @Test
+    @DisplayName("성공: 표시되지 않은 column은 key가 길어도 확인하지 않는다")
+    void success_whenColumnIsNotMarked() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo todo = insertTodo(user, group, TodoStatus.TO_DO, "ihhhhhhhhhhhhhhhhhhh");
+
+      // When
+      int rebalanced = todoOrderRebalancer.rebalance();
+
+      // Then
+      Assertions.assertEquals(0, rebalanced);
+      Assertions.assertEquals(
+          "ihhhhhhhhhhhhhhhhhhh",
+          todoRepository.findById(group.getId(), todo.getId()).orElseThrow().order());
+    }
+
+    @Test
+    @DisplayName("성공: 긴 key로 이동하면 column이 표시되어 재정렬된다")
+    void success_whenTodoIsMovedWithLongKey() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+
+      Todo first = insertTodo(user, group, TodoStatus.TO_DO, "i");
+      Todo second = insertTodo(user, group, TodoStatus.IN_PROGRESS, "j1");
+      todoService.moveTodo(
+          new MoveTodoDTO(
+              group.getId(), second.getId(), TodoStatus.TO_DO, "ihhhhhhhhhhhhhhhhhhh"));
+
+      // When
+      int rebalanced = todoOrderRebalancer.rebalance();
+
+      // Then
+      Assertions.assertEquals(1, rebalanced);
+
+      List<TodoDTO> todos = todoRepository.findByGroupId(group.getId());
+      Assertions.assertEquals(
+          List.of(first.getId(), second.getId()), todos.stream().map(TodoDTO::id).toList());
+      Assertions.assertTrue(todos.stream().allMatch(todo -> todo.order().length() <= 3));
+    }
+  }
+}
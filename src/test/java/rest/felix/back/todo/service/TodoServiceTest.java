@@ -1,29 +1,47 @@
 package rest.felix.back.todo.service;
 
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
+import rest.felix.back.common.exception.throwable.badrequest.InvalidCursorException;
 import rest.felix.back.common.exception.throwable.notFound.ResourceNotFoundException;
 import rest.felix.back.common.util.EntityFactory;
 import rest.felix.back.common.util.NullableField;
 import rest.felix.back.common.util.TestHelper;
+import rest.felix.back.common.util.Trio;
 import rest.felix.back.group.entity.Group;
+import rest.felix.back.group.entity.UserGroup;
 import rest.felix.back.group.entity.enumerated.GroupRole;
 import rest.felix.back.todo.dto.*;
 import rest.felix.back.todo.entity.Todo;
+import rest.felix.back.todo.entity.UserTodoStar;
+import rest.felix.back.todo.entity.enumerated.TodoOperationType;
 import rest.felix.back.todo.entity.enumerated.TodoStatus;
+import rest.felix.back.todo.exception.DestinationNotFoundException;
 import rest.felix.back.todo.exception.DuplicateTodoOrderException;
 import rest.felix.back.todo.exception.TodoNotFoundException;
+import rest.felix.back.todo.exception.TodoVersionMismatchException;
 import rest.felix.back.todo.repository.TodoRepository;
 import rest.felix.back.user.entity.User;
 
@@ -34,14 +52,41 @@ class TodoServiceTest {
   @Autowired private TodoService todoService;
   @Autowired private TodoRepository todoRepository;
   @Autowired private EntityFactory entityFactory;
+  @Autowired private EntityManager em;
 
   @Autowired private TestHelper th;
 
+  @Value("${spring.datasource.hikari.maximum-pool-size}")
+  private int maximumPoolSize;
+
   @BeforeEach
   void setUp() {
     th.cleanUp();
   }
 
+  private boolean isStarStored(User user, Group group, Todo todo) {
+    return todoRepository.findByGroupIdWithStars(user.getId(), group.getId()).stream()
+        .filter(storedTodo -> storedTodo.id() == todo.getId())
+        .findFirst()
+        .orElseThrow()
+        .isStarred();
+  }
+
+  // batch 하나는 PreparedStatement 하나로 센다.
+  private long countPreparedStatements(Runnable work) {
+    Statistics statistics =
+        em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    statistics.setStatisticsEnabled(true);
+
+    try {
+      work.run();
+      return statistics.getPrepareStatementCount();
+    } finally {
+      statistics.setStatisticsEnabled(false);
+    }
+  }
+
   @Nested
   @DisplayName("그룹의 모든 Todo 조회 (getTodosInGroup)")
   class GetTodosInGroup {
@@ -319,6 +364,150 @@ class TodoServiceTest {
       Assertions.assertNotNull(todoDTO.order());
       Assertions.assertEquals(false, todoDTO.order().isEmpty());
     }
+
+    @Test
+    @DisplayName("성공: 같은 그룹에 동시에 Todo를 생성해도 order가 충돌하지 않는다")
+    void success_whenCreatingTodosConcurrentlyInSameGroup() throws Exception {
+      // Given
+      User user = entityFactory.insertUser("username", "hashedPassword", "nickname");
+      Group group = entityFactory.insertGroup("group name", "group description");
+      int count = 50;
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      CountDownLatch start = new CountDownLatch(1);
+
+      // When
+      List<Future<TodoDTO>> futures =
+          IntStream.range(0, count)
+              .mapToObj(
+                  idx ->
+                      executor.submit(
+                          () -> {
+                            start.await();
+                            return todoService.createTodo(
+                                new CreateTodoDTO(
+                                    String.format("todo %d", idx),
+                                    "todo description",
+                                    null,
+                                    user.getId(),
+                                    group.getId(),
+                                    null));
+                          }))
+              .toList();
+      start.countDown();
+
+      List<TodoDTO> todoDTOs = new ArrayList<>();
+      try {
+        for (Future<TodoDTO> future : futures) todoDTOs.add(future.get(30, TimeUnit.SECONDS));
+      } finally {
+        executor.shutdownNow();
+      }
+
+      // Then
+      Assertions.assertEquals(count, todoDTOs.stream().map(TodoDTO::order).distinct().count());
+      Assertions.assertEquals(count, todoService.getTodosInGroup(group.getId()).size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Todo 일괄 생성 (createTodos)")
+  class CreateTodos {
+
+    @Test
+    @DisplayName("성공: 기존 Todo 뒤에 요청 순서대로 이어지는 order로 생성한다")
+    void success_whenCreatingTodosAfterExistingTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      entityFactory.insertTodo(
+          user.getId(), null, group.getId(), "t", "d", TodoStatus.TO_DO, "j5", null, false);
+
+      List<CreateTodoDTO> createTodoDTOs =
+          IntStream.range(0, 120)
+              .mapToObj(
+                  idx ->
+                      new CreateTodoDTO(
+                          String.format("todo %d", idx),
+                          "description",
+                          null,
+                          user.getId(),
+                          group.getId(),
+                          idx % 2 == 0 ? user.getId() : null))
+              .toList();
+
+      // When
+      List<TodoDTO> todoDTOs = todoService.createTodos(group.getId(), createTodoDTOs);
+
+      // Then
+      Assertions.assertEquals(120, todoDTOs.size());
+      Assertions.assertEquals(
+          OrderGenerator.generateAfter("j5", 120), todoDTOs.stream().map(TodoDTO::order).toList());
+      Assertions.assertEquals("todo 0", todoDTOs.get(0).title());
+      Assertions.assertEquals(user.getId(), todoDTOs.get(0).assigneeId());
+      Assertions.assertNull(todoDTOs.get(1).assigneeId());
+      Assertions.assertTrue(
+          todoDTOs.stream().allMatch(todoDTO -> todoDTO.status() == TodoStatus.TO_DO));
+      Assertions.assertEquals(121, todoService.getTodosInGroup(group.getId()).size());
+    }
+
+    @Test
+    @DisplayName("성공: batch_size까지의 Todo는 INSERT 문장 하나로 보낸다")
+    void success_whenInsertsAreBatched() {
+      // Given
+      var oneTrio = entityFactory.insertUserGroup();
+      var manyTrio = entityFactory.insertUserGroup();
+
+      // When
+      long oneStatements =
+          countPreparedStatements(
+              () -> todoService.createTodos(oneTrio.second().getId(), createTodoDTOs(oneTrio, 1)));
+      long manyStatements =
+          countPreparedStatements(
+              () ->
+                  todoService.createTodos(manyTrio.second().getId(), createTodoDTOs(manyTrio, 50)));
+
+      // Then
+      // 사이에 sequence에서 id를 새로 받아 오는 문장이 한 번 더 나갈 수 있다.
+      Assertions.assertTrue(manyStatements <= oneStatements + 1);
+      Assertions.assertEquals(50, todoService.getTodosInGroup(manyTrio.second().getId()).size());
+    }
+
+    private List<CreateTodoDTO> createTodoDTOs(Trio<User, Group, UserGroup> trio, int count) {
+      return IntStream.range(0, count)
+          .mapToObj(
+              idx ->
+                  new CreateTodoDTO(
+                      String.format("todo %d", idx),
+                      "description",
+                      null,
+                      trio.first().getId(),
+                      trio.second().getId(),
+                      null))
+          .toList();
+    }
+
+    @Test
+    @DisplayName("실패: 그룹에 속하지 않은 담당자가 있으면 하나도 생성하지 않는다")
+    void fail_whenAssigneeIsNotInGroup() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      User stranger = entityFactory.insertUser("stranger", "hashedPassword", "stranger");
+
+      List<CreateTodoDTO> createTodoDTOs =
+          List.of(
+              new CreateTodoDTO("t1", "d", null, user.getId(), group.getId(), user.getId()),
+              new CreateTodoDTO("t2", "d", null, user.getId(), group.getId(), stranger.getId()));
+
+      // When
+      Runnable lambda = () -> todoService.createTodos(group.getId(), createTodoDTOs);
+
+      // Then
+      Assertions.assertThrows(
+          rest.felix.back.user.exception.UserNotFoundException.class, lambda::run);
+      Assertions.assertTrue(todoService.getTodosInGroup(group.getId()).isEmpty());
+    }
   }
 
   @Nested
@@ -415,6 +604,7 @@ class TodoServiceTest {
     void success_whenDeletingTodo() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               trio.first().getId(),
@@ -428,10 +618,10 @@ class TodoServiceTest {
               false);
 
       // When
-      todoService.deleteTodo(todo.getId());
+      todoService.deleteTodo(group.getId(), todo.getId());
 
       // Then
-      Assertions.assertEquals(true, todoRepository.findById(todo.getId()).isEmpty());
+      Assertions.assertEquals(true, todoRepository.findById(group.getId(), todo.getId()).isEmpty());
     }
 
     @Test
@@ -439,6 +629,7 @@ class TodoServiceTest {
     void success_whenDeletingNonExistentTodo() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               trio.first().getId(),
@@ -453,7 +644,7 @@ class TodoServiceTest {
       th.delete(todo);
 
       // When
-      Runnable lambda = () -> todoService.deleteTodo(todo.getId());
+      Runnable lambda = () -> todoService.deleteTodo(group.getId(), todo.getId());
 
       // Then
       Assertions.assertDoesNotThrow(lambda::run);
@@ -464,6 +655,7 @@ class TodoServiceTest {
     void success_whenTodoIsDeleted_relatedStarsAreAlsoDeleted() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       User user = trio.first();
       Todo todo =
           entityFactory.insertTodo(
@@ -476,15 +668,15 @@ class TodoServiceTest {
               null,
               null,
               false);
-      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
-      Assertions.assertEquals(true, todoRepository.starExistsById(user.getId(), todo.getId()));
+      UserTodoStar star = entityFactory.insertUserTodoStar(user.getId(), todo.getId());
+      Assertions.assertEquals(true, isStarStored(user, group, todo));
 
       // When
-      todoService.deleteTodo(todo.getId());
+      todoService.deleteTodo(group.getId(), todo.getId());
 
       // Then
-      Assertions.assertEquals(true, todoRepository.findById(todo.getId()).isEmpty());
-      Assertions.assertEquals(false, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Assertions.assertEquals(true, todoRepository.findById(group.getId(), todo.getId()).isEmpty());
+      Assertions.assertNull(em.find(UserTodoStar.class, star.getId()));
     }
   }
 
@@ -496,6 +688,7 @@ class TodoServiceTest {
     void success_whenUpdatingTitleAndDescription() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               trio.first().getId(),
@@ -508,12 +701,15 @@ class TodoServiceTest {
               null,
               false);
       UpdateTodoDTO updateTodoDTO =
-          new UpdateTodoDTO(todo.getId(), "todo updated title", "todo updated description");
+          new UpdateTodoDTO(
+              group.getId(), todo.getId(), "todo updated title", "todo updated description");
 
       // When
       TodoDTO todoDTO = todoService.updateTodo(updateTodoDTO);
       TodoDTO updatedTodo =
-          todoRepository.findById(todo.getId()).orElseThrow(TodoNotFoundException::new);
+          todoRepository
+              .findById(group.getId(), todo.getId())
+              .orElseThrow(TodoNotFoundException::new);
 
       // Then
       Assertions.assertEquals(todo.getId(), todoDTO.id());
@@ -523,11 +719,77 @@ class TodoServiceTest {
       Assertions.assertEquals("todo updated description", updatedTodo.description());
     }
 
+    @Test
+    @DisplayName("성공: 현재 version을 지정하면 수정하고 version을 올린다")
+    void success_whenVersionMatches() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              trio.first().getId(),
+              trio.first().getId(),
+              trio.second().getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      long version = todoRepository.findById(group.getId(), todo.getId()).orElseThrow().version();
+      UpdateTodoDTO updateTodoDTO =
+          new UpdateTodoDTO(group.getId(), todo.getId(), "updated", null, version);
+
+      // When
+      TodoDTO todoDTO = todoService.updateTodo(updateTodoDTO);
+
+      // Then
+      Assertions.assertEquals("updated", todoDTO.title());
+      Assertions.assertEquals(version + 1, todoDTO.version());
+      Assertions.assertEquals(
+          version + 1,
+          todoRepository.findById(group.getId(), todo.getId()).orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("실패: 이전 version으로 수정 요청 시 예외가 발생하고 수정되지 않는다")
+    void fail_whenVersionIsStale() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              trio.first().getId(),
+              trio.first().getId(),
+              trio.second().getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      long version = todoRepository.findById(group.getId(), todo.getId()).orElseThrow().version();
+      todoService.updateTodo(
+          new UpdateTodoDTO(group.getId(), todo.getId(), "first", null, version));
+
+      UpdateTodoDTO staleUpdateTodoDTO =
+          new UpdateTodoDTO(group.getId(), todo.getId(), "second", null, version);
+
+      // When
+      Runnable lambda = () -> todoService.updateTodo(staleUpdateTodoDTO);
+
+      // Then
+      Assertions.assertThrows(TodoVersionMismatchException.class, lambda::run);
+      Assertions.assertEquals(
+          "first", todoRepository.findById(group.getId(), todo.getId()).orElseThrow().title());
+    }
+
     @Test
     @DisplayName("실패: 존재하지 않는 Todo ID로 수정 요청 시 예외가 발생한다")
     void fail_whenTodoNotFound() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               trio.first().getId(),
@@ -541,7 +803,8 @@ class TodoServiceTest {
               false);
       th.delete(todo);
       UpdateTodoDTO updateTodoDTO =
-          new UpdateTodoDTO(todo.getId(), "updated todo title", "updated todo description");
+          new UpdateTodoDTO(
+              group.getId(), todo.getId(), "updated todo title", "updated todo description");
 
       // When
       Runnable lambda = () -> todoService.updateTodo(updateTodoDTO);
@@ -555,6 +818,7 @@ class TodoServiceTest {
     void success_whenUpdatingOnlyTitle() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               trio.first().getId(),
@@ -566,12 +830,15 @@ class TodoServiceTest {
               null,
               null,
               false);
-      UpdateTodoDTO updateTodoDTO = new UpdateTodoDTO(todo.getId(), "updated title", null);
+      UpdateTodoDTO updateTodoDTO =
+          new UpdateTodoDTO(group.getId(), todo.getId(), "updated title", null);
 
       // When
       TodoDTO todoDTO = todoService.updateTodo(updateTodoDTO);
       TodoDTO updatedTodo =
-          todoRepository.findById(todo.getId()).orElseThrow(TodoNotFoundException::new);
+          todoRepository
+              .findById(group.getId(), todo.getId())
+              .orElseThrow(TodoNotFoundException::new);
 
       // Then
       Assertions.assertEquals(todo.getId(), todoDTO.id());
@@ -586,6 +853,7 @@ class TodoServiceTest {
     void success_whenUpdatingOnlyDescription() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               trio.first().getId(),
@@ -597,12 +865,15 @@ class TodoServiceTest {
               null,
               null,
               false);
-      UpdateTodoDTO updateTodoDTO = new UpdateTodoDTO(todo.getId(), null, "updated description");
+      UpdateTodoDTO updateTodoDTO =
+          new UpdateTodoDTO(group.getId(), todo.getId(), null, "updated description");
 
       // When
       TodoDTO todoDTO = todoService.updateTodo(updateTodoDTO);
       TodoDTO updatedTodo =
-          todoRepository.findById(todo.getId()).orElseThrow(TodoNotFoundException::new);
+          todoRepository
+              .findById(group.getId(), todo.getId())
+              .orElseThrow(TodoNotFoundException::new);
 
       // Then
       Assertions.assertEquals(todo.getId(), todoDTO.id());
@@ -1124,6 +1395,7 @@ class TodoServiceTest {
               false);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Present<>(true),
               new NullableField.Present<>(LocalDate.now()),
@@ -1160,6 +1432,7 @@ class TodoServiceTest {
               current);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Present<>(toUpdate),
               new NullableField.Absent<>(),
@@ -1194,6 +1467,7 @@ class TodoServiceTest {
               false);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Absent<>(),
               new NullableField.Present<>(toUpdate),
@@ -1228,6 +1502,7 @@ class TodoServiceTest {
               false);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Absent<>(),
               new NullableField.Absent<>(),
@@ -1264,6 +1539,7 @@ class TodoServiceTest {
               false);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Absent<>(),
               new NullableField.Absent<>(),
@@ -1298,6 +1574,7 @@ class TodoServiceTest {
               false);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Absent<>(),
               new NullableField.Absent<>(),
@@ -1334,6 +1611,7 @@ class TodoServiceTest {
 
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Present<>(null),
               new NullableField.Absent<>(),
@@ -1352,9 +1630,11 @@ class TodoServiceTest {
     void fail_whenTodoNotFound() {
       // Given
       var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
       User user = trio.first();
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               999L,
               new NullableField.Present<>(true),
               new NullableField.Absent<>(),
@@ -1388,6 +1668,7 @@ class TodoServiceTest {
               false);
       UpdateTodoMetadataDTO requestDTO =
           new UpdateTodoMetadataDTO(
+              group.getId(),
               todo.getId(),
               new NullableField.Absent<>(),
               new NullableField.Absent<>(),
@@ -1400,6 +1681,55 @@ class TodoServiceTest {
             todoService.updateTodoMetadata(requestDTO);
           });
     }
+
+    @Test
+    @DisplayName("실패: 이전 version으로 수정 요청 시 예외가 발생하고 수정되지 않는다")
+    void fail_whenVersionIsStale() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      long version = todo.getVersion();
+      todoService.updateTodoMetadata(
+          new UpdateTodoMetadataDTO(
+              group.getId(),
+              todo.getId(),
+              new NullableField.Present<>(true),
+              new NullableField.Absent<>(),
+              new NullableField.Absent<>(),
+              version));
+
+      UpdateTodoMetadataDTO staleRequestDTO =
+          new UpdateTodoMetadataDTO(
+              group.getId(),
+              todo.getId(),
+              new NullableField.Absent<>(),
+              new NullableField.Absent<>(),
+              new NullableField.Present<>(null),
+              version);
+
+      // When
+      Runnable lambda = () -> todoService.updateTodoMetadata(staleRequestDTO);
+
+      // Then
+      Assertions.assertThrows(TodoVersionMismatchException.class, lambda::run);
+
+      TodoDTO todoDTO = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
+      Assertions.assertTrue(todoDTO.isImportant());
+      Assertions.assertEquals(user.getId(), todoDTO.assigneeId());
+      Assertions.assertEquals(version + 1, todoDTO.version());
+    }
   }
 
   @Nested
@@ -1435,13 +1765,14 @@ class TodoServiceTest {
               null,
               false);
 
-      MoveTodoDTO moveTodoDTO = new MoveTodoDTO(targetTodo.getId(), TodoStatus.IN_PROGRESS, "b");
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(group.getId(), targetTodo.getId(), TodoStatus.IN_PROGRESS, "b");
 
       // When
       todoService.moveTodo(moveTodoDTO);
 
       // Then
-      TodoDTO movedTodo = todoRepository.findById(targetTodo.getId()).orElseThrow();
+      TodoDTO movedTodo = todoRepository.findById(group.getId(), targetTodo.getId()).orElseThrow();
       Assertions.assertEquals(TodoStatus.IN_PROGRESS, movedTodo.status());
       Assertions.assertEquals("b", movedTodo.order());
     }
@@ -1465,13 +1796,14 @@ class TodoServiceTest {
               null,
               false);
 
-      MoveTodoDTO moveTodoDTO = new MoveTodoDTO(targetTodo.getId(), TodoStatus.TO_DO, "d");
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(group.getId(), targetTodo.getId(), TodoStatus.TO_DO, "d");
 
       // When
       todoService.moveTodo(moveTodoDTO);
 
       // Then
-      TodoDTO movedTodo = todoRepository.findById(targetTodo.getId()).orElseThrow();
+      TodoDTO movedTodo = todoRepository.findById(group.getId(), targetTodo.getId()).orElseThrow();
       Assertions.assertEquals(TodoStatus.TO_DO, movedTodo.status());
       Assertions.assertEquals("d", movedTodo.order());
     }
@@ -1494,7 +1826,8 @@ class TodoServiceTest {
               false);
       th.delete(todo);
 
-      MoveTodoDTO moveTodoDTO = new MoveTodoDTO(todo.getId(), TodoStatus.IN_PROGRESS, "b");
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(trio.second().getId(), todo.getId(), TodoStatus.IN_PROGRESS, "b");
 
       // When
       Runnable lambda = () -> todoService.moveTodo(moveTodoDTO);
@@ -1532,7 +1865,9 @@ class TodoServiceTest {
               null,
               false);
 
-      MoveTodoDTO moveTodoDTO = new MoveTodoDTO(todo2.getId(), TodoStatus.TO_DO, todo1.getOrder());
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(
+              trio.second().getId(), todo2.getId(), TodoStatus.TO_DO, todo1.getOrder());
 
       // When
       Runnable lambda = () -> todoService.moveTodo(moveTodoDTO);
@@ -1559,9 +1894,10 @@ class TodoServiceTest {
               "a",
               null,
               false);
-      todoService.deleteTodo(todo.getId());
+      todoService.deleteTodo(group.getId(), todo.getId());
 
-      MoveTodoDTO moveTodoDTO = new MoveTodoDTO(todo.getId(), TodoStatus.TO_DO, "asdf");
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(group.getId(), todo.getId(), TodoStatus.TO_DO, "asdf");
 
       // When
       Runnable lambda = () -> todoService.moveTodo(moveTodoDTO);
@@ -1569,42 +1905,42 @@ class TodoServiceTest {
       // Then
       Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
     }
-  }
-
-  @Nested
-  @DisplayName("Todo star 표기 (starTodo)")
-  class StarTodo {
 
     @Test
-    @DisplayName("성공: 아직 Star(좋아요)하지 않은 Todo에 Star를 추가한다")
-    void success_whenStarringANonStarredTodo() {
+    @DisplayName("실패: 다른 그룹의 Todo를 이동하려 할 때 예외가 발생한다")
+    void fail_whenTodoIsInAnotherGroup() {
       // Given
       var trio = entityFactory.insertUserGroup();
-      User user = trio.first();
       Group group = trio.second();
+      User user = trio.first();
+      Group otherGroup = entityFactory.insertGroup("other group", "description");
       Todo todo =
           entityFactory.insertTodo(
               user.getId(),
               user.getId(),
-              group.getId(),
+              trio.second().getId(),
               "t",
               "d",
               TodoStatus.TO_DO,
-              null,
+              "a",
               null,
               false);
-      Assertions.assertEquals(false, todoRepository.starExistsById(user.getId(), todo.getId()));
+
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(otherGroup.getId(), todo.getId(), TodoStatus.IN_PROGRESS, "b");
 
       // When
-      todoService.starTodo(user.getId(), todo.getId());
+      Runnable lambda = () -> todoService.moveTodo(moveTodoDTO);
 
       // Then
-      Assertions.assertEquals(true, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
+      Assertions.assertEquals(
+          "a", todoRepository.findById(group.getId(), todo.getId()).orElseThrow().order());
     }
 
     @Test
-    @DisplayName("성공(멱등성): 이미 Star(좋아요)한 Todo에 다시 Star를 요청해도 아무 일이 일어나지 않는다")
-    void success_whenStarringAnAlreadyStarredTodo() {
+    @DisplayName("실패: version이 현재 값과 다르면 예외가 발생하고 이동하지 않는다")
+    void fail_whenVersionIsStale() {
       // Given
       var trio = entityFactory.insertUserGroup();
       User user = trio.first();
@@ -1617,144 +1953,786 @@ class TodoServiceTest {
               "t",
               "d",
               TodoStatus.TO_DO,
-              null,
+              "a",
               null,
               false);
-      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
-      Assertions.assertEquals(true, todoRepository.starExistsById(user.getId(), todo.getId()));
+
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(group.getId(), todo.getId(), TodoStatus.IN_PROGRESS, "b", 5L);
 
       // When
-      todoService.starTodo(user.getId(), todo.getId());
+      Runnable lambda = () -> todoService.moveTodo(moveTodoDTO);
 
       // Then
-      Assertions.assertEquals(true, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Assertions.assertThrows(TodoVersionMismatchException.class, lambda::run);
+
+      TodoDTO todoDTO = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
+      Assertions.assertEquals(TodoStatus.TO_DO, todoDTO.status());
+      Assertions.assertEquals("a", todoDTO.order());
     }
 
     @Test
-    @DisplayName("실패: 존재하지 않는 Todo에 Star를 요청하면 예외가 발생한다")
-    void fail_whenTodoNotFound() {
+    @DisplayName("성공: 이동 결과의 version이 1 증가한다")
+    void success_whenVersionMatches() {
       // Given
       var trio = entityFactory.insertUserGroup();
       User user = trio.first();
+      Group group = trio.second();
       Todo todo =
           entityFactory.insertTodo(
               user.getId(),
               user.getId(),
-              trio.second().getId(),
+              group.getId(),
               "t",
               "d",
               TodoStatus.TO_DO,
-              null,
+              "a",
               null,
               false);
-      th.delete(todo);
+
+      MoveTodoDTO moveTodoDTO =
+          new MoveTodoDTO(
+              group.getId(), todo.getId(), TodoStatus.IN_PROGRESS, "b", todo.getVersion());
 
       // When
-      Runnable lambda = () -> todoService.starTodo(user.getId(), todo.getId());
+      TodoDTO movedTodo = todoService.moveTodo(moveTodoDTO);
 
       // Then
-      Assertions.assertThrows(DataIntegrityViolationException.class, lambda::run);
+      Assertions.assertEquals(todo.getVersion() + 1, movedTodo.version());
+      Assertions.assertEquals(TodoStatus.IN_PROGRESS, movedTodo.status());
+      Assertions.assertEquals("b", movedTodo.order());
     }
 
     @Test
-    @DisplayName("실패: 삭제된 Todo에 Star를 요청하면 예외가 발생한다")
-    void fail_whenStarringDeletedTodo() {
+    @DisplayName("성공: connection pool 크기보다 많은 요청이 동시에 이동해도 pool이 고갈되지 않는다")
+    void success_whenMovingConcurrentlyAtPoolSaturation() throws Exception {
       // Given
       var trio = entityFactory.insertUserGroup();
       User user = trio.first();
       Group group = trio.second();
-      Todo todo =
-          entityFactory.insertTodo(
-              user.getId(),
-              user.getId(),
-              group.getId(),
-              "t",
-              "d",
-              TodoStatus.TO_DO,
-              null,
-              null,
-              false);
-
-      todoService.deleteTodo(todo.getId());
+      int threads = maximumPoolSize * 2;
+      int count = threads * 3;
+
+      List<String> orders = OrderGenerator.generateEvenlySpaced(count);
+      List<Todo> todos =
+          orders.stream()
+              .map(
+                  order ->
+                      entityFactory.insertTodo(
+                          user.getId(),
+                          user.getId(),
+                          group.getId(),
+                          "t",
+                          "d",
+                          TodoStatus.TO_DO,
+                          order,
+                          null,
+                          false))
+              .toList();
+
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      CountDownLatch start = new CountDownLatch(1);
 
       // When
-      Runnable lambda = () -> todoService.starTodo(user.getId(), todo.getId());
+      List<Future<TodoDTO>> futures =
+          IntStream.range(0, count)
+              .mapToObj(
+                  idx ->
+                      executor.submit(
+                          () -> {
+                            start.await();
+                            return todoService.moveTodo(
+                                new MoveTodoDTO(
+                                    group.getId(),
+                                    todos.get(idx).getId(),
+                                    TodoStatus.IN_PROGRESS,
+                                    orders.get(idx)));
+                          }))
+              .toList();
+      start.countDown();
+
+      List<TodoDTO> movedTodos = new ArrayList<>();
+      try {
+        for (Future<TodoDTO> future : futures) movedTodos.add(future.get(30, TimeUnit.SECONDS));
+      } finally {
+        executor.shutdownNow();
+      }
 
       // Then
-      Assertions.assertThrows(DataIntegrityViolationException.class, lambda::run);
+      Assertions.assertEquals(count, movedTodos.size());
+      Assertions.assertTrue(
+          todoService.getTodosInGroup(group.getId()).stream()
+              .allMatch(todoDTO -> todoDTO.status() == TodoStatus.IN_PROGRESS));
     }
   }
 
   @Nested
-  @DisplayName("Todo star 제거 (unstarTodo)")
-  class UnstarTodo {
+  @DisplayName("이웃 기준 Todo 이동 (moveTodoToPosition)")
+  class MoveTodoToPosition {
+
+    private Todo insertTodo(User user, Group group, TodoStatus todoStatus, String order) {
+      return entityFactory.insertTodo(
+          user.getId(), user.getId(), group.getId(), "t", "d", todoStatus, order, null, false);
+    }
+
+    private List<Long> idsInStatus(Group group, TodoStatus todoStatus) {
+      return todoRepository.findByGroupId(group.getId()).stream()
+          .filter(todo -> todo.status() == todoStatus)
+          .map(TodoDTO::id)
+          .toList();
+    }
 
     @Test
-    @DisplayName("성공: Star(좋아요)한 Todo의 Star를 제거한다")
-    void success_whenUnstarringAStarredTodo() {
+    @DisplayName("성공: beforeTodoId 바로 뒤로 이동한다")
+    void success_whenMovingAfterBeforeTodo() {
       // Given
       var trio = entityFactory.insertUserGroup();
       User user = trio.first();
       Group group = trio.second();
-      Todo todo =
-          entityFactory.insertTodo(
-              user.getId(),
-              user.getId(),
-              group.getId(),
-              "t",
-              "d",
-              TodoStatus.TO_DO,
-              null,
-              null,
-              false);
-      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
-      Assertions.assertEquals(true, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Todo todo1 = insertTodo(user, group, TodoStatus.TO_DO, "a");
+      Todo todo2 = insertTodo(user, group, TodoStatus.TO_DO, "b");
+      Todo todo3 = insertTodo(user, group, TodoStatus.TO_DO, "c");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(
+              group.getId(), todo3.getId(), TodoStatus.TO_DO, todo1.getId(), null);
 
       // When
-      todoService.unstarTodo(user.getId(), todo.getId());
+      TodoDTO moved = todoService.moveTodoToPosition(dto);
 
       // Then
-      Assertions.assertEquals(false, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Assertions.assertTrue(moved.order().compareTo("a") > 0);
+      Assertions.assertTrue(moved.order().compareTo("b") < 0);
+      Assertions.assertEquals(
+          List.of(todo1.getId(), todo3.getId(), todo2.getId()),
+          idsInStatus(group, TodoStatus.TO_DO));
     }
 
     @Test
-    @DisplayName("성공(멱등성): Star(좋아요)하지 않은 Todo의 Star를 제거해도 아무 일이 일어나지 않는다")
-    void success_whenUnstarringANonStarredTodo() {
+    @DisplayName("성공: afterTodoId가 맨 앞이면 column의 맨 앞으로 이동한다")
+    void success_whenMovingToTop() {
       // Given
       var trio = entityFactory.insertUserGroup();
       User user = trio.first();
       Group group = trio.second();
-      Todo todo =
-          entityFactory.insertTodo(
-              user.getId(),
-              user.getId(),
-              group.getId(),
-              "t",
-              "d",
-              TodoStatus.TO_DO,
-              null,
-              null,
-              false);
-      Assertions.assertEquals(false, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Todo todo1 = insertTodo(user, group, TodoStatus.TO_DO, "i");
+      Todo todo2 = insertTodo(user, group, TodoStatus.TO_DO, "j1");
+      Todo target = insertTodo(user, group, TodoStatus.IN_PROGRESS, "i");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(
+              group.getId(), target.getId(), TodoStatus.TO_DO, null, todo1.getId());
 
       // When
-      todoService.unstarTodo(user.getId(), todo.getId());
+      TodoDTO moved = todoService.moveTodoToPosition(dto);
 
       // Then
-      Assertions.assertEquals(false, todoRepository.starExistsById(user.getId(), todo.getId()));
+      Assertions.assertEquals(TodoStatus.TO_DO, moved.status());
+      Assertions.assertEquals(
+          List.of(target.getId(), todo1.getId(), todo2.getId()),
+          idsInStatus(group, TodoStatus.TO_DO));
     }
 
     @Test
-    @DisplayName("성공(멱등성): 삭제된 Todo의 Star를 제거해도 아무 일이 일어나지 않는다")
-    void success_whenUnstarringDeletedTodo() {
+    @DisplayName("성공: 이웃을 지정하지 않으면 column의 맨 뒤로 이동한다")
+    void success_whenMovingToBottom() {
       // Given
       var trio = entityFactory.insertUserGroup();
       User user = trio.first();
-      Todo todo =
-          entityFactory.insertTodo(
-              user.getId(),
-              user.getId(),
-              trio.second().getId(),
+      Group group = trio.second();
+      Todo target = insertTodo(user, group, TodoStatus.TO_DO, "i");
+      Todo todo1 = insertTodo(user, group, TodoStatus.TO_DO, "j1");
+      Todo todo2 = insertTodo(user, group, TodoStatus.TO_DO, "j2");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(group.getId(), target.getId(), TodoStatus.TO_DO, null, null);
+
+      // When
+      todoService.moveTodoToPosition(dto);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(todo1.getId(), todo2.getId(), target.getId()),
+          idsInStatus(group, TodoStatus.TO_DO));
+    }
+
+    @Test
+    @DisplayName("성공: 같은 위치를 두 번 요청해도 충돌 없이 서로 다른 order를 받는다")
+    void success_whenTwoTodosMovedToSameSlot() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo1 = insertTodo(user, group, TodoStatus.TO_DO, "a");
+      Todo todo2 = insertTodo(user, group, TodoStatus.TO_DO, "b");
+      Todo target1 = insertTodo(user, group, TodoStatus.DONE, "a");
+      Todo target2 = insertTodo(user, group, TodoStatus.DONE, "b");
+
+      // When
+      todoService.moveTodoToPosition(
+          new MoveTodoToPositionDTO(
+              group.getId(), target1.getId(), TodoStatus.TO_DO, todo1.getId(), todo2.getId()));
+      todoService.moveTodoToPosition(
+          new MoveTodoToPositionDTO(
+              group.getId(), target2.getId(), TodoStatus.TO_DO, todo1.getId(), todo2.getId()));
+
+      // Then
+      Assertions.assertEquals(
+          List.of(todo1.getId(), target2.getId(), target1.getId(), todo2.getId()),
+          idsInStatus(group, TodoStatus.TO_DO));
+    }
+
+    @Test
+    @DisplayName("성공: 맨 뒤로 옮기는 이동과 Todo 추가가 동시에 일어나도 order가 충돌하지 않는다")
+    void success_whenMovingToBottomWhileAppending() throws Exception {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      int count = 10;
+      List<Todo> targets =
+          IntStream.range(0, count)
+              .mapToObj(idx -> insertTodo(user, group, TodoStatus.DONE, "i" + idx))
+              .toList();
+
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      CountDownLatch start = new CountDownLatch(1);
+
+      // When
+      List<Future<TodoDTO>> futures =
+          IntStream.range(0, count * 2)
+              .mapToObj(
+                  idx ->
+                      executor.submit(
+                          () -> {
+                            start.await();
+                            if (idx % 2 == 0) {
+                              return todoService.moveTodoToPosition(
+                                  new MoveTodoToPositionDTO(
+                                      group.getId(),
+                                      targets.get(idx / 2).getId(),
+                                      TodoStatus.TO_DO,
+                                      null,
+                                      null));
+                            }
+                            return todoService.createTodo(
+                                new CreateTodoDTO(
+                                    "t", "d", null, user.getId(), group.getId(), null));
+                          }))
+              .toList();
+      start.countDown();
+
+      List<TodoDTO> todoDTOs = new ArrayList<>();
+      try {
+        for (Future<TodoDTO> future : futures) todoDTOs.add(future.get(30, TimeUnit.SECONDS));
+      } finally {
+        executor.shutdownNow();
+      }
+
+      // Then
+      Assertions.assertEquals(count * 2, todoDTOs.stream().map(TodoDTO::order).distinct().count());
+      Assertions.assertEquals(count * 2, idsInStatus(group, TodoStatus.TO_DO).size());
+    }
+
+    @Test
+    @DisplayName("실패: 이웃 Todo가 다른 상태(column)에 있으면 예외가 발생한다")
+    void fail_whenNeighbourInOtherStatus() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo neighbour = insertTodo(user, group, TodoStatus.DONE, "a");
+      Todo target = insertTodo(user, group, TodoStatus.TO_DO, "a");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(
+              group.getId(), target.getId(), TodoStatus.TO_DO, neighbour.getId(), null);
+
+      // When
+      Runnable lambda = () -> todoService.moveTodoToPosition(dto);
+
+      // Then
+      Assertions.assertThrows(DestinationNotFoundException.class, lambda::run);
+    }
+
+    @Test
+    @DisplayName("실패: 자기 자신을 이웃으로 지정하면 예외가 발생한다")
+    void fail_whenNeighbourIsItself() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo target = insertTodo(user, group, TodoStatus.TO_DO, "a");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(
+              group.getId(), target.getId(), TodoStatus.TO_DO, null, target.getId());
+
+      // When
+      Runnable lambda = () -> todoService.moveTodoToPosition(dto);
+
+      // Then
+      Assertions.assertThrows(DestinationNotFoundException.class, lambda::run);
+    }
+
+    @Test
+    @DisplayName("실패: version이 현재 version과 다르면 예외가 발생하고 이동하지 않는다")
+    void fail_whenVersionIsStale() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo1 = insertTodo(user, group, TodoStatus.TO_DO, "a");
+      Todo target = insertTodo(user, group, TodoStatus.TO_DO, "b");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(
+              group.getId(), target.getId(), TodoStatus.TO_DO, null, todo1.getId(), 5L);
+
+      // When
+      Runnable lambda = () -> todoService.moveTodoToPosition(dto);
+
+      // Then
+      Assertions.assertThrows(TodoVersionMismatchException.class, lambda::run);
+      Assertions.assertEquals(
+          List.of(todo1.getId(), target.getId()), idsInStatus(group, TodoStatus.TO_DO));
+    }
+
+    @Test
+    @DisplayName("실패: 다른 그룹의 Todo를 이동하려 할 때 예외가 발생한다")
+    void fail_whenTodoInOtherGroup() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Group otherGroup = entityFactory.insertGroup("other", "other");
+      Todo target = insertTodo(user, otherGroup, TodoStatus.TO_DO, "a");
+
+      MoveTodoToPositionDTO dto =
+          new MoveTodoToPositionDTO(group.getId(), target.getId(), TodoStatus.TO_DO, null, null);
+
+      // When
+      Runnable lambda = () -> todoService.moveTodoToPosition(dto);
+
+      // Then
+      Assertions.assertThrows(TodoNotFoundException.class, lambda::run);
+    }
+  }
+
+  @Nested
+  @DisplayName("내가 star한 todo 조회 (getStarredTodos)")
+  class GetStarredTodos {
+
+    @Test
+    @DisplayName("성공: 속한 모든 그룹에서 star한 todo를 최근에 star한 순서로 반환한다")
+    void success_whenStarredInSeveralGroups() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Group otherGroup = entityFactory.insertGroup("other", "other");
+      entityFactory.insertUserGroup(user.getId(), otherGroup.getId(), GroupRole.MEMBER);
+      Todo first =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "first",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      Todo second =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              otherGroup.getId(),
+              "second",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+
+      todoService.starTodo(user.getId(), group.getId(), first.getId());
+      todoService.starTodo(user.getId(), otherGroup.getId(), second.getId());
+
+      // When
+      StarredTodoPageDTO page = todoService.getStarredTodos(user.getId(), null, 10);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(second.getId(), first.getId()),
+          page.todos().stream().map(TodoDTO::id).toList());
+      Assertions.assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("성공: nextCursor로 다음 페이지를 이어서 반환한다")
+    void success_whenPaging() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo first =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "first",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      Todo second =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "second",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      Todo third =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "third",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+
+      todoService.starTodo(user.getId(), group.getId(), first.getId());
+      todoService.starTodo(user.getId(), group.getId(), second.getId());
+      todoService.starTodo(user.getId(), group.getId(), third.getId());
+
+      // When
+      StarredTodoPageDTO firstPage = todoService.getStarredTodos(user.getId(), null, 2);
+      StarredTodoPageDTO secondPage =
+          todoService.getStarredTodos(user.getId(), firstPage.nextCursor(), 2);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(third.getId(), second.getId()),
+          firstPage.todos().stream().map(TodoDTO::id).toList());
+      Assertions.assertNotNull(firstPage.nextCursor());
+      Assertions.assertEquals(
+          List.of(first.getId()), secondPage.todos().stream().map(TodoDTO::id).toList());
+      Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("성공: 나간 그룹에서 star한 todo는 반환하지 않는다")
+    void success_whenUserLeftGroup() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Group otherGroup = entityFactory.insertGroup("other", "other");
+      UserGroup otherMembership =
+          entityFactory.insertUserGroup(user.getId(), otherGroup.getId(), GroupRole.MEMBER);
+      Todo first =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "first",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      Todo second =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              otherGroup.getId(),
+              "second",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+
+      todoService.starTodo(user.getId(), group.getId(), first.getId());
+      todoService.starTodo(user.getId(), otherGroup.getId(), second.getId());
+      th.delete(otherMembership);
+
+      // When
+      StarredTodoPageDTO page = todoService.getStarredTodos(user.getId(), null, 10);
+
+      // Then
+      Assertions.assertEquals(
+          List.of(first.getId()), page.todos().stream().map(TodoDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("실패: 잘못된 cursor를 넘기면 예외가 발생한다")
+    void fail_whenCursorIsInvalid() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+
+      // When
+      Runnable lambda = () -> todoService.getStarredTodos(user.getId(), "not-a-cursor", 10);
+
+      // Then
+      Assertions.assertThrows(InvalidCursorException.class, lambda::run);
+    }
+  }
+
+  @Nested
+  @DisplayName("Todo star 표기 (starTodo)")
+  class StarTodo {
+
+    @Test
+    @DisplayName("성공: 아직 Star(좋아요)하지 않은 Todo에 Star를 추가한다")
+    void success_whenStarringANonStarredTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      Assertions.assertEquals(false, isStarStored(user, group, todo));
+
+      // When
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertEquals(true, isStarStored(user, group, todo));
+    }
+
+    @Test
+    @DisplayName("성공(멱등성): 이미 Star(좋아요)한 Todo에 다시 Star를 요청해도 아무 일이 일어나지 않는다")
+    void success_whenStarringAnAlreadyStarredTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
+      Assertions.assertEquals(true, isStarStored(user, group, todo));
+
+      // When
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertEquals(true, isStarStored(user, group, todo));
+    }
+
+    @Test
+    @DisplayName("성공: Star를 추가하면 Todo의 starCount가 늘고, 다시 요청해도 늘지 않는다")
+    void success_whenStarring_starCountIncreasesOnce() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+
+      // When
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      TodoWithStarredStatusDTO starred =
+          todoRepository.findByGroupIdWithStars(user.getId(), group.getId()).get(0);
+      Assertions.assertEquals(1L, starred.starCount());
+    }
+
+    @Test
+    @DisplayName("실패: 존재하지 않는 Todo에 Star를 요청하면 예외가 발생한다")
+    void fail_whenTodoNotFound() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
+      User user = trio.first();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              trio.second().getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      th.delete(todo);
+
+      // When
+      Runnable lambda = () -> todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertThrows(DataIntegrityViolationException.class, lambda::run);
+    }
+
+    @Test
+    @DisplayName("실패: 삭제된 Todo에 Star를 요청하면 예외가 발생한다")
+    void fail_whenStarringDeletedTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+
+      todoService.deleteTodo(group.getId(), todo.getId());
+
+      // When
+      Runnable lambda = () -> todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertThrows(DataIntegrityViolationException.class, lambda::run);
+    }
+  }
+
+  @Nested
+  @DisplayName("Todo star 제거 (unstarTodo)")
+  class UnstarTodo {
+
+    @Test
+    @DisplayName("성공: Star(좋아요)한 Todo의 Star를 제거한다")
+    void success_whenUnstarringAStarredTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      entityFactory.insertUserTodoStar(user.getId(), todo.getId());
+      Assertions.assertEquals(true, isStarStored(user, group, todo));
+
+      // When
+      todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertEquals(false, isStarStored(user, group, todo));
+    }
+
+    @Test
+    @DisplayName("성공(멱등성): Star(좋아요)하지 않은 Todo의 Star를 제거해도 아무 일이 일어나지 않는다")
+    void success_whenUnstarringANonStarredTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      Assertions.assertEquals(false, isStarStored(user, group, todo));
+
+      // When
+      todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      Assertions.assertEquals(false, isStarStored(user, group, todo));
+    }
+
+    @Test
+    @DisplayName("성공: Star를 제거하면 Todo의 starCount가 줄고, 다시 요청해도 줄지 않는다")
+    void success_whenUnstarring_starCountDecreasesOnce() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              group.getId(),
+              "t",
+              "d",
+              TodoStatus.TO_DO,
+              null,
+              null,
+              false);
+      todoService.starTodo(user.getId(), group.getId(), todo.getId());
+
+      // When
+      todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
+      todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
+
+      // Then
+      TodoWithStarredStatusDTO starred =
+          todoRepository.findByGroupIdWithStars(user.getId(), group.getId()).get(0);
+      Assertions.assertEquals(0L, starred.starCount());
+    }
+
+    @Test
+    @DisplayName("성공(멱등성): 삭제된 Todo의 Star를 제거해도 아무 일이 일어나지 않는다")
+    void success_whenUnstarringDeletedTodo() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
+      User user = trio.first();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(),
+              user.getId(),
+              trio.second().getId(),
               "t",
               "d",
               TodoStatus.TO_DO,
@@ -1762,13 +2740,328 @@ class TodoServiceTest {
               null,
               false);
       entityFactory.insertUserTodoStar(user.getId(), todo.getId());
-      todoService.deleteTodo(todo.getId());
+      todoService.deleteTodo(group.getId(), todo.getId());
 
       // When
-      Runnable lambda = () -> todoService.unstarTodo(user.getId(), todo.getId());
+      Runnable lambda = () -> todoService.unstarTodo(user.getId(), group.getId(), todo.getId());
 
       // Then
       Assertions.assertDoesNotThrow(lambda::run);
     }
   }
+
+  @Nested
+  @DisplayName("Todo 작업 일괄 적용 (applyOperations)")
+  class ApplyOperations {
+
+    private TodoOperationRequestDTO operation(TodoOperationType type, Long todoId) {
+      return new TodoOperationRequestDTO(type, todoId, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("성공: 여러 작업을 순서대로 적용하고 작업별 결과를 반환한다")
+    void success_whenApplyingMixedOperations() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo updateTarget =
+          entityFactory.insertTodo(
+              user.getId(), null, group.getId(), "t1", "d1", TodoStatus.TO_DO, "a", null, false);
+      Todo moveTarget =
+          entityFactory.insertTodo(
+              user.getId(), null, group.getId(), "t2", "d2", TodoStatus.TO_DO, "b", null, false);
+      Todo deleteTarget =
+          entityFactory.insertTodo(
+              user.getId(), null, group.getId(), "t3", "d3", TodoStatus.TO_DO, "c", null, false);
+
+      List<TodoOperationRequestDTO> operations =
+          List.of(
+              new TodoOperationRequestDTO(
+                  TodoOperationType.CREATE, null, "new", "new d", null, null, null, null, null),
+              new TodoOperationRequestDTO(
+                  TodoOperationType.UPDATE,
+                  updateTarget.getId(),
+                  "updated",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  updateTarget.getVersion()),
+              new TodoOperationRequestDTO(
+                  TodoOperationType.MOVE,
+                  moveTarget.getId(),
+                  null,
+                  null,
+                  null,
+                  null,
+                  TodoStatus.DONE,
+                  "m",
+                  null),
+              operation(TodoOperationType.STAR, moveTarget.getId()),
+              operation(TodoOperationType.DELETE, deleteTarget.getId()));
+
+      // When
+      List<TodoOperationResultDTO> results =
+          todoService.applyOperations(
+              new TodoOperationsDTO(user.getId(), group.getId(), operations));
+
+      // Then
+      Assertions.assertEquals(5, results.size());
+      Assertions.assertEquals(
+          List.of(0, 1, 2, 3, 4), results.stream().map(TodoOperationResultDTO::index).toList());
+
+      Assertions.assertEquals("new", results.get(0).todo().title());
+      Assertions.assertEquals("updated", results.get(1).todo().title());
+      Assertions.assertEquals(TodoStatus.DONE, results.get(2).todo().status());
+      Assertions.assertEquals(moveTarget.getId(), results.get(3).todoId());
+      Assertions.assertNull(results.get(3).todo());
+      Assertions.assertEquals(deleteTarget.getId(), results.get(4).todoId());
+
+      Assertions.assertTrue(isStarStored(user, group, moveTarget));
+      Assertions.assertTrue(todoRepository.findById(group.getId(), deleteTarget.getId()).isEmpty());
+      Assertions.assertEquals(3, todoService.getTodosInGroup(group.getId()).size());
+    }
+
+    @Test
+    @DisplayName("성공: 이동한 Todo를 같은 요청에서 이동 결과의 version으로 수정할 수 있다")
+    void success_whenUpdatingTodoAfterMovingItInSameRequest() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(), null, group.getId(), "t", "d", TodoStatus.TO_DO, "a", null, false);
+
+      List<TodoOperationRequestDTO> operations =
+          List.of(
+              new TodoOperationRequestDTO(
+                  TodoOperationType.MOVE,
+                  todo.getId(),
+                  null,
+                  null,
+                  null,
+                  null,
+                  TodoStatus.DONE,
+                  "m",
+                  todo.getVersion()),
+              new TodoOperationRequestDTO(
+                  TodoOperationType.UPDATE,
+                  todo.getId(),
+                  "updated",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  todo.getVersion() + 1));
+
+      // When
+      List<TodoOperationResultDTO> results =
+          todoService.applyOperations(
+              new TodoOperationsDTO(user.getId(), group.getId(), operations));
+
+      // Then
+      Assertions.assertEquals(todo.getVersion() + 1, results.get(0).todo().version());
+      Assertions.assertEquals("updated", results.get(1).todo().title());
+
+      TodoDTO todoDTO = todoRepository.findById(group.getId(), todo.getId()).orElseThrow();
+      Assertions.assertEquals(TodoStatus.DONE, todoDTO.status());
+      Assertions.assertEquals("m", todoDTO.order());
+      Assertions.assertEquals("updated", todoDTO.title());
+    }
+
+    @Test
+    @DisplayName("성공: 수정, 이동, 추가는 작업 수와 상관없이 종류마다 한 번에 쓴다")
+    void success_whenApplyingManyOperationsOfSameKind() {
+      // Given
+      var oneTrio = entityFactory.insertUserGroup();
+      var manyTrio = entityFactory.insertUserGroup();
+      List<TodoOperationRequestDTO> oneOperations =
+          sameKindOperations(oneTrio.first(), oneTrio.second(), 1);
+      List<TodoOperationRequestDTO> manyOperations =
+          sameKindOperations(manyTrio.first(), manyTrio.second(), 10);
+
+      // When
+      long oneStatements =
+          countPreparedStatements(
+              () ->
+                  todoService.applyOperations(
+                      new TodoOperationsDTO(
+                          oneTrio.first().getId(), oneTrio.second().getId(), oneOperations)));
+      long manyStatements =
+          countPreparedStatements(
+              () ->
+                  todoService.applyOperations(
+                      new TodoOperationsDTO(
+                          manyTrio.first().getId(), manyTrio.second().getId(), manyOperations)));
+
+      // Then
+      // 추가할 Todo의 id를 sequence에서 새로 받아 오는 문장이 한 번 더 나갈 수 있다.
+      Assertions.assertTrue(manyStatements <= oneStatements + 1);
+
+      List<TodoDTO> todos = todoService.getTodosInGroup(manyTrio.second().getId());
+      Assertions.assertEquals(30, todos.size());
+      Assertions.assertEquals(
+          10, todos.stream().filter(todo -> todo.title().equals("updated")).count());
+      Assertions.assertEquals(
+          10, todos.stream().filter(todo -> todo.status() == TodoStatus.DONE).count());
+      Assertions.assertEquals(
+          10, todos.stream().filter(todo -> todo.title().equals("new")).count());
+    }
+
+    private List<TodoOperationRequestDTO> sameKindOperations(User user, Group group, int count) {
+      List<TodoOperationRequestDTO> operations = new ArrayList<>();
+
+      for (int i = 0; i < count; i++) {
+        Todo updateTarget =
+            entityFactory.insertTodo(
+                user.getId(),
+                null,
+                group.getId(),
+                "t",
+                "d",
+                TodoStatus.TO_DO,
+                String.format("a%02d", i),
+                null,
+                false);
+        Todo moveTarget =
+            entityFactory.insertTodo(
+                user.getId(),
+                null,
+                group.getId(),
+                "t",
+                "d",
+                TodoStatus.TO_DO,
+                String.format("b%02d", i),
+                null,
+                false);
+
+        operations.add(
+            new TodoOperationRequestDTO(
+                TodoOperationType.UPDATE,
+                updateTarget.getId(),
+                "updated",
+                null,
+                null,
+                null,
+                null,
+                null,
+                updateTarget.getVersion()));
+        operations.add(
+            new TodoOperationRequestDTO(
+                TodoOperationType.MOVE,
+                moveTarget.getId(),
+                null,
+                null,
+                null,
+                null,
+                TodoStatus.DONE,
+                String.format("m%02d", i),
+                moveTarget.getVersion()));
+        operations.add(
+            new TodoOperationRequestDTO(
+                TodoOperationType.CREATE, null, "new", "new d", null, null, null, null, null));
+      }
+
+      return operations;
+    }
+
+    @Test
+    @DisplayName("실패: 권한이 없는 작업이 있으면 앞선 작업까지 모두 되돌린다")
+    void fail_whenAnyOperationIsNotAuthorized() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User owner = trio.first();
+      Group group = trio.second();
+      User member = entityFactory.insertUser("member", "hashedPassword", "member");
+      entityFactory.insertUserGroup(member.getId(), group.getId(), GroupRole.MEMBER);
+      Todo ownersTodo =
+          entityFactory.insertTodo(
+              owner.getId(), null, group.getId(), "t", "d", TodoStatus.TO_DO, "a", null, false);
+
+      List<TodoOperationRequestDTO> operations =
+          List.of(
+              new TodoOperationRequestDTO(
+                  TodoOperationType.CREATE, null, "new", "new d", null, null, null, null, null),
+              operation(TodoOperationType.DELETE, ownersTodo.getId()));
+
+      // When
+      Runnable lambda =
+          () ->
+              todoService.applyOperations(
+                  new TodoOperationsDTO(member.getId(), group.getId(), operations));
+
+      // Then
+      Assertions.assertThrows(
+          rest.felix.back.user.exception.UserAccessDeniedException.class, lambda::run);
+      Assertions.assertEquals(1, todoService.getTodosInGroup(group.getId()).size());
+    }
+
+    @Test
+    @DisplayName("실패: 그룹에 속하지 않은 유저는 작업을 적용할 수 없다")
+    void fail_whenUserIsNotInGroup() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      Group group = trio.second();
+      User stranger = entityFactory.insertUser("stranger", "hashedPassword", "stranger");
+
+      List<TodoOperationRequestDTO> operations =
+          List.of(
+              new TodoOperationRequestDTO(
+                  TodoOperationType.CREATE, null, "new", "new d", null, null, null, null, null));
+
+      // When
+      Runnable lambda =
+          () ->
+              todoService.applyOperations(
+                  new TodoOperationsDTO(stranger.getId(), group.getId(), operations));
+
+      // Then
+      Assertions.assertThrows(
+          rest.felix.back.user.exception.UserAccessDeniedException.class, lambda::run);
+      Assertions.assertTrue(todoService.getTodosInGroup(group.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("실패: 다른 그룹의 Todo나 앞에서 삭제한 Todo를 가리키면 예외가 발생한다")
+    void fail_whenTodoIsNotInGroup() {
+      // Given
+      var trio = entityFactory.insertUserGroup();
+      User user = trio.first();
+      Group group = trio.second();
+      Group otherGroup = entityFactory.insertGroup("other group", "description");
+      Todo otherTodo =
+          entityFactory.insertTodo(
+              user.getId(), null, otherGroup.getId(), "t", "d", TodoStatus.TO_DO, "a", null, false);
+      Todo todo =
+          entityFactory.insertTodo(
+              user.getId(), null, group.getId(), "t", "d", TodoStatus.TO_DO, "a", null, false);
+
+      // When
+      Runnable otherGroupLambda =
+          () ->
+              todoService.applyOperations(
+                  new TodoOperationsDTO(
+                      user.getId(),
+                      group.getId(),
+                      List.of(operation(TodoOperationType.STAR, otherTodo.getId()))));
+      Runnable deletedLambda =
+          () ->
+              todoService.applyOperations(
+                  new TodoOperationsDTO(
+                      user.getId(),
+                      group.getId(),
+                      List.of(
+                          operation(TodoOperationType.DELETE, todo.getId()),
+                          operation(TodoOperationType.STAR, todo.getId()))));
+
+      // Then
+      Assertions.assertThrows(TodoNotFoundException.class, otherGroupLambda::run);
+      Assertions.assertThrows(TodoNotFoundException.class, deletedLambda::run);
+      Assertions.assertTrue(todoRepository.findById(group.getId(), todo.getId()).isPresent());
+    }
+  }
 }